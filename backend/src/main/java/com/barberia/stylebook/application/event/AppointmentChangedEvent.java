@@ -0,0 +1,20 @@
+package com.barberia.stylebook.application.event;
+
+/**
+ * Published inside the transaction that changes an appointment. {@code before} is null for a new
+ * appointment and {@code after} is null for a deleted one.
+ */
+public record AppointmentChangedEvent(AppointmentSnapshot before, AppointmentSnapshot after) {
+
+    public static AppointmentChangedEvent created(AppointmentSnapshot after) {
+        return new AppointmentChangedEvent(null, after);
+    }
+
+    public static AppointmentChangedEvent updated(AppointmentSnapshot before, AppointmentSnapshot after) {
+        return new AppointmentChangedEvent(before, after);
+    }
+
+    public static AppointmentChangedEvent deleted(AppointmentSnapshot before) {
+        return new AppointmentChangedEvent(before, null);
+    }
+}
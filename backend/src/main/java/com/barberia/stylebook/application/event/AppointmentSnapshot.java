@@ -0,0 +1,33 @@
+package com.barberia.stylebook.application.event;
+
+import com.barberia.stylebook.domain.entity.Appointment;
+import com.barberia.stylebook.domain.enums.AppointmentStatus;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+public record AppointmentSnapshot(
+        UUID appointmentId,
+        UUID clientId,
+        UUID serviceId,
+        OffsetDateTime appointmentAt,
+        AppointmentStatus status,
+        BigDecimal price
+) {
+
+    public static AppointmentSnapshot of(Appointment appointment) {
+        return new AppointmentSnapshot(
+                appointment.getId(),
+                appointment.getClient().getId(),
+                appointment.getService().getId(),
+                appointment.getAppointmentAt(),
+                appointment.getStatus(),
+                appointment.getPriceAtBooking()
+        );
+    }
+
+    public boolean completed() {
+        return status == AppointmentStatus.COMPLETED;
+    }
+}
@@ -0,0 +1,24 @@
+package com.barberia.stylebook.application.event;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * Published by bulk client operations that move or delete appointments without emitting one
+ * {@link AppointmentChangedEvent} per row. {@code completedDays} are the UTC days whose income changed; null
+ * means they are unknown.
+ */
+public record ClientAppointmentsChangedEvent(Set<LocalDate> completedDays) {
+
+    public static ClientAppointmentsChangedEvent incomeUnchanged() {
+        return new ClientAppointmentsChangedEvent(Set.of());
+    }
+
+    public static ClientAppointmentsChangedEvent incomeChangedOn(Set<LocalDate> completedDays) {
+        return new ClientAppointmentsChangedEvent(Set.copyOf(completedDays));
+    }
+
+    public static ClientAppointmentsChangedEvent incomeChangedOnUnknownDays() {
+        return new ClientAppointmentsChangedEvent(null);
+    }
+}
@@ -0,0 +1,8 @@
+package com.barberia.stylebook.application.event;
+
+/**
+ * Published by every write that creates, renames, merges or removes clients, including public bookings that
+ * register a new phone, so lookups cached before the write are dropped once it commits.
+ */
+public record ClientsChangedEvent() {
+}
@@ -0,0 +1,7 @@
+package com.barberia.stylebook.application.event;
+
+/**
+ * No gallery row points at {@code imageUrl} any more, so a locally stored file behind it can be removed.
+ */
+public record GalleryImageUrlReleasedEvent(String imageUrl) {
+}
@@ -0,0 +1,10 @@
+package com.barberia.stylebook.application.event;
+
+import java.time.LocalDate;
+
+/**
+ * Published inside the transaction that changes a manual income entry. {@code previousDay} is null for a new
+ * entry and {@code currentDay} is null for a deleted one.
+ */
+public record ManualIncomeChangedEvent(LocalDate previousDay, LocalDate currentDay) {
+}
@@ -0,0 +1,6 @@
+package com.barberia.stylebook.application.event;
+
+import java.util.UUID;
+
+public record ServiceCatalogChangedEvent(UUID serviceId) {
+}
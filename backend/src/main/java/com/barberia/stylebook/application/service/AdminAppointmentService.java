@@ -1,5 +1,8 @@
 package com.barberia.stylebook.application.service;
 
+import com.barberia.stylebook.application.event.AppointmentChangedEvent;
+import com.barberia.stylebook.application.event.AppointmentSnapshot;
+import com.barberia.stylebook.application.event.ClientsChangedEvent;
 import com.barberia.stylebook.application.exception.BusinessRuleException;
 import com.barberia.stylebook.application.exception.NotFoundException;
 import com.barberia.stylebook.domain.entity.Appointment;
@@ -12,6 +15,7 @@ import com.barberia.stylebook.repository.ServiceCatalogRepository;
 import com.barberia.stylebook.web.dto.AdminAppointmentUpsertRequest;
 import com.barberia.stylebook.web.dto.AppointmentResponse;
 import com.barberia.stylebook.web.dto.StalePendingAppointmentResponse;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -34,15 +38,18 @@ public class AdminAppointmentService {
     private final AppointmentRepository appointmentRepository;
     private final ServiceCatalogRepository serviceCatalogRepository;
     private final ClientRepository clientRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public AdminAppointmentService(
             AppointmentRepository appointmentRepository,
             ServiceCatalogRepository serviceCatalogRepository,
-            ClientRepository clientRepository
+            ClientRepository clientRepository,
+            ApplicationEventPublisher eventPublisher
     ) {
         this.appointmentRepository = appointmentRepository;
         this.serviceCatalogRepository = serviceCatalogRepository;
         this.clientRepository = clientRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional(readOnly = true)
@@ -108,7 +115,7 @@ public class AdminAppointmentService {
                         appointment.getId(),
                         appointment.getClient().getName(),
                         appointment.getClient().getPhone(),
-                        appointment.getService().getName(),
+                        appointment.getServiceName(),
                         appointment.getAppointmentAt(),
                         appointment.getCreatedAt(),
                         Math.max(0, Duration.between(appointment.getCreatedAt(), now).toMinutes())
@@ -129,8 +136,11 @@ public class AdminAppointmentService {
         )) {
             throw new BusinessRuleException("Ya existe un turno para ese servicio en esa fecha/hora");
         }
+        AppointmentSnapshot before = AppointmentSnapshot.of(appointment);
         appointment.setStatus(targetStatus);
-        return AppointmentMapper.toResponse(appointmentRepository.save(appointment));
+        Appointment saved = appointmentRepository.save(appointment);
+        eventPublisher.publishEvent(AppointmentChangedEvent.updated(before, AppointmentSnapshot.of(saved)));
+        return AppointmentMapper.toResponse(saved);
     }
 
     @Transactional
@@ -177,20 +187,26 @@ public class AdminAppointmentService {
                     return created;
                 });
 
+        AppointmentSnapshot before = AppointmentSnapshot.of(appointment);
         Client persistedClient = clientRepository.save(client);
+        eventPublisher.publishEvent(new ClientsChangedEvent());
         appointment.setClient(persistedClient);
         appointment.setService(service);
         appointment.setAppointmentAt(appointmentAt);
         appointment.setNotes(normalizedNotes);
 
-        return AppointmentMapper.toResponse(appointmentRepository.save(appointment));
+        Appointment saved = appointmentRepository.save(appointment);
+        eventPublisher.publishEvent(AppointmentChangedEvent.updated(before, AppointmentSnapshot.of(saved)));
+        return AppointmentMapper.toResponse(saved);
     }
 
     @Transactional
     public void delete(UUID appointmentId) {
         Appointment appointment = appointmentRepository.findById(appointmentId)
                 .orElseThrow(() -> new NotFoundException("Turno no encontrado"));
+        AppointmentSnapshot before = AppointmentSnapshot.of(appointment);
         appointmentRepository.delete(appointment);
+        eventPublisher.publishEvent(AppointmentChangedEvent.deleted(before));
     }
 
     private boolean occupiesSlot(AppointmentStatus status) {
@@ -1,5 +1,7 @@
 package com.barberia.stylebook.application.service;
 
+import com.barberia.stylebook.application.event.ClientAppointmentsChangedEvent;
+import com.barberia.stylebook.application.event.ClientsChangedEvent;
 import com.barberia.stylebook.application.exception.BusinessRuleException;
 import com.barberia.stylebook.application.exception.NotFoundException;
 import com.barberia.stylebook.domain.entity.Client;
@@ -7,14 +9,21 @@ import com.barberia.stylebook.domain.enums.AppointmentStatus;
 import com.barberia.stylebook.repository.AppointmentRepository;
 import com.barberia.stylebook.repository.ClientRepository;
 import com.barberia.stylebook.web.dto.AdminClientUpsertRequest;
+import com.barberia.stylebook.web.dto.BatchMergeClientsResponse;
 import com.barberia.stylebook.web.dto.ClientSummaryResponse;
+import com.barberia.stylebook.web.dto.MergeClientsRequest;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -26,13 +35,28 @@ public class AdminClientService {
 
     private final ClientRepository clientRepository;
     private final AppointmentRepository appointmentRepository;
+    private final ClientRfmService clientRfmService;
+    private final OverviewCounterService overviewCounterService;
+    private final DailyIncomeRollupService dailyIncomeRollupService;
+    private final ServicePopularityService servicePopularityService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public AdminClientService(
             ClientRepository clientRepository,
-            AppointmentRepository appointmentRepository
+            AppointmentRepository appointmentRepository,
+            ClientRfmService clientRfmService,
+            OverviewCounterService overviewCounterService,
+            DailyIncomeRollupService dailyIncomeRollupService,
+            ServicePopularityService servicePopularityService,
+            ApplicationEventPublisher eventPublisher
     ) {
         this.clientRepository = clientRepository;
         this.appointmentRepository = appointmentRepository;
+        this.clientRfmService = clientRfmService;
+        this.overviewCounterService = overviewCounterService;
+        this.dailyIncomeRollupService = dailyIncomeRollupService;
+        this.servicePopularityService = servicePopularityService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional(readOnly = true)
@@ -89,6 +113,7 @@ public class AdminClientService {
         client.setPhone(normalizedPhone);
         client.setPhoneNormalized(phoneNormalized);
         Client savedClient = clientRepository.save(client);
+        eventPublisher.publishEvent(new ClientsChangedEvent());
 
         AppointmentRepository.ClientCompletedStatsProjection stats = appointmentRepository
                 .findCompletedStatsByClientIds(AppointmentStatus.COMPLETED, List.of(savedClient.getId()))
@@ -103,8 +128,13 @@ public class AdminClientService {
         Client client = clientRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Cliente no encontrado"));
 
-        appointmentRepository.deleteAllByClientId(id);
+        overviewCounterService.removeClientAppointments(List.of(id));
+        dailyIncomeRollupService.removeClientAppointments(List.of(id));
+        servicePopularityService.removeClientAppointments(List.of(id));
+        appointmentRepository.deleteAllByClientIdInBulk(id);
         clientRepository.delete(client);
+        eventPublisher.publishEvent(new ClientsChangedEvent());
+        eventPublisher.publishEvent(ClientAppointmentsChangedEvent.incomeChangedOnUnknownDays());
     }
 
     @Transactional
@@ -118,8 +148,12 @@ public class AdminClientService {
         Client target = clientRepository.findById(targetClientId)
                 .orElseThrow(() -> new NotFoundException("Cliente destino no encontrado"));
 
+        overviewCounterService.prepareMerge(Map.of(source.getId(), target.getId()));
         appointmentRepository.reassignClient(source.getId(), target.getId());
         clientRepository.delete(source);
+        clientRfmService.recompute(List.of(target.getId()));
+        eventPublisher.publishEvent(new ClientsChangedEvent());
+        eventPublisher.publishEvent(ClientAppointmentsChangedEvent.incomeUnchanged());
 
         AppointmentRepository.ClientCompletedStatsProjection stats = appointmentRepository
                 .findCompletedStatsByClientIds(AppointmentStatus.COMPLETED, List.of(target.getId()))
@@ -129,6 +163,51 @@ public class AdminClientService {
         return toSummary(target, stats);
     }
 
+    @Transactional
+    public BatchMergeClientsResponse mergeBatch(List<MergeClientsRequest> merges) {
+        Map<UUID, UUID> targetBySource = new LinkedHashMap<>();
+        for (MergeClientsRequest merge : merges) {
+            if (merge.sourceClientId().equals(merge.targetClientId())) {
+                throw new BusinessRuleException("Selecciona dos clientes distintos para fusionar");
+            }
+            if (targetBySource.putIfAbsent(merge.sourceClientId(), merge.targetClientId()) != null) {
+                throw new BusinessRuleException("Un cliente origen no puede fusionarse en mas de un destino");
+            }
+        }
+        Set<UUID> targetIds = new LinkedHashSet<>(targetBySource.values());
+        if (targetIds.stream().anyMatch(targetBySource::containsKey)) {
+            throw new BusinessRuleException("Un cliente no puede ser origen y destino en la misma fusion");
+        }
+
+        Set<UUID> allIds = new HashSet<>(targetBySource.keySet());
+        allIds.addAll(targetIds);
+        Map<UUID, Client> clientsById = clientRepository.findAllById(allIds).stream()
+                .collect(Collectors.toMap(Client::getId, Function.identity()));
+        if (clientsById.size() != allIds.size()) {
+            throw new NotFoundException("Uno o mas clientes a fusionar no existen");
+        }
+
+        List<UUID> sourceIds = List.copyOf(targetBySource.keySet());
+        overviewCounterService.prepareMerge(targetBySource);
+        int reassigned = appointmentRepository.reassignClients(sourceIds, List.copyOf(targetBySource.values()));
+        clientRepository.deleteAllByIdInBatch(sourceIds);
+        clientRfmService.recompute(targetIds);
+        eventPublisher.publishEvent(new ClientsChangedEvent());
+        eventPublisher.publishEvent(ClientAppointmentsChangedEvent.incomeUnchanged());
+
+        Map<UUID, AppointmentRepository.ClientCompletedStatsProjection> completedStatsByClientId = appointmentRepository
+                .findCompletedStatsByClientIds(AppointmentStatus.COMPLETED, targetIds)
+                .stream()
+                .collect(Collectors.toMap(
+                        AppointmentRepository.ClientCompletedStatsProjection::getClientId,
+                        Function.identity()
+                ));
+        List<ClientSummaryResponse> targets = targetIds.stream()
+                .map(id -> toSummary(clientsById.get(id), completedStatsByClientId.get(id)))
+                .toList();
+        return new BatchMergeClientsResponse(sourceIds.size(), reassigned, targets);
+    }
+
     private ClientSummaryResponse toSummary(
             Client client,
             AppointmentRepository.ClientCompletedStatsProjection completedStats
@@ -0,0 +1,190 @@
+package com.barberia.stylebook.application.service;
+
+import com.barberia.stylebook.application.event.AppointmentChangedEvent;
+import com.barberia.stylebook.application.event.AppointmentSnapshot;
+import com.barberia.stylebook.application.event.ClientAppointmentsChangedEvent;
+import com.barberia.stylebook.application.event.ManualIncomeChangedEvent;
+import com.barberia.stylebook.application.event.ServiceCatalogChangedEvent;
+import com.barberia.stylebook.web.dto.CacheStatsResponse;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Evicts cached admin metrics after the write that made them stale has committed; evicting earlier would let a
+ * reader cache the pre-commit value again. Monthly income is keyed by {@link YearMonth} and only touched months go.
+ */
+@Service
+public class AdminMetricsCacheService {
+    static final String OVERVIEW_CACHE = "adminOverview";
+    static final String MONTHLY_INCOME_CACHE = "adminMonthlyIncome";
+    static final String RETENTION_COHORT_CACHE = "adminRetentionCohorts";
+    static final String UTILIZATION_CACHE = "adminUtilizationWeeks";
+
+    private static final String SECOND_LEVEL_PREFIX = "hibernate:";
+
+    private final CacheManager cacheManager;
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+
+    public AdminMetricsCacheService(CacheManager cacheManager, ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        this.cacheManager = cacheManager;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAppointmentChanged(AppointmentChangedEvent event) {
+        clear(OVERVIEW_CACHE);
+        evictMonths(Stream.of(event.before(), event.after())
+                .filter(Objects::nonNull)
+                .filter(AppointmentSnapshot::completed)
+                .map(snapshot -> snapshot.appointmentAt()
+                        .atZoneSameInstant(DailyIncomeRollupService.ROLLUP_ZONE)
+                        .toLocalDate())
+                .toList());
+        evictRetentionCohorts(event);
+        evictUtilizationWeeks(event);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onManualIncomeChanged(ManualIncomeChangedEvent event) {
+        evictMonths(Stream.of(event.previousDay(), event.currentDay()).filter(Objects::nonNull).toList());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onServiceCatalogChanged(ServiceCatalogChangedEvent event) {
+        clear(OVERVIEW_CACHE);
+        clear(MONTHLY_INCOME_CACHE);
+        clear(UTILIZATION_CACHE);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onClientAppointmentsChanged(ClientAppointmentsChangedEvent event) {
+        clear(OVERVIEW_CACHE);
+        // Merges move visits between clients without changing income, which still reshapes cohorts.
+        clear(RETENTION_COHORT_CACHE);
+        clear(UTILIZATION_CACHE);
+        if (event.completedDays() == null) {
+            clear(MONTHLY_INCOME_CACHE);
+        } else {
+            evictMonths(event.completedDays());
+        }
+    }
+
+    public List<CacheStatsResponse> stats() {
+        return Stream.concat(springCacheStats(), secondLevelCacheStats()).toList();
+    }
+
+    private Stream<CacheStatsResponse> springCacheStats() {
+        return cacheManager.getCacheNames().stream()
+                .sorted()
+                .map(cacheManager::getCache)
+                .filter(CaffeineCache.class::isInstance)
+                .map(CaffeineCache.class::cast)
+                .map(cache -> {
+                    CacheStats stats = cache.getNativeCache().stats();
+                    return new CacheStatsResponse(
+                            cache.getName(),
+                            cache.getNativeCache().estimatedSize(),
+                            stats.hitCount(),
+                            stats.missCount(),
+                            stats.hitRate(),
+                            stats.evictionCount()
+                    );
+                });
+    }
+
+    // Hibernate only counts region hits and misses with hibernate.generate_statistics on; it has no eviction count.
+    private Stream<CacheStatsResponse> secondLevelCacheStats() {
+        EntityManagerFactory factory = entityManagerFactory.getIfAvailable();
+        if (factory == null) {
+            return Stream.empty();
+        }
+        Statistics statistics = factory.unwrap(SessionFactory.class).getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            return Stream.empty();
+        }
+        return Stream.of(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(statistics::getCacheRegionStatistics)
+                .filter(Objects::nonNull)
+                .map(region -> {
+                    long requests = region.getHitCount() + region.getMissCount();
+                    return new CacheStatsResponse(
+                            SECOND_LEVEL_PREFIX + region.getRegionName(),
+                            Math.max(0, region.getElementCountInMemory()),
+                            region.getHitCount(),
+                            region.getMissCount(),
+                            requests == 0 ? 0 : (double) region.getHitCount() / requests,
+                            0
+                    );
+                });
+    }
+
+    private void evictMonths(Collection<LocalDate> days) {
+        Cache cache = cacheManager.getCache(MONTHLY_INCOME_CACHE);
+        if (cache == null || days.isEmpty()) {
+            return;
+        }
+        Set<YearMonth> months = new HashSet<>();
+        days.forEach(day -> months.add(YearMonth.from(day)));
+        months.forEach(cache::evict);
+    }
+
+    /**
+     * Any change to a completed visit can move its client between cohorts arbitrarily far apart: losing the first
+     * visit promotes the next one, a back-dated visit takes the client out of a later cohort. Cohorts are cheap to
+     * rebuild and such changes are rare, so the whole cache goes.
+     */
+    private void evictRetentionCohorts(AppointmentChangedEvent event) {
+        AppointmentSnapshot before = event.before();
+        AppointmentSnapshot after = event.after();
+        boolean beforeCompleted = before != null && before.completed();
+        boolean afterCompleted = after != null && after.completed();
+        if (!beforeCompleted && !afterCompleted) {
+            return;
+        }
+        if (beforeCompleted && afterCompleted && before.clientId().equals(after.clientId())
+                && before.appointmentAt().isEqual(after.appointmentAt())) {
+            return;
+        }
+        clear(RETENTION_COHORT_CACHE);
+    }
+
+    // Weeks are keyed by their Monday in the business calendar, which is at most a day away from the UTC date.
+    private void evictUtilizationWeeks(AppointmentChangedEvent event) {
+        Cache cache = cacheManager.getCache(UTILIZATION_CACHE);
+        if (cache == null) {
+            return;
+        }
+        Stream.of(event.before(), event.after())
+                .filter(Objects::nonNull)
+                .map(snapshot -> snapshot.appointmentAt().atZoneSameInstant(DailyIncomeRollupService.ROLLUP_ZONE).toLocalDate())
+                .flatMap(day -> Stream.of(day.minusDays(1), day, day.plusDays(1)))
+                .map(ChairUtilizationService::weekStart)
+                .distinct()
+                .forEach(cache::evict);
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
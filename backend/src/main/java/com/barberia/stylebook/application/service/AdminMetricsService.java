@@ -1,182 +1,285 @@
 package com.barberia.stylebook.application.service;
 
+import com.barberia.stylebook.application.exception.BusinessRuleException;
 import com.barberia.stylebook.domain.entity.ManualIncomeEntry;
-import com.barberia.stylebook.domain.enums.AppointmentStatus;
+import com.barberia.stylebook.domain.enums.IncomeGranularity;
 import com.barberia.stylebook.repository.AppointmentRepository;
+import com.barberia.stylebook.repository.DailyIncomeRollupRepository;
 import com.barberia.stylebook.repository.ManualIncomeEntryRepository;
 import com.barberia.stylebook.web.dto.IncomeBreakdownItem;
 import com.barberia.stylebook.web.dto.IncomeMetricsResponse;
+import com.barberia.stylebook.web.dto.IncomeSeriesPoint;
+import com.barberia.stylebook.web.dto.IncomeSeriesResponse;
 import com.barberia.stylebook.web.dto.ManualIncomeEntryResponse;
 import com.barberia.stylebook.web.dto.OverviewMetricsResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.time.OffsetDateTime;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.time.YearMonth;
-import java.time.ZoneOffset;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 @Service
 public class AdminMetricsService {
+    private static final int MAX_RANGE_DAYS = 366;
+    private static final int MAX_SERIES_POINTS = 400;
+    private static final LocalDate ALL_TIME_FROM = LocalDate.of(1, 1, 1);
+    private static final LocalDate ALL_TIME_TO = LocalDate.of(9999, 12, 31);
 
     private final AppointmentRepository appointmentRepository;
     private final ManualIncomeEntryRepository manualIncomeEntryRepository;
+    private final DailyIncomeRollupRepository dailyIncomeRollupRepository;
+    private final OverviewCounterService overviewCounterService;
+    private final AppointmentColumnStore appointmentColumnStore;
+    private final ZoneId businessZone;
 
     public AdminMetricsService(
             AppointmentRepository appointmentRepository,
-            ManualIncomeEntryRepository manualIncomeEntryRepository
+            ManualIncomeEntryRepository manualIncomeEntryRepository,
+            DailyIncomeRollupRepository dailyIncomeRollupRepository,
+            OverviewCounterService overviewCounterService,
+            AppointmentColumnStore appointmentColumnStore,
+            @Value("${app.business.timezone:America/Argentina/Buenos_Aires}") String businessTimezone
     ) {
         this.appointmentRepository = appointmentRepository;
         this.manualIncomeEntryRepository = manualIncomeEntryRepository;
+        this.dailyIncomeRollupRepository = dailyIncomeRollupRepository;
+        this.overviewCounterService = overviewCounterService;
+        this.appointmentColumnStore = appointmentColumnStore;
+        this.businessZone = ZoneId.of(businessTimezone);
     }
 
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = "adminOverview")
     public OverviewMetricsResponse overview() {
-        String popularService = appointmentRepository.findServiceUsageOrderedDesc().stream()
-                .findFirst()
-                .map(AppointmentRepository.ServiceUsageProjection::getServiceName)
-                .orElse("-");
-
-        return new OverviewMetricsResponse(
-                appointmentRepository.count(),
-                appointmentRepository.countByStatus(AppointmentStatus.PENDING),
-                appointmentRepository.countByStatus(AppointmentStatus.COMPLETED),
-                appointmentRepository.countDistinctClientPhones(),
-                popularService
-        );
+        return overviewCounterService.overview();
     }
 
+    /**
+     * All-time totals and breakdown. Manual entries are not listed here; they are paged through the ledger.
+     */
     @Transactional(readOnly = true)
     public IncomeMetricsResponse income() {
         YearMonth currentMonth = YearMonth.now();
-        OffsetDateTime monthFrom = currentMonth.atDay(1).atStartOfDay().atOffset(ZoneOffset.UTC);
-        OffsetDateTime monthTo = currentMonth.plusMonths(1).atDay(1).atStartOfDay().atOffset(ZoneOffset.UTC);
-        List<ManualIncomeEntry> manualEntries = manualIncomeEntryRepository.findAllByOrderByOccurredOnDescCreatedAtDesc();
+        BigDecimal monthlyIncome = dailyIncomeRollupRepository
+                .sumIncome(currentMonth.atDay(1), currentMonth.plusMonths(1).atDay(1));
+        return aggregateIncome(ALL_TIME_FROM, ALL_TIME_TO, monthlyIncome, List.of());
+    }
 
-        BigDecimal registeredIncome = appointmentRepository.sumServicePriceByStatus(AppointmentStatus.COMPLETED);
-        BigDecimal monthlyRegisteredIncome = appointmentRepository
-                .sumServicePriceByStatusAndAppointmentAtBetween(AppointmentStatus.COMPLETED, monthFrom, monthTo);
-        BigDecimal manualIncome = manualIncomeEntryRepository.sumAmount();
-        BigDecimal totalTips = manualIncomeEntryRepository.sumTipAmount();
-        BigDecimal monthlyManualIncome = manualIncomeEntryRepository
-                .sumAmountAndTipByOccurredOnBetween(currentMonth.atDay(1), currentMonth.plusMonths(1).atDay(1));
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = "adminMonthlyIncome", key = "#month", condition = "#month != null")
+    public IncomeMetricsResponse income(YearMonth month) {
+        YearMonth selectedMonth = month == null ? YearMonth.now() : month;
+        return incomeBetween(selectedMonth.atDay(1), selectedMonth.plusMonths(1).atDay(1));
+    }
 
-        BigDecimal totalIncome = registeredIncome.add(manualIncome).add(totalTips);
-        BigDecimal monthlyIncome = monthlyRegisteredIncome.add(monthlyManualIncome);
+    @Transactional(readOnly = true)
+    public IncomeMetricsResponse income(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new BusinessRuleException("La fecha final debe ser igual o posterior a la inicial");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new BusinessRuleException("El rango no puede superar " + MAX_RANGE_DAYS + " dias");
+        }
+        return incomeBetween(from, to.plusDays(1));
+    }
 
-        Map<String, IncomeAccumulator> byService = new LinkedHashMap<>();
-        appointmentRepository.findCompletedIncomeByService(AppointmentStatus.COMPLETED)
-                .forEach(serviceIncome -> byService.computeIfAbsent(
-                                serviceIncome.getServiceName(),
-                                ignored -> new IncomeAccumulator()
-                        )
-                        .add(serviceIncome.getUsageCount(), serviceIncome.getTotal()));
-        manualEntries.forEach(entry -> byService.computeIfAbsent("Ingresos manuales", name -> new IncomeAccumulator())
-                .add(entry.getAmount()));
-        manualEntries.stream()
-                .filter(entry -> entry.getTipAmount().compareTo(BigDecimal.ZERO) > 0)
-                .forEach(entry -> byService.computeIfAbsent("Propinas", name -> new IncomeAccumulator())
-                        .add(entry.getTipAmount()));
+    /**
+     * Income per day, week (starting Monday) or month of the business calendar, with empty periods filled in.
+     */
+    @Transactional(readOnly = true)
+    public IncomeSeriesResponse incomeSeries(LocalDate from, LocalDate to, IncomeGranularity granularity) {
+        if (to.isBefore(from)) {
+            throw new BusinessRuleException("La fecha final debe ser igual o posterior a la inicial");
+        }
+        if (periodCount(from, to, granularity) > MAX_SERIES_POINTS) {
+            throw new BusinessRuleException("El rango supera " + MAX_SERIES_POINTS + " periodos; usa una agrupacion mayor");
+        }
 
-        List<IncomeBreakdownItem> breakdown = byService.entrySet().stream()
-                .map(e -> new IncomeBreakdownItem(e.getKey(), e.getValue().count, e.getValue().total))
-                .sorted(Comparator.comparing(IncomeBreakdownItem::total).reversed())
+        List<LocalDate> periodStarts = periodStarts(from, to, granularity);
+        long[] boundaries = new long[periodStarts.size() + 1];
+        boundaries[0] = epochMinute(from);
+        for (int i = 1; i < periodStarts.size(); i++) {
+            boundaries[i] = epochMinute(periodStarts.get(i));
+        }
+        boundaries[periodStarts.size()] = epochMinute(to.plusDays(1));
+
+        List<IncomeSeriesPoint> points = appointmentColumnStore.completedByPeriod(boundaries)
+                .map(totals -> seriesFromColumnStore(periodStarts, totals, from, to, granularity))
+                .orElseGet(() -> seriesFromDatabase(from, to, granularity));
+        return new IncomeSeriesResponse(granularity, from, to, businessZone.getId(), points);
+    }
+
+    private List<IncomeSeriesPoint> seriesFromColumnStore(
+            List<LocalDate> periodStarts,
+            AppointmentColumnStore.PeriodTotals totals,
+            LocalDate from,
+            LocalDate to,
+            IncomeGranularity granularity
+    ) {
+        Map<LocalDate, long[]> manualCentsByPeriod = new HashMap<>();
+        dailyIncomeRollupRepository.findManualIncomeByDay(from, to.plusDays(1))
+                .forEach(day -> {
+                    long[] cents = manualCentsByPeriod.computeIfAbsent(periodStart(day.getDay(), granularity), ignored -> new long[2]);
+                    cents[0] += Money.toCents(day.getAmount());
+                    cents[1] += Money.toCents(day.getTipAmount());
+                });
+
+        long[] noManualIncome = new long[2];
+        List<IncomeSeriesPoint> points = new ArrayList<>(periodStarts.size());
+        for (int i = 0; i < periodStarts.size(); i++) {
+            LocalDate start = periodStarts.get(i);
+            long registeredCents = totals.incomeCents()[i];
+            long[] manualCents = manualCentsByPeriod.getOrDefault(start, noManualIncome);
+            points.add(new IncomeSeriesPoint(
+                    start,
+                    totals.completedCounts()[i],
+                    Money.toBigDecimal(registeredCents),
+                    Money.toBigDecimal(manualCents[0]),
+                    Money.toBigDecimal(manualCents[1]),
+                    Money.toBigDecimal(registeredCents + manualCents[0] + manualCents[1])
+            ));
+        }
+        return points;
+    }
+
+    private List<IncomeSeriesPoint> seriesFromDatabase(LocalDate from, LocalDate to, IncomeGranularity granularity) {
+        return appointmentRepository.findIncomeSeries(
+                        granularity.name().toLowerCase(Locale.ROOT),
+                        businessZone.getId(),
+                        from,
+                        to,
+                        from.atStartOfDay(businessZone).toOffsetDateTime(),
+                        to.plusDays(1).atStartOfDay(businessZone).toOffsetDateTime()
+                )
+                .stream()
+                .map(row -> new IncomeSeriesPoint(
+                        row.getPeriodStart(),
+                        row.getCompletedAppointments(),
+                        row.getRegisteredIncome(),
+                        row.getManualIncome(),
+                        row.getTips(),
+                        row.getRegisteredIncome().add(row.getManualIncome()).add(row.getTips())
+                ))
                 .toList();
-        List<ManualIncomeEntryResponse> manualEntryResponses = manualEntries.stream()
+    }
+
+    private long epochMinute(LocalDate day) {
+        return Math.floorDiv(day.atStartOfDay(businessZone).toEpochSecond(), 60);
+    }
+
+    private static List<LocalDate> periodStarts(LocalDate from, LocalDate to, IncomeGranularity granularity) {
+        List<LocalDate> starts = new ArrayList<>();
+        for (LocalDate start = periodStart(from, granularity); !start.isAfter(to); start = nextPeriod(start, granularity)) {
+            starts.add(start);
+        }
+        return starts;
+    }
+
+    private static LocalDate periodStart(LocalDate day, IncomeGranularity granularity) {
+        return switch (granularity) {
+            case DAY -> day;
+            case WEEK -> day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> day.withDayOfMonth(1);
+        };
+    }
+
+    private static LocalDate nextPeriod(LocalDate start, IncomeGranularity granularity) {
+        return switch (granularity) {
+            case DAY -> start.plusDays(1);
+            case WEEK -> start.plusWeeks(1);
+            case MONTH -> start.plusMonths(1);
+        };
+    }
+
+    private static long periodCount(LocalDate from, LocalDate to, IncomeGranularity granularity) {
+        return switch (granularity) {
+            case DAY -> ChronoUnit.DAYS.between(from, to) + 1;
+            case WEEK -> ChronoUnit.WEEKS.between(
+                    from.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)),
+                    to.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+            ) + 1;
+            case MONTH -> ChronoUnit.MONTHS.between(YearMonth.from(from), YearMonth.from(to)) + 1;
+        };
+    }
+
+    private IncomeMetricsResponse incomeBetween(LocalDate from, LocalDate to) {
+        List<ManualIncomeEntryResponse> manualEntries = manualIncomeEntryRepository
+                .findAllByOccurredOnGreaterThanEqualAndOccurredOnLessThanOrderByOccurredOnDescCreatedAtDesc(from, to)
+                .stream()
                 .map(this::toManualEntryResponse)
                 .toList();
-
-        return new IncomeMetricsResponse(
-                registeredIncome,
-                manualIncome,
-                totalTips,
-                totalIncome,
-                monthlyIncome,
-                breakdown,
-                manualEntryResponses
-        );
+        return aggregateIncome(from, to, null, manualEntries);
     }
 
-    @Transactional(readOnly = true)
-    public IncomeMetricsResponse income(YearMonth month) {
-        YearMonth selectedMonth = month == null ? YearMonth.now() : month;
-        OffsetDateTime monthFrom = selectedMonth.atDay(1).atStartOfDay().atOffset(ZoneOffset.UTC);
-        OffsetDateTime monthTo = selectedMonth.plusMonths(1).atDay(1).atStartOfDay().atOffset(ZoneOffset.UTC);
-        List<ManualIncomeEntry> manualEntries = manualIncomeEntryRepository
-                .findAllByOccurredOnGreaterThanEqualAndOccurredOnLessThanOrderByOccurredOnDescCreatedAtDesc(
-                        selectedMonth.atDay(1),
-                        selectedMonth.plusMonths(1).atDay(1)
-                );
-
-        BigDecimal registeredIncome = appointmentRepository
-                .sumServicePriceByStatusAndAppointmentAtBetween(AppointmentStatus.COMPLETED, monthFrom, monthTo);
-
-        BigDecimal monthlyRegisteredIncome = registeredIncome;
-        BigDecimal manualIncome = manualEntries.stream()
-                .map(ManualIncomeEntry::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        BigDecimal totalTips = manualEntries.stream()
-                .map(ManualIncomeEntry::getTipAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        BigDecimal monthlyManualIncome = manualIncomeEntryRepository
-                .sumAmountAndTipByOccurredOnBetween(selectedMonth.atDay(1), selectedMonth.plusMonths(1).atDay(1));
-
-        BigDecimal totalIncome = registeredIncome.add(manualIncome).add(totalTips);
-        BigDecimal monthlyIncome = monthlyRegisteredIncome.add(monthlyManualIncome);
+    private IncomeMetricsResponse aggregateIncome(
+            LocalDate from,
+            LocalDate to,
+            BigDecimal monthlyIncome,
+            List<ManualIncomeEntryResponse> manualEntries
+    ) {
+        List<DailyIncomeRollupRepository.ServiceIncomeProjection> serviceIncome = dailyIncomeRollupRepository
+                .findServiceIncome(from, to);
+        DailyIncomeRollupRepository.ManualIncomeTotalsProjection manualTotals = dailyIncomeRollupRepository
+                .findManualIncome(from, to);
 
+        long registeredCents = 0;
         Map<String, IncomeAccumulator> byService = new LinkedHashMap<>();
-        appointmentRepository.findCompletedIncomeByServiceAndAppointmentAtBetween(
-                        AppointmentStatus.COMPLETED,
-                        monthFrom,
-                        monthTo
-                )
-                .forEach(serviceIncome -> byService.computeIfAbsent(
-                                serviceIncome.getServiceName(),
-                                ignored -> new IncomeAccumulator()
-                        )
-                        .add(serviceIncome.getUsageCount(), serviceIncome.getTotal()));
-        manualEntries.forEach(entry -> byService.computeIfAbsent("Ingresos manuales", name -> new IncomeAccumulator())
-                .add(entry.getAmount()));
-        manualEntries.stream()
-                .filter(entry -> entry.getTipAmount().compareTo(BigDecimal.ZERO) > 0)
-                .forEach(entry -> byService.computeIfAbsent("Propinas", name -> new IncomeAccumulator())
-                        .add(entry.getTipAmount()));
+        for (DailyIncomeRollupRepository.ServiceIncomeProjection income : serviceIncome) {
+            long cents = Money.toCents(income.getTotal());
+            registeredCents = Math.addExact(registeredCents, cents);
+            byService.computeIfAbsent(income.getServiceName(), ignored -> new IncomeAccumulator())
+                    .add(income.getUsageCount(), cents);
+        }
+        long manualCents = Money.toCents(manualTotals.getAmount());
+        long tipCents = Money.toCents(manualTotals.getTipAmount());
+        long totalCents = Math.addExact(Math.addExact(registeredCents, manualCents), tipCents);
+        if (manualTotals.getEntryCount() > 0) {
+            byService.computeIfAbsent("Ingresos manuales", name -> new IncomeAccumulator())
+                    .add(manualTotals.getEntryCount(), manualCents);
+        }
+        if (manualTotals.getTipCount() > 0) {
+            byService.computeIfAbsent("Propinas", name -> new IncomeAccumulator())
+                    .add(manualTotals.getTipCount(), tipCents);
+        }
 
         List<IncomeBreakdownItem> breakdown = byService.entrySet().stream()
-                .map(e -> new IncomeBreakdownItem(e.getKey(), e.getValue().count, e.getValue().total))
-                .sorted(Comparator.comparing(IncomeBreakdownItem::total).reversed())
-                .toList();
-        List<ManualIncomeEntryResponse> manualEntryResponses = manualEntries.stream()
-                .map(this::toManualEntryResponse)
+                .sorted(Comparator.comparingLong((Map.Entry<String, IncomeAccumulator> e) -> e.getValue().cents).reversed())
+                .map(e -> new IncomeBreakdownItem(e.getKey(), e.getValue().count, Money.toBigDecimal(e.getValue().cents)))
                 .toList();
 
+        BigDecimal totalIncome = Money.toBigDecimal(totalCents);
         return new IncomeMetricsResponse(
-                registeredIncome,
-                manualIncome,
-                totalTips,
+                Money.toBigDecimal(registeredCents),
+                Money.toBigDecimal(manualCents),
+                Money.toBigDecimal(tipCents),
                 totalIncome,
-                monthlyIncome,
+                monthlyIncome == null ? totalIncome : monthlyIncome,
                 breakdown,
-                manualEntryResponses
+                manualEntries
         );
     }
 
     private static class IncomeAccumulator {
         private long count = 0;
-        private BigDecimal total = BigDecimal.ZERO;
-
-        private void add(BigDecimal price) {
-            this.count++;
-            this.total = this.total.add(price);
-        }
+        private long cents = 0;
 
-        private void add(long count, BigDecimal total) {
+        private void add(long count, long cents) {
             this.count += count;
-            this.total = this.total.add(total);
+            this.cents = Math.addExact(this.cents, cents);
         }
     }
 
@@ -0,0 +1,278 @@
+package com.barberia.stylebook.application.service;
+
+import com.barberia.stylebook.application.event.AppointmentChangedEvent;
+import com.barberia.stylebook.application.event.AppointmentSnapshot;
+import com.barberia.stylebook.application.event.ClientAppointmentsChangedEvent;
+import com.barberia.stylebook.domain.enums.AppointmentStatus;
+import com.barberia.stylebook.repository.AppointmentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+/**
+ * In-memory copy of the appointment facts that analytics need, one primitive array per column, so aggregates are
+ * parallel array scans instead of {@code GROUP BY} queries. Loaded at startup, kept current from committed
+ * appointment events and fully reloaded on a fixed delay; bulk client operations mark it stale until the next
+ * reload, and callers fall back to SQL while it is not ready.
+ */
+@Service
+public class AppointmentColumnStore {
+    private static final Logger log = LoggerFactory.getLogger(AppointmentColumnStore.class);
+    private static final byte DELETED = -1;
+    private static final int SCAN_CHUNK_ROWS = 1 << 16;
+    private static final int LOAD_FETCH_SIZE = 5_000;
+
+    private final AppointmentRepository appointmentRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicLong staleGeneration = new AtomicLong();
+    private Columns columns = new Columns();
+    private List<AppointmentSnapshot> changesDuringReload;
+    private volatile boolean ready;
+
+    public AppointmentColumnStore(
+            AppointmentRepository appointmentRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.analytics.column-store.enabled:false}") boolean enabled
+    ) {
+        this.appointmentRepository = appointmentRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload();
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.analytics.column-store.reload-interval-ms:600000}",
+            fixedDelayString = "${app.analytics.column-store.reload-interval-ms:600000}"
+    )
+    public void reload() {
+        if (!enabled) {
+            return;
+        }
+        long generation = staleGeneration.get();
+        lock.writeLock().lock();
+        try {
+            changesDuringReload = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Columns loaded = new Columns();
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> appointmentRepository.streamAnalyticsRows(
+                    LOAD_FETCH_SIZE,
+                    row -> loaded.upsert(row.id(), row.clientId(), row.serviceId(), row.appointmentAt(), row.status(), row.price())
+            ));
+        } catch (RuntimeException ex) {
+            lock.writeLock().lock();
+            try {
+                changesDuringReload = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw ex;
+        }
+
+        lock.writeLock().lock();
+        try {
+            // Changes committed while the rows were streaming may be missing from the snapshot; upserts are
+            // idempotent, so replaying them is safe either way.
+            changesDuringReload.forEach(loaded::apply);
+            changesDuringReload = null;
+            columns = loaded;
+            ready = generation == staleGeneration.get();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Appointment column store loaded {} rows", loaded.size);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAppointmentChanged(AppointmentChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        AppointmentSnapshot change = event.after() != null ? event.after() : deletion(event.before());
+        lock.writeLock().lock();
+        try {
+            columns.apply(change);
+            if (changesDuringReload != null) {
+                changesDuringReload.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onClientAppointmentsChanged(ClientAppointmentsChangedEvent event) {
+        staleGeneration.incrementAndGet();
+        ready = false;
+    }
+
+    /**
+     * Completed appointments per period. {@code boundaries} holds ascending epoch minutes: period {@code i} is
+     * {@code [boundaries[i], boundaries[i + 1])}. Empty while the store is not ready.
+     */
+    public Optional<PeriodTotals> completedByPeriod(long[] boundaries) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        int periods = boundaries.length - 1;
+        lock.readLock().lock();
+        try {
+            Columns snapshot = columns;
+            int size = snapshot.size;
+            int chunks = (size + SCAN_CHUNK_ROWS - 1) / SCAN_CHUNK_ROWS;
+            PeriodTotals totals = IntStream.range(0, chunks)
+                    .parallel()
+                    .mapToObj(chunk -> snapshot.scanCompleted(
+                            chunk * SCAN_CHUNK_ROWS,
+                            Math.min(size, (chunk + 1) * SCAN_CHUNK_ROWS),
+                            boundaries
+                    ))
+                    .reduce(PeriodTotals::merge)
+                    .orElseGet(() -> new PeriodTotals(new long[periods], new long[periods]));
+            return Optional.of(totals);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static AppointmentSnapshot deletion(AppointmentSnapshot before) {
+        return new AppointmentSnapshot(before.appointmentId(), null, null, null, null, null);
+    }
+
+    static int epochMinute(OffsetDateTime value) {
+        return Math.toIntExact(Math.floorDiv(value.toEpochSecond(), 60));
+    }
+
+    public record PeriodTotals(long[] completedCounts, long[] incomeCents) {
+
+        PeriodTotals merge(PeriodTotals other) {
+            for (int i = 0; i < completedCounts.length; i++) {
+                completedCounts[i] += other.completedCounts[i];
+                incomeCents[i] += other.incomeCents[i];
+            }
+            return this;
+        }
+    }
+
+    private static final class Columns {
+        private static final int INITIAL_CAPACITY = 1_024;
+        private static final byte COMPLETED = (byte) AppointmentStatus.COMPLETED.ordinal();
+
+        private final Map<UUID, Integer> rowById = new HashMap<>();
+        private final Map<UUID, Integer> serviceIndexById = new HashMap<>();
+        private final Map<UUID, Integer> clientIndexById = new HashMap<>();
+        private int[] epochMinutes = new int[INITIAL_CAPACITY];
+        private int[] serviceIndexes = new int[INITIAL_CAPACITY];
+        private byte[] statuses = new byte[INITIAL_CAPACITY];
+        private long[] priceCents = new long[INITIAL_CAPACITY];
+        private int[] clientIndexes = new int[INITIAL_CAPACITY];
+        private int size;
+
+        void apply(AppointmentSnapshot change) {
+            if (change.status() == null) {
+                Integer row = rowById.remove(change.appointmentId());
+                if (row != null) {
+                    statuses[row] = DELETED;
+                }
+                return;
+            }
+            upsert(
+                    change.appointmentId(),
+                    change.clientId(),
+                    change.serviceId(),
+                    change.appointmentAt(),
+                    change.status(),
+                    change.price()
+            );
+        }
+
+        void upsert(
+                UUID id,
+                UUID clientId,
+                UUID serviceId,
+                OffsetDateTime appointmentAt,
+                AppointmentStatus status,
+                BigDecimal price
+        ) {
+            Integer existing = rowById.get(id);
+            int row;
+            if (existing != null) {
+                row = existing;
+            } else {
+                ensureCapacity(size + 1);
+                row = size++;
+                rowById.put(id, row);
+            }
+            epochMinutes[row] = epochMinute(appointmentAt);
+            serviceIndexes[row] = serviceIndexById.computeIfAbsent(serviceId, ignored -> serviceIndexById.size());
+            statuses[row] = (byte) status.ordinal();
+            priceCents[row] = Money.toCents(price);
+            clientIndexes[row] = clientIndexById.computeIfAbsent(clientId, ignored -> clientIndexById.size());
+        }
+
+        PeriodTotals scanCompleted(int from, int to, long[] boundaries) {
+            int periods = boundaries.length - 1;
+            long[] counts = new long[periods];
+            long[] cents = new long[periods];
+            long first = boundaries[0];
+            long end = boundaries[periods];
+            for (int row = from; row < to; row++) {
+                int minute = epochMinutes[row];
+                if (statuses[row] != COMPLETED || minute < first || minute >= end) {
+                    continue;
+                }
+                int index = Arrays.binarySearch(boundaries, minute);
+                int period = index >= 0 ? index : -index - 2;
+                counts[period]++;
+                cents[period] += priceCents[row];
+            }
+            return new PeriodTotals(counts, cents);
+        }
+
+        private void ensureCapacity(int required) {
+            if (required <= epochMinutes.length) {
+                return;
+            }
+            int capacity = Math.max(required, epochMinutes.length * 2);
+            epochMinutes = Arrays.copyOf(epochMinutes, capacity);
+            serviceIndexes = Arrays.copyOf(serviceIndexes, capacity);
+            statuses = Arrays.copyOf(statuses, capacity);
+            priceCents = Arrays.copyOf(priceCents, capacity);
+            clientIndexes = Arrays.copyOf(clientIndexes, capacity);
+        }
+    }
+}
@@ -16,8 +16,8 @@ public final class AppointmentMapper {
                 appointment.getClient().getName(),
                 appointment.getClient().getPhone(),
                 appointment.getService().getId(),
-                appointment.getService().getName(),
-                appointment.getService().getPrice(),
+                appointment.getServiceName(),
+                appointment.getPriceAtBooking(),
                 appointment.getAppointmentAt(),
                 appointment.getStatus(),
                 appointment.getNotes()
@@ -28,7 +28,7 @@ public final class AppointmentMapper {
         return new PublicAppointmentResponse(
                 appointment.getId(),
                 appointment.getService().getId(),
-                appointment.getService().getName(),
+                appointment.getServiceName(),
                 appointment.getAppointmentAt(),
                 appointment.getStatus()
         );
@@ -1,5 +1,8 @@
 package com.barberia.stylebook.application.service;
 
+import com.barberia.stylebook.application.event.AppointmentChangedEvent;
+import com.barberia.stylebook.application.event.AppointmentSnapshot;
+import com.barberia.stylebook.application.event.ClientsChangedEvent;
 import com.barberia.stylebook.application.exception.BusinessRuleException;
 import com.barberia.stylebook.application.exception.NotFoundException;
 import com.barberia.stylebook.domain.entity.Appointment;
@@ -12,6 +15,7 @@ import com.barberia.stylebook.repository.ServiceCatalogRepository;
 import com.barberia.stylebook.web.dto.CreateAppointmentRequest;
 import com.barberia.stylebook.web.dto.PublicAppointmentResponse;
 import com.barberia.stylebook.web.dto.PublicOccupiedAppointmentResponse;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -30,15 +34,18 @@ public class BookingService {
     private final ClientRepository clientRepository;
     private final ServiceCatalogRepository serviceCatalogRepository;
     private final AppointmentRepository appointmentRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public BookingService(
             ClientRepository clientRepository,
             ServiceCatalogRepository serviceCatalogRepository,
-            AppointmentRepository appointmentRepository
+            AppointmentRepository appointmentRepository,
+            ApplicationEventPublisher eventPublisher
     ) {
         this.clientRepository = clientRepository;
         this.serviceCatalogRepository = serviceCatalogRepository;
         this.appointmentRepository = appointmentRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -76,7 +83,11 @@ public class BookingService {
                     return created;
                 });
 
+        boolean newClient = client.getId() == null;
         Client persistedClient = clientRepository.save(client);
+        if (newClient) {
+            eventPublisher.publishEvent(new ClientsChangedEvent());
+        }
 
         Appointment appointment = new Appointment();
         appointment.setClient(persistedClient);
@@ -86,6 +97,7 @@ public class BookingService {
 
         try {
             Appointment saved = appointmentRepository.saveAndFlush(appointment);
+            eventPublisher.publishEvent(AppointmentChangedEvent.created(AppointmentSnapshot.of(saved)));
             return AppointmentMapper.toPublicResponse(saved);
         } catch (DataIntegrityViolationException ex) {
             throw new BusinessRuleException("Ya existe un turno para ese servicio en esa fecha/hora");
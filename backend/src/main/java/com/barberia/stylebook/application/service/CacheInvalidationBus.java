@@ -0,0 +1,212 @@
+package com.barberia.stylebook.application.service;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tools.jackson.databind.json.JsonMapper;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+
+/**
+ * Broadcasts local cache evictions to the other backend nodes over Postgres {@code LISTEN/NOTIFY} and applies theirs
+ * here. Notifications go out on their own autocommit connection, after the surrounding transaction commits, so a
+ * node never reloads a value that is about to change. Keys travel as {@link String#valueOf(Object)}. Hibernate
+ * second-level cache entries travel as {@code entity:<entityName>} with the entity id as key.
+ */
+@Service
+public class CacheInvalidationBus {
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidationBus.class);
+    static final String CHANNEL = "stylebook_cache_invalidation";
+    static final String ENTITY_CACHE_PREFIX = "entity:";
+    private static final int POLL_TIMEOUT_MS = 1_000;
+    private static final long RECONNECT_DELAY_MS = 5_000;
+
+    private final DataSource dataSource;
+    private final JsonMapper jsonMapper;
+    private final ObjectProvider<CacheManager> cacheManager;
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+    private final boolean enabled;
+    private final String nodeId = UUID.randomUUID().toString();
+    private volatile boolean running;
+    private Thread listener;
+
+    public CacheInvalidationBus(
+            DataSource dataSource,
+            JsonMapper jsonMapper,
+            ObjectProvider<CacheManager> cacheManager,
+            ObjectProvider<EntityManagerFactory> entityManagerFactory,
+            @Value("${app.cache.invalidation.enabled:false}") boolean enabled
+    ) {
+        this.dataSource = dataSource;
+        this.jsonMapper = jsonMapper;
+        this.cacheManager = cacheManager;
+        this.entityManagerFactory = entityManagerFactory;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Announces an eviction of {@code key} from {@code cacheName}, or of the whole cache when {@code key} is null.
+     */
+    public void publish(String cacheName, Object key) {
+        if (!enabled) {
+            return;
+        }
+        String payload = jsonMapper.writeValueAsString(
+                new Invalidation(nodeId, cacheName, key == null ? null : String.valueOf(key))
+        );
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send(payload);
+                }
+            });
+        } else {
+            send(payload);
+        }
+    }
+
+    public void publishEntity(String entityName, Object id) {
+        publish(ENTITY_CACHE_PREFIX + entityName, id);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        listener = Thread.ofPlatform().daemon().name("cache-invalidation").start(this::listen);
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    void apply(String payload) {
+        Invalidation invalidation = jsonMapper.readValue(payload, Invalidation.class);
+        if (nodeId.equals(invalidation.origin())) {
+            return;
+        }
+        if (invalidation.cache().startsWith(ENTITY_CACHE_PREFIX)) {
+            evictEntity(invalidation.cache().substring(ENTITY_CACHE_PREFIX.length()), invalidation.key());
+            return;
+        }
+        Cache cache = cacheManager.getObject().getCache(invalidation.cache());
+        if (cache == null) {
+            return;
+        }
+        // Evict on the native cache so the eviction is not broadcast again.
+        if (!(cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache)) {
+            return;
+        }
+        if (invalidation.key() == null) {
+            nativeCache.invalidateAll();
+        } else {
+            nativeCache.asMap().keySet().removeIf(key -> invalidation.key().equals(String.valueOf(key)));
+        }
+    }
+
+    // Natural ids and cached queries may point at the changed row under values this node never saw, so they go too.
+    private void evictEntity(String entityName, String id) {
+        org.hibernate.Cache secondLevelCache = entityManagerFactory.getObject().unwrap(SessionFactory.class).getCache();
+        if (id == null) {
+            secondLevelCache.evictEntityData(entityName);
+        } else {
+            secondLevelCache.evictEntityData(entityName, UUID.fromString(id));
+        }
+        secondLevelCache.evictNaturalIdData(entityName);
+        secondLevelCache.evictDefaultQueryRegion();
+    }
+
+    private void send(String payload) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+            connection.setAutoCommit(true);
+            statement.setString(1, CHANNEL);
+            statement.setString(2, payload);
+            statement.execute();
+        } catch (SQLException ex) {
+            log.warn("Could not broadcast cache invalidation {}", payload, ex);
+        }
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                connection.setAutoCommit(true);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                // Anything broadcast while this node was not listening is lost, so start from empty caches.
+                clearAll();
+                log.info("Listening for cache invalidations on {}", CHANNEL);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MS);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        applySafely(notification.getParameter());
+                    }
+                }
+            } catch (SQLException ex) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Cache invalidation listener disconnected, retrying in {} ms", RECONNECT_DELAY_MS, ex);
+                try {
+                    Thread.sleep(RECONNECT_DELAY_MS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void applySafely(String payload) {
+        try {
+            apply(payload);
+        } catch (RuntimeException ex) {
+            log.warn("Ignoring malformed cache invalidation {}", payload, ex);
+        }
+    }
+
+    private void clearAll() {
+        CacheManager manager = cacheManager.getObject();
+        manager.getCacheNames().forEach(name -> {
+            Cache cache = manager.getCache(name);
+            if (cache != null && cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+                nativeCache.invalidateAll();
+            }
+        });
+        entityManagerFactory.getObject().unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    public record Invalidation(String origin, String cache, String key) {
+    }
+}
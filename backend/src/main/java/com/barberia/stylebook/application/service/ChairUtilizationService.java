@@ -0,0 +1,256 @@
+package com.barberia.stylebook.application.service;
+
+import com.barberia.stylebook.application.exception.BusinessRuleException;
+import com.barberia.stylebook.domain.enums.AppointmentStatus;
+import com.barberia.stylebook.repository.AppointmentRepository;
+import com.barberia.stylebook.web.dto.ServiceUtilizationResponse;
+import com.barberia.stylebook.web.dto.UtilizationCellResponse;
+import com.barberia.stylebook.web.dto.UtilizationReportResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Booked against available chair minutes per hour of the week (Monday first, business calendar) and per service.
+ * Reports cover whole weeks; each week is aggregated in one pass over its appointments and cached once it has
+ * ended.
+ */
+@Service
+public class ChairUtilizationService {
+    private static final int DEFAULT_WEEKS = 8;
+    private static final int MAX_WEEKS = 53;
+
+    private final AppointmentRepository appointmentRepository;
+    private final CacheManager cacheManager;
+    private final ZoneId businessZone;
+    private final OpeningHours openingHours;
+    private final int chairs;
+
+    public ChairUtilizationService(
+            AppointmentRepository appointmentRepository,
+            CacheManager cacheManager,
+            @Value("${app.business.timezone:America/Argentina/Buenos_Aires}") String businessTimezone,
+            @Value("${app.business.opening-hours:MON-SAT 09:00-20:00}") String openingHours,
+            @Value("${app.business.chairs:1}") int chairs
+    ) {
+        this.appointmentRepository = appointmentRepository;
+        this.cacheManager = cacheManager;
+        this.businessZone = ZoneId.of(businessTimezone);
+        this.openingHours = OpeningHours.parse(openingHours);
+        this.chairs = Math.max(1, chairs);
+    }
+
+    @Transactional(readOnly = true)
+    public UtilizationReportResponse utilization(LocalDate from, LocalDate to) {
+        LocalDate today = LocalDate.now(businessZone);
+        LocalDate lastWeek = weekStart(to == null ? today : to);
+        LocalDate firstWeek = from == null ? lastWeek.minusWeeks(DEFAULT_WEEKS - 1L) : weekStart(from);
+        if (lastWeek.isBefore(firstWeek)) {
+            throw new BusinessRuleException("La fecha final debe ser igual o posterior a la inicial");
+        }
+        long weeks = ChronoUnit.WEEKS.between(firstWeek, lastWeek) + 1;
+        if (weeks > MAX_WEEKS) {
+            throw new BusinessRuleException("El rango no puede superar " + MAX_WEEKS + " semanas");
+        }
+
+        Cache cache = cacheManager.getCache(AdminMetricsCacheService.UTILIZATION_CACHE);
+        Map<LocalDate, WeekUtilization> byWeek = new HashMap<>();
+        LocalDate firstMissing = null;
+        LocalDate lastMissing = null;
+        for (LocalDate week = firstWeek; !week.isAfter(lastWeek); week = week.plusWeeks(1)) {
+            WeekUtilization cached = cache != null && closed(week, today) ? cache.get(week, WeekUtilization.class) : null;
+            if (cached != null) {
+                byWeek.put(week, cached);
+            } else {
+                firstMissing = firstMissing == null ? week : firstMissing;
+                lastMissing = week;
+            }
+        }
+        if (firstMissing != null) {
+            loadWeeks(firstMissing, lastMissing, today, cache, byWeek);
+        }
+        return report(firstWeek, lastWeek, weeks, byWeek);
+    }
+
+    private void loadWeeks(
+            LocalDate firstWeek,
+            LocalDate lastWeek,
+            LocalDate today,
+            Cache cache,
+            Map<LocalDate, WeekUtilization> byWeek
+    ) {
+        Map<LocalDate, WeekUtilization> loaded = new HashMap<>();
+        appointmentRepository.findUtilizationRows(
+                        AppointmentStatus.CANCELLED,
+                        firstWeek.atStartOfDay(businessZone).toOffsetDateTime(),
+                        lastWeek.plusWeeks(1).atStartOfDay(businessZone).toOffsetDateTime()
+                )
+                .forEach(row -> {
+                    LocalDateTime start = row.getAppointmentAt().atZoneSameInstant(businessZone).toLocalDateTime();
+                    loaded.computeIfAbsent(weekStart(start.toLocalDate()), ignored -> new WeekUtilization())
+                            .add(start, row);
+                });
+
+        for (LocalDate week = firstWeek; !week.isAfter(lastWeek); week = week.plusWeeks(1)) {
+            if (byWeek.containsKey(week)) {
+                continue;
+            }
+            WeekUtilization utilization = loaded.getOrDefault(week, new WeekUtilization());
+            if (cache != null && closed(week, today)) {
+                cache.put(week, utilization);
+            }
+            byWeek.put(week, utilization);
+        }
+    }
+
+    private UtilizationReportResponse report(
+            LocalDate firstWeek,
+            LocalDate lastWeek,
+            long weeks,
+            Map<LocalDate, WeekUtilization> byWeek
+    ) {
+        long[] bookedByHour = new long[OpeningHours.HOURS_PER_WEEK];
+        Map<UUID, ServiceTotals> services = new LinkedHashMap<>();
+        for (WeekUtilization week : byWeek.values()) {
+            for (int hour = 0; hour < bookedByHour.length; hour++) {
+                bookedByHour[hour] += week.bookedMinutesByHour[hour];
+            }
+            week.services.forEach((serviceId, totals) -> services
+                    .computeIfAbsent(serviceId, ignored -> new ServiceTotals(totals.serviceName))
+                    .add(totals));
+        }
+
+        long availableMinutes = openingHours.openMinutesPerWeek() * chairs * weeks;
+        long bookedMinutes = 0;
+        List<UtilizationCellResponse> heatmap = new ArrayList<>(OpeningHours.HOURS_PER_WEEK);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            for (int hour = 0; hour < 24; hour++) {
+                int hourOfWeek = OpeningHours.hourOfWeek(day, hour);
+                long available = (long) openingHours.openMinutes(hourOfWeek) * chairs * weeks;
+                bookedMinutes += bookedByHour[hourOfWeek];
+                heatmap.add(new UtilizationCellResponse(
+                        day,
+                        hour,
+                        bookedByHour[hourOfWeek],
+                        available,
+                        ratio(bookedByHour[hourOfWeek], available)
+                ));
+            }
+        }
+
+        long revenueCents = 0;
+        List<ServiceUtilizationResponse> serviceResponses = new ArrayList<>(services.size());
+        for (Map.Entry<UUID, ServiceTotals> entry : services.entrySet()) {
+            ServiceTotals totals = entry.getValue();
+            revenueCents += totals.revenueCents;
+            serviceResponses.add(new ServiceUtilizationResponse(
+                    entry.getKey(),
+                    totals.serviceName,
+                    totals.appointments,
+                    totals.bookedMinutes,
+                    ratio(totals.bookedMinutes, availableMinutes),
+                    Money.toBigDecimal(totals.revenueCents),
+                    revenuePerAvailableHour(totals.revenueCents, availableMinutes)
+            ));
+        }
+        serviceResponses.sort(Comparator.comparingLong(ServiceUtilizationResponse::bookedMinutes).reversed());
+
+        return new UtilizationReportResponse(
+                firstWeek,
+                lastWeek.plusDays(6),
+                businessZone.getId(),
+                chairs,
+                bookedMinutes,
+                availableMinutes,
+                ratio(bookedMinutes, availableMinutes),
+                Money.toBigDecimal(revenueCents),
+                revenuePerAvailableHour(revenueCents, availableMinutes),
+                heatmap,
+                serviceResponses
+        );
+    }
+
+    static boolean closed(LocalDate weekStart, LocalDate today) {
+        return !weekStart.plusWeeks(1).isAfter(today);
+    }
+
+    static LocalDate weekStart(LocalDate day) {
+        return day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    private static double ratio(long booked, long available) {
+        return available == 0 ? 0 : (double) booked / available;
+    }
+
+    private static BigDecimal revenuePerAvailableHour(long revenueCents, long availableMinutes) {
+        if (availableMinutes == 0) {
+            return Money.toBigDecimal(0);
+        }
+        return Money.toBigDecimal(revenueCents)
+                .multiply(BigDecimal.valueOf(60))
+                .divide(BigDecimal.valueOf(availableMinutes), 2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Aggregates of one week. Cached instances are never modified after {@link #loadWeeks} builds them.
+     */
+    static final class WeekUtilization {
+        private final long[] bookedMinutesByHour = new long[OpeningHours.HOURS_PER_WEEK];
+        private final Map<UUID, ServiceTotals> services = new HashMap<>();
+
+        private void add(LocalDateTime start, AppointmentRepository.UtilizationRowProjection row) {
+            int duration = row.getDurationMinutes() == null ? 0 : row.getDurationMinutes();
+            int minuteOfWeek = OpeningHours.hourOfWeek(start.getDayOfWeek(), start.getHour()) * 60 + start.getMinute();
+            int remaining = duration;
+            // Appointments running past Sunday midnight wrap onto Monday of the same week.
+            while (remaining > 0) {
+                int inThisHour = Math.min(remaining, 60 - minuteOfWeek % 60);
+                bookedMinutesByHour[minuteOfWeek / 60] += inThisHour;
+                remaining -= inThisHour;
+                minuteOfWeek = (minuteOfWeek + inThisHour) % (OpeningHours.HOURS_PER_WEEK * 60);
+            }
+
+            ServiceTotals totals = services.computeIfAbsent(row.getServiceId(), ignored -> new ServiceTotals(row.getServiceName()));
+            totals.appointments++;
+            totals.bookedMinutes += duration;
+            if (row.getStatus() == AppointmentStatus.COMPLETED) {
+                totals.revenueCents += Money.toCents(row.getPriceAtBooking());
+            }
+        }
+    }
+
+    private static final class ServiceTotals {
+        private final String serviceName;
+        private long appointments;
+        private long bookedMinutes;
+        private long revenueCents;
+
+        private ServiceTotals(String serviceName) {
+            this.serviceName = serviceName;
+        }
+
+        private void add(ServiceTotals other) {
+            appointments += other.appointments;
+            bookedMinutes += other.bookedMinutes;
+            revenueCents += other.revenueCents;
+        }
+    }
+}
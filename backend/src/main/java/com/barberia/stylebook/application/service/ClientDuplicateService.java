@@ -0,0 +1,303 @@
+package com.barberia.stylebook.application.service;
+
+import com.barberia.stylebook.application.exception.BusinessRuleException;
+import com.barberia.stylebook.repository.ClientRepository;
+import com.barberia.stylebook.web.dto.ClientDuplicateCandidateResponse;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.text.Normalizer;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+
+@Service
+public class ClientDuplicateService {
+    private static final double DEFAULT_MIN_SCORE = 0.7;
+    private static final int DEFAULT_LIMIT = 100;
+    private static final int MAX_LIMIT = 500;
+    private static final int PHONE_SUFFIX_LENGTH = 8;
+    private static final int SHORT_PHONE_SUFFIX_LENGTH = 6;
+    private static final int MIN_NAME_TOKEN_LENGTH = 3;
+    private static final int MAX_BLOCK_SIZE = 200;
+    private static final int NEIGHBOUR_WINDOW = 20;
+    private static final double NAME_WEIGHT = 0.7;
+    private static final double PHONE_WEIGHT = 0.3;
+
+    private final ClientRepository clientRepository;
+    private final ForkJoinPool scoringPool;
+
+    public ClientDuplicateService(
+            ClientRepository clientRepository,
+            @Value("${app.clients.duplicates.parallelism:0}") int parallelism
+    ) {
+        this.clientRepository = clientRepository;
+        this.scoringPool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scoringPool.shutdown();
+    }
+
+    @Transactional(readOnly = true)
+    public List<ClientDuplicateCandidateResponse> detect(Double minScore, int limit) {
+        double threshold = minScore == null ? DEFAULT_MIN_SCORE : minScore;
+        if (threshold < 0 || threshold > 1) {
+            throw new BusinessRuleException("El puntaje minimo debe estar entre 0 y 1");
+        }
+        int boundedLimit = boundLimit(limit);
+
+        List<ClientRepository.ClientDuplicateScanProjection> rows = clientRepository.findAllForDuplicateScan();
+        CandidateClient[] clients = rows.stream()
+                .map(CandidateClient::of)
+                .toArray(CandidateClient[]::new);
+        long[] pairs = buildCandidatePairs(clients);
+
+        List<ClientDuplicateCandidateResponse> scored = scoringPool.submit(() -> Arrays.stream(pairs)
+                        .parallel()
+                        .mapToObj(pair -> score(clients[(int) (pair >>> 32)], clients[(int) pair]))
+                        .filter(candidate -> candidate.score() >= threshold)
+                        .toList())
+                .join();
+
+        return scored.stream()
+                .sorted(Comparator.comparingDouble(ClientDuplicateCandidateResponse::score).reversed())
+                .limit(boundedLimit)
+                .toList();
+    }
+
+    private long[] buildCandidatePairs(CandidateClient[] clients) {
+        Map<String, List<Integer>> blocks = new HashMap<>();
+        for (int i = 0; i < clients.length; i++) {
+            for (String key : clients[i].blockingKeys()) {
+                blocks.computeIfAbsent(key, ignored -> new ArrayList<>()).add(i);
+            }
+        }
+
+        long[] pairs = blocks.values().stream()
+                .filter(members -> members.size() > 1)
+                .flatMapToLong(members -> members.size() <= MAX_BLOCK_SIZE
+                        ? Arrays.stream(allPairs(members))
+                        : Arrays.stream(neighbourPairs(members, clients)))
+                .toArray();
+        // The same pair can share several blocks; keep a single copy of each.
+        Arrays.sort(pairs);
+        int unique = 0;
+        for (int i = 0; i < pairs.length; i++) {
+            if (i == 0 || pairs[i] != pairs[i - 1]) {
+                pairs[unique++] = pairs[i];
+            }
+        }
+        return Arrays.copyOf(pairs, unique);
+    }
+
+    private static long[] allPairs(List<Integer> members) {
+        long[] blockPairs = new long[members.size() * (members.size() - 1) / 2];
+        int next = 0;
+        for (int i = 0; i < members.size(); i++) {
+            for (int j = i + 1; j < members.size(); j++) {
+                blockPairs[next++] = pair(members.get(i), members.get(j));
+            }
+        }
+        return blockPairs;
+    }
+
+    /**
+     * Common tokens such as "juan" or "perez" form blocks too large to compare exhaustively. Their members are sorted
+     * by name tokens and phone, and each one is compared with the next {@link #NEIGHBOUR_WINDOW}, so accent or word
+     * order variants of the same name still end up side by side.
+     */
+    private static long[] neighbourPairs(List<Integer> members, CandidateClient[] clients) {
+        Integer[] sorted = members.toArray(Integer[]::new);
+        Arrays.sort(sorted, Comparator.<Integer, String>comparing(index -> clients[index].sortedTokens())
+                .thenComparing(index -> clients[index].phoneNormalized()));
+        long[] blockPairs = new long[sorted.length * NEIGHBOUR_WINDOW];
+        int next = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            for (int j = i + 1; j < sorted.length && j <= i + NEIGHBOUR_WINDOW; j++) {
+                blockPairs[next++] = pair(sorted[i], sorted[j]);
+            }
+        }
+        return Arrays.copyOf(blockPairs, next);
+    }
+
+    private static long pair(int first, int second) {
+        return ((long) Math.min(first, second) << 32) | Math.max(first, second);
+    }
+
+    private static ClientDuplicateCandidateResponse score(CandidateClient left, CandidateClient right) {
+        double phoneSimilarity = phoneSimilarity(left.phoneNormalized(), right.phoneNormalized());
+        double nameSimilarity = Math.max(
+                jaroWinkler(left.normalizedName(), right.normalizedName()),
+                jaroWinkler(left.sortedTokens(), right.sortedTokens())
+        );
+        double score = NAME_WEIGHT * nameSimilarity + PHONE_WEIGHT * phoneSimilarity;
+
+        CandidateClient source = left.createdAt().isAfter(right.createdAt()) ? left : right;
+        CandidateClient target = source == left ? right : left;
+        return new ClientDuplicateCandidateResponse(
+                source.id(),
+                source.name(),
+                source.phone(),
+                target.id(),
+                target.name(),
+                target.phone(),
+                round(score),
+                round(nameSimilarity),
+                phoneSimilarity >= 1.0
+        );
+    }
+
+    private static double phoneSimilarity(String left, String right) {
+        if (sharesSuffix(left, right, PHONE_SUFFIX_LENGTH)) {
+            return 1.0;
+        }
+        if (sharesSuffix(left, right, SHORT_PHONE_SUFFIX_LENGTH)) {
+            return 0.5;
+        }
+        return 0.0;
+    }
+
+    private static boolean sharesSuffix(String left, String right, int length) {
+        return left.length() >= length
+                && right.length() >= length
+                && left.regionMatches(left.length() - length, right, right.length() - length, length);
+    }
+
+    static double jaroWinkler(String left, String right) {
+        if (left.isEmpty() || right.isEmpty()) {
+            return 0.0;
+        }
+        if (left.equals(right)) {
+            return 1.0;
+        }
+
+        int matchWindow = Math.max(0, Math.max(left.length(), right.length()) / 2 - 1);
+        boolean[] leftMatched = new boolean[left.length()];
+        boolean[] rightMatched = new boolean[right.length()];
+        int matches = 0;
+        for (int i = 0; i < left.length(); i++) {
+            int from = Math.max(0, i - matchWindow);
+            int to = Math.min(right.length() - 1, i + matchWindow);
+            for (int j = from; j <= to; j++) {
+                if (!rightMatched[j] && left.charAt(i) == right.charAt(j)) {
+                    leftMatched[i] = true;
+                    rightMatched[j] = true;
+                    matches++;
+                    break;
+                }
+            }
+        }
+        if (matches == 0) {
+            return 0.0;
+        }
+
+        int transpositions = 0;
+        int j = 0;
+        for (int i = 0; i < left.length(); i++) {
+            if (!leftMatched[i]) {
+                continue;
+            }
+            while (!rightMatched[j]) {
+                j++;
+            }
+            if (left.charAt(i) != right.charAt(j)) {
+                transpositions++;
+            }
+            j++;
+        }
+
+        double m = matches;
+        double jaro = (m / left.length() + m / right.length() + (m - transpositions / 2.0) / m) / 3.0;
+        int prefix = 0;
+        int maxPrefix = Math.min(4, Math.min(left.length(), right.length()));
+        while (prefix < maxPrefix && left.charAt(prefix) == right.charAt(prefix)) {
+            prefix++;
+        }
+        return jaro + prefix * 0.1 * (1 - jaro);
+    }
+
+    static String normalizeName(String name) {
+        String decomposed = Normalizer.normalize(name == null ? "" : name, Normalizer.Form.NFD);
+        StringBuilder normalized = new StringBuilder(decomposed.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < decomposed.length(); i++) {
+            char current = decomposed.charAt(i);
+            if (Character.getType(current) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (Character.isLetterOrDigit(current)) {
+                if (pendingSpace && !normalized.isEmpty()) {
+                    normalized.append(' ');
+                }
+                normalized.append(Character.toLowerCase(current));
+                pendingSpace = false;
+            } else {
+                pendingSpace = true;
+            }
+        }
+        return normalized.toString();
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000.0) / 1000.0;
+    }
+
+    private int boundLimit(int requestedLimit) {
+        if (requestedLimit <= 0) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.min(requestedLimit, MAX_LIMIT);
+    }
+
+    private record CandidateClient(
+            UUID id,
+            String name,
+            String phone,
+            String phoneNormalized,
+            String normalizedName,
+            String sortedTokens,
+            OffsetDateTime createdAt
+    ) {
+
+        static CandidateClient of(ClientRepository.ClientDuplicateScanProjection row) {
+            String normalizedName = normalizeName(row.getName());
+            String sortedTokens = String.join(" ", Arrays.stream(normalizedName.split(" ")).sorted().toList());
+            return new CandidateClient(
+                    row.getId(),
+                    row.getName(),
+                    row.getPhone(),
+                    row.getPhoneNormalized(),
+                    normalizedName,
+                    sortedTokens,
+                    row.getCreatedAt()
+            );
+        }
+
+        List<String> blockingKeys() {
+            List<String> keys = new ArrayList<>();
+            if (phoneNormalized.length() >= PHONE_SUFFIX_LENGTH) {
+                keys.add("p:" + phoneNormalized.substring(phoneNormalized.length() - PHONE_SUFFIX_LENGTH));
+            }
+            String[] tokens = normalizedName.split(" ");
+            for (String token : tokens) {
+                if (token.length() >= MIN_NAME_TOKEN_LENGTH) {
+                    keys.add("n:" + token);
+                }
+            }
+            if (tokens.length > 1 && !tokens[0].isEmpty() && !tokens[tokens.length - 1].isEmpty()) {
+                keys.add("f:" + tokens[0] + "|" + tokens[tokens.length - 1].charAt(0));
+            }
+            return keys;
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.barberia.stylebook.application.service;
+
+import com.barberia.stylebook.application.event.ClientAppointmentsChangedEvent;
+import com.barberia.stylebook.application.event.ClientsChangedEvent;
+import com.barberia.stylebook.application.exception.NotFoundException;
+import com.barberia.stylebook.domain.enums.AppointmentStatus;
+import com.barberia.stylebook.domain.enums.ClientErasureJobStatus;
+import com.barberia.stylebook.domain.enums.ClientErasureMode;
+import com.barberia.stylebook.repository.AppointmentBulkOperations.AppointmentCount;
+import com.barberia.stylebook.repository.AppointmentRepository;
+import com.barberia.stylebook.repository.ClientRepository;
+import com.barberia.stylebook.web.dto.ClientErasureJobResponse;
+import com.barberia.stylebook.web.dto.ClientErasureRequest;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+import java.util.stream.Collectors;
+
+@Service
+public class ClientErasureService {
+    private static final Logger log = LoggerFactory.getLogger(ClientErasureService.class);
+    private static final Duration JOB_RETENTION = Duration.ofHours(24);
+    private static final int MAX_TRACKED_JOBS = 1_000;
+
+    private final ClientRepository clientRepository;
+    private final AppointmentRepository appointmentRepository;
+    private final OverviewCounterService overviewCounterService;
+    private final DailyIncomeRollupService dailyIncomeRollupService;
+    private final ServicePopularityService servicePopularityService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int clientChunkSize;
+    private final int appointmentBatchSize;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "client-erasure");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Cache<UUID, ErasureJob> jobsById = Caffeine.newBuilder()
+            .maximumSize(MAX_TRACKED_JOBS)
+            .expireAfterWrite(JOB_RETENTION)
+            .build();
+
+    public ClientErasureService(
+            ClientRepository clientRepository,
+            AppointmentRepository appointmentRepository,
+            OverviewCounterService overviewCounterService,
+            DailyIncomeRollupService dailyIncomeRollupService,
+            ServicePopularityService servicePopularityService,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.clients.erasure.client-chunk-size:100}") int clientChunkSize,
+            @Value("${app.clients.erasure.appointment-batch-size:500}") int appointmentBatchSize
+    ) {
+        this.clientRepository = clientRepository;
+        this.appointmentRepository = appointmentRepository;
+        this.overviewCounterService = overviewCounterService;
+        this.dailyIncomeRollupService = dailyIncomeRollupService;
+        this.servicePopularityService = servicePopularityService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clientChunkSize = Math.max(1, clientChunkSize);
+        this.appointmentBatchSize = Math.max(1, appointmentBatchSize);
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    public ClientErasureJobResponse start(ClientErasureRequest request) {
+        List<UUID> clientIds = List.copyOf(new LinkedHashSet<>(request.clientIds()));
+        ErasureJob job = new ErasureJob(UUID.randomUUID(), request.mode(), clientIds.size());
+        jobsById.put(job.id, job);
+        executor.execute(() -> run(job, clientIds));
+        return job.toResponse();
+    }
+
+    public ClientErasureJobResponse status(UUID jobId) {
+        ErasureJob job = jobsById.getIfPresent(jobId);
+        if (job == null) {
+            throw new NotFoundException("Proceso de borrado no encontrado");
+        }
+        return job.toResponse();
+    }
+
+    private void run(ErasureJob job, List<UUID> clientIds) {
+        try {
+            Set<UUID> existingIds = new HashSet<>(clientRepository.findExistingIds(clientIds));
+            List<UUID> pending = new ArrayList<>(existingIds.size());
+            for (UUID clientId : clientIds) {
+                if (existingIds.contains(clientId)) {
+                    pending.add(clientId);
+                } else {
+                    job.missingClientIds.add(clientId);
+                    job.processedClients.incrementAndGet();
+                }
+            }
+
+            for (int from = 0; from < pending.size(); from += clientChunkSize) {
+                List<UUID> chunk = pending.subList(from, Math.min(from + clientChunkSize, pending.size()));
+                eraseChunk(job, chunk);
+                job.processedClients.addAndGet(chunk.size());
+            }
+            job.finish(ClientErasureJobStatus.COMPLETED, null);
+        } catch (RuntimeException ex) {
+            log.error("Client erasure job {} failed after {} clients", job.id, job.processedClients.get(), ex);
+            job.finish(ClientErasureJobStatus.FAILED, "No se pudo completar el borrado de clientes");
+        } finally {
+            eventPublisher.publishEvent(new ClientsChangedEvent());
+        }
+    }
+
+    private void eraseChunk(ErasureJob job, List<UUID> chunk) {
+        if (job.mode == ClientErasureMode.DELETE) {
+            drainInBatches(job, chunk, this::deleteAppointments);
+            inTransaction(() -> {
+                // Bookings committed after the drain are removed here, under the same lock as the clients.
+                int affected;
+                do {
+                    affected = deleteAppointments(chunk, appointmentBatchSize);
+                    job.processedAppointments.addAndGet(affected);
+                } while (affected >= appointmentBatchSize);
+                eventPublisher.publishEvent(ClientAppointmentsChangedEvent.incomeUnchanged());
+                return clientRepository.deleteByIds(chunk);
+            });
+        } else {
+            drainInBatches(job, chunk, appointmentRepository::clearNotesByClientIds);
+            inTransaction(() -> clientRepository.anonymizeByIds(chunk));
+        }
+    }
+
+    // Each batch commits on its own so a client with a long history never holds one huge transaction.
+    private void drainInBatches(ErasureJob job, List<UUID> chunk, BatchOperation operation) {
+        int affected;
+        do {
+            affected = inTransaction(() -> operation.apply(chunk, appointmentBatchSize));
+            job.processedAppointments.addAndGet(affected);
+        } while (affected >= appointmentBatchSize);
+    }
+
+    /**
+     * Every counter, {@code clients.with_appointments} included, moves in the transaction that deletes the rows, so
+     * a batch that fails later leaves the overview matching what was actually deleted.
+     */
+    private int deleteAppointments(List<UUID> clientIds, int maxRows) {
+        clientRepository.lockForDelete(clientIds);
+        int clientsBefore = appointmentRepository.findClientIdsWithAppointments(clientIds).size();
+        List<AppointmentCount> deleted = appointmentRepository.deleteByClientIds(clientIds, maxRows);
+        if (!deleted.isEmpty()) {
+            int clientsAfter = appointmentRepository.findClientIdsWithAppointments(clientIds).size();
+            if (clientsAfter != clientsBefore) {
+                overviewCounterService.adjustClientsWithAppointments(clientsAfter - clientsBefore);
+            }
+        }
+        overviewCounterService.subtractDeleted(deleted);
+        dailyIncomeRollupService.subtractDeleted(deleted);
+        servicePopularityService.subtractDeleted(deleted);
+        eventPublisher.publishEvent(ClientAppointmentsChangedEvent.incomeChangedOn(deleted.stream()
+                .filter(count -> count.status() == AppointmentStatus.COMPLETED)
+                .map(AppointmentCount::day)
+                .collect(Collectors.toSet())));
+        return (int) deleted.stream().mapToLong(AppointmentCount::count).sum();
+    }
+
+    private int inTransaction(IntSupplier work) {
+        Integer affected = transactionTemplate.execute(status -> work.getAsInt());
+        return affected == null ? 0 : affected;
+    }
+
+    @FunctionalInterface
+    private interface BatchOperation {
+        int apply(List<UUID> clientIds, int maxRows);
+    }
+
+    private static final class ErasureJob {
+        private final UUID id;
+        private final ClientErasureMode mode;
+        private final int totalClients;
+        private final OffsetDateTime startedAt = OffsetDateTime.now(ZoneOffset.UTC);
+        private final AtomicInteger processedClients = new AtomicInteger();
+        private final AtomicLong processedAppointments = new AtomicLong();
+        private final List<UUID> missingClientIds = new CopyOnWriteArrayList<>();
+        private volatile ClientErasureJobStatus status = ClientErasureJobStatus.RUNNING;
+        private volatile OffsetDateTime finishedAt;
+        private volatile String error;
+
+        private ErasureJob(UUID id, ClientErasureMode mode, int totalClients) {
+            this.id = id;
+            this.mode = mode;
+            this.totalClients = totalClients;
+        }
+
+        private void finish(ClientErasureJobStatus finalStatus, String failure) {
+            this.error = failure;
+            this.finishedAt = OffsetDateTime.now(ZoneOffset.UTC);
+            this.status = finalStatus;
+        }
+
+        private ClientErasureJobResponse toResponse() {
+            return new ClientErasureJobResponse(
+                    id,
+                    mode,
+                    status,
+                    totalClients,
+                    processedClients.get(),
+                    processedAppointments.get(),
+                    List.copyOf(missingClientIds),
+                    startedAt,
+                    finishedAt,
+                    error
+            );
+        }
+    }
+}
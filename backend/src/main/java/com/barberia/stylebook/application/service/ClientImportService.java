@@ -0,0 +1,220 @@
+package com.barberia.stylebook.application.service;
+
+import com.barberia.stylebook.application.event.ClientsChangedEvent;
+import com.barberia.stylebook.application.exception.BusinessRuleException;
+import com.barberia.stylebook.repository.ClientBulkOperations.ClientUpsert;
+import com.barberia.stylebook.repository.ClientRepository;
+import com.barberia.stylebook.web.dto.ClientImportResponse;
+import com.barberia.stylebook.web.dto.ClientImportRowError;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+public class ClientImportService {
+    private static final int MAX_REPORTED_ERRORS = 500;
+    private static final int MAX_NAME_LENGTH = 120;
+    private static final int MAX_PHONE_LENGTH = 40;
+    private static final int DELIMITER_SNIFF_CHARS = 4_096;
+    private static final Set<String> NAME_HEADERS = Set.of("nombre", "name", "cliente", "client");
+    private static final Set<String> PHONE_HEADERS = Set.of("telefono", "phone", "celular", "whatsapp", "tel");
+
+    private final ClientRepository clientRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public ClientImportService(
+            ClientRepository clientRepository,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.clients.import.batch-size:500}") int batchSize
+    ) {
+        this.clientRepository = clientRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    public ClientImportResponse importCsv(InputStream input) {
+        ImportReport report = new ImportReport();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            CsvRecordReader records = new CsvRecordReader(reader, sniffDelimiter(reader));
+            List<String> first = records.next();
+            if (first == null) {
+                throw new BusinessRuleException("El archivo CSV esta vacio");
+            }
+
+            ColumnMapping mapping = ColumnMapping.fromHeader(first);
+            Map<String, PendingRow> batch = new LinkedHashMap<>();
+            if (mapping == null) {
+                mapping = ColumnMapping.DEFAULT;
+                addRow(first, records.recordLine(), mapping, batch, report);
+            }
+            for (List<String> values = records.next(); values != null; values = records.next()) {
+                addRow(values, records.recordLine(), mapping, batch, report);
+                if (batch.size() >= batchSize) {
+                    flush(batch, report);
+                }
+            }
+            flush(batch, report);
+        } catch (IOException ex) {
+            throw new BusinessRuleException("No se pudo leer el archivo CSV");
+        } finally {
+            if (report.upsertedRows > 0) {
+                eventPublisher.publishEvent(new ClientsChangedEvent());
+            }
+        }
+        return report.toResponse();
+    }
+
+    private void addRow(
+            List<String> values,
+            long line,
+            ColumnMapping mapping,
+            Map<String, PendingRow> batch,
+            ImportReport report
+    ) {
+        report.totalRows++;
+        String name = mapping.value(values, mapping.nameColumn());
+        String phone = mapping.value(values, mapping.phoneColumn());
+        if (name.isEmpty()) {
+            report.error(line, "El nombre es obligatorio");
+            return;
+        }
+        if (name.length() > MAX_NAME_LENGTH) {
+            report.error(line, "El nombre supera " + MAX_NAME_LENGTH + " caracteres");
+            return;
+        }
+        if (phone.length() > MAX_PHONE_LENGTH) {
+            report.error(line, "El telefono supera " + MAX_PHONE_LENGTH + " caracteres");
+            return;
+        }
+        String phoneNormalized;
+        try {
+            phoneNormalized = PhoneNormalizer.normalize(phone);
+        } catch (BusinessRuleException ex) {
+            report.error(line, ex.getMessage());
+            return;
+        }
+        // A repeated phone inside the same batch would hit the same row twice in one upsert; the last one wins and
+        // the earlier line is reported so the totals still add up.
+        PendingRow replaced = batch.remove(phoneNormalized);
+        if (replaced != null) {
+            report.error(replaced.line(), "Telefono repetido en la linea " + line + ", se importa esa fila");
+        }
+        batch.put(phoneNormalized, new PendingRow(line, new ClientUpsert(name, phone, phoneNormalized)));
+    }
+
+    private void flush(Map<String, PendingRow> batch, ImportReport report) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<PendingRow> rows = new ArrayList<>(batch.values());
+        batch.clear();
+        try {
+            transactionTemplate.executeWithoutResult(status -> clientRepository.upsertByPhoneNormalized(
+                    rows.stream().map(PendingRow::client).toList()
+            ));
+            report.upsertedRows += rows.size();
+        } catch (DataAccessException ex) {
+            // Retry row by row so a single bad record does not reject the whole batch.
+            for (PendingRow row : rows) {
+                try {
+                    transactionTemplate.executeWithoutResult(status ->
+                            clientRepository.upsertByPhoneNormalized(List.of(row.client())));
+                    report.upsertedRows++;
+                } catch (DataAccessException rowEx) {
+                    report.error(row.line(), "No se pudo guardar el cliente");
+                }
+            }
+        }
+    }
+
+    private static char sniffDelimiter(BufferedReader reader) throws IOException {
+        reader.mark(DELIMITER_SNIFF_CHARS);
+        char[] buffer = new char[DELIMITER_SNIFF_CHARS];
+        int read = reader.read(buffer);
+        reader.reset();
+        int commas = 0;
+        int semicolons = 0;
+        for (int i = 0; i < read && buffer[i] != '\n'; i++) {
+            if (buffer[i] == ',') {
+                commas++;
+            } else if (buffer[i] == ';') {
+                semicolons++;
+            }
+        }
+        return semicolons > commas ? ';' : ',';
+    }
+
+    private static String normalizeHeader(String value) {
+        String decomposed = Normalizer.normalize(value.trim(), Normalizer.Form.NFD);
+        return decomposed.replaceAll("\\p{M}", "").toLowerCase(Locale.ROOT);
+    }
+
+    private record PendingRow(long line, ClientUpsert client) {
+    }
+
+    private record ColumnMapping(int nameColumn, int phoneColumn) {
+        static final ColumnMapping DEFAULT = new ColumnMapping(0, 1);
+
+        static ColumnMapping fromHeader(List<String> values) {
+            int nameColumn = -1;
+            int phoneColumn = -1;
+            for (int i = 0; i < values.size(); i++) {
+                String header = normalizeHeader(values.get(i));
+                if (nameColumn < 0 && NAME_HEADERS.contains(header)) {
+                    nameColumn = i;
+                } else if (phoneColumn < 0 && PHONE_HEADERS.contains(header)) {
+                    phoneColumn = i;
+                }
+            }
+            if (nameColumn < 0 && phoneColumn < 0) {
+                return null;
+            }
+            if (nameColumn < 0 || phoneColumn < 0) {
+                throw new BusinessRuleException("El CSV debe tener columnas nombre y telefono");
+            }
+            return new ColumnMapping(nameColumn, phoneColumn);
+        }
+
+        String value(List<String> values, int column) {
+            return column < values.size() ? values.get(column).trim() : "";
+        }
+    }
+
+    private static final class ImportReport {
+        private final List<ClientImportRowError> errors = new ArrayList<>();
+        private long totalRows;
+        private long upsertedRows;
+        private long errorRows;
+
+        void error(long line, String message) {
+            errorRows++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ClientImportRowError(line, message));
+            }
+        }
+
+        ClientImportResponse toResponse() {
+            return new ClientImportResponse(totalRows, upsertedRows, errorRows, List.copyOf(errors), errorRows > errors.size());
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.barberia.stylebook.application.service;
+
+import com.barberia.stylebook.application.event.ClientsChangedEvent;
+import com.barberia.stylebook.application.exception.BusinessRuleException;
+import com.barberia.stylebook.repository.ClientRepository;
+import com.barberia.stylebook.web.dto.ClientLookupResponse;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Locale;
+
+@Service
+public class ClientLookupService {
+    static final String LOOKUP_CACHE = "clientLookups";
+
+    private static final int DEFAULT_LIMIT = 8;
+    private static final int MAX_LIMIT = 20;
+    private static final int MIN_PHONE_PREFIX_DIGITS = 3;
+    private static final int MIN_NAME_TERM_LENGTH = 2;
+    private static final int MAX_NAME_TERM_LENGTH = 120;
+
+    private final ClientRepository clientRepository;
+    private final CacheManager cacheManager;
+
+    public ClientLookupService(ClientRepository clientRepository, CacheManager cacheManager) {
+        this.clientRepository = clientRepository;
+        this.cacheManager = cacheManager;
+    }
+
+    @Transactional(readOnly = true)
+    public List<ClientLookupResponse> lookup(String rawQuery, int limit) {
+        String query = rawQuery == null ? "" : rawQuery.trim();
+        int boundedLimit = boundLimit(limit);
+
+        if (isPhoneQuery(query)) {
+            String digits = PhoneNormalizer.digitsOnly(query);
+            if (digits.length() < MIN_PHONE_PREFIX_DIGITS) {
+                throw new BusinessRuleException("Ingresa al menos " + MIN_PHONE_PREFIX_DIGITS + " digitos del telefono");
+            }
+            return lookupByPhonePrefix(digits, boundedLimit).toResponses(boundedLimit);
+        }
+
+        String term = query.toLowerCase(Locale.ROOT);
+        if (term.length() < MIN_NAME_TERM_LENGTH) {
+            throw new BusinessRuleException("Ingresa al menos " + MIN_NAME_TERM_LENGTH + " letras del nombre");
+        }
+        if (term.length() > MAX_NAME_TERM_LENGTH) {
+            term = term.substring(0, MAX_NAME_TERM_LENGTH);
+        }
+        return lookupByName(term, boundedLimit).toResponses(boundedLimit);
+    }
+
+    // Runs after commit; clearing earlier would let a concurrent lookup cache the pre-commit rows again.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onClientsChanged(ClientsChangedEvent event) {
+        Cache cache = cacheManager.getCache(LOOKUP_CACHE);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    private LookupResult lookupByPhonePrefix(String digits, int limit) {
+        Cache cache = cacheManager.getCache(LOOKUP_CACHE);
+        String key = "phone:" + limit + ":" + digits;
+        LookupResult cached = cached(cache, key);
+        if (cached != null) {
+            return cached;
+        }
+
+        // A complete result for a shorter prefix already contains every match for the longer one.
+        for (int length = digits.length() - 1; length >= MIN_PHONE_PREFIX_DIGITS; length--) {
+            LookupResult shorter = cached(cache, "phone:" + limit + ":" + digits.substring(0, length));
+            if (shorter != null && shorter.complete()) {
+                LookupResult narrowed = shorter.narrowToPhonePrefix(digits);
+                store(cache, key, narrowed);
+                return narrowed;
+            }
+        }
+
+        List<ClientRepository.ClientLookupProjection> rows = clientRepository
+                .findLookupByPhoneNormalizedPrefix(digits + "%", limit + 1);
+        LookupResult loaded = LookupResult.of(rows, limit);
+        store(cache, key, loaded);
+        return loaded;
+    }
+
+    private LookupResult lookupByName(String term, int limit) {
+        Cache cache = cacheManager.getCache(LOOKUP_CACHE);
+        String key = "name:" + limit + ":" + term;
+        LookupResult cached = cached(cache, key);
+        if (cached != null) {
+            return cached;
+        }
+        LookupResult loaded = LookupResult.of(
+                clientRepository.findLookupByNameSimilarity("%" + escapeLike(term) + "%", term, limit + 1),
+                limit
+        );
+        store(cache, key, loaded);
+        return loaded;
+    }
+
+    private static LookupResult cached(Cache cache, String key) {
+        return cache == null ? null : cache.get(key, LookupResult.class);
+    }
+
+    private static void store(Cache cache, String key, LookupResult result) {
+        if (cache != null) {
+            cache.put(key, result);
+        }
+    }
+
+    private static boolean isPhoneQuery(String query) {
+        if (query.isEmpty()) {
+            return false;
+        }
+        boolean hasDigit = false;
+        for (int i = 0; i < query.length(); i++) {
+            char current = query.charAt(i);
+            if (Character.isLetter(current)) {
+                return false;
+            }
+            if (current >= '0' && current <= '9') {
+                hasDigit = true;
+            }
+        }
+        return hasDigit;
+    }
+
+    private static String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char current = value.charAt(i);
+            if (current == '\\' || current == '%' || current == '_') {
+                escaped.append('\\');
+            }
+            escaped.append(current);
+        }
+        return escaped.toString();
+    }
+
+    private int boundLimit(int requestedLimit) {
+        if (requestedLimit <= 0) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.min(requestedLimit, MAX_LIMIT);
+    }
+
+    private record LookupEntry(ClientLookupResponse response, String phoneNormalized) {
+    }
+
+    private record LookupResult(List<LookupEntry> entries, boolean complete) {
+
+        static LookupResult of(List<ClientRepository.ClientLookupProjection> rows, int limit) {
+            List<LookupEntry> entries = rows.stream()
+                    .limit(limit)
+                    .map(row -> new LookupEntry(
+                            new ClientLookupResponse(row.getId(), row.getName(), row.getPhone()),
+                            row.getPhoneNormalized()
+                    ))
+                    .toList();
+            return new LookupResult(entries, rows.size() <= limit);
+        }
+
+        LookupResult narrowToPhonePrefix(String digits) {
+            List<LookupEntry> narrowed = entries.stream()
+                    .filter(entry -> entry.phoneNormalized().startsWith(digits))
+                    .toList();
+            return new LookupResult(narrowed, true);
+        }
+
+        List<ClientLookupResponse> toResponses(int limit) {
+            return entries.stream()
+                    .limit(limit)
+                    .map(LookupEntry::response)
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.barberia.stylebook.application.service;
+
+import com.barberia.stylebook.application.exception.BusinessRuleException;
+import com.barberia.stylebook.repository.AppointmentRepository;
+import com.barberia.stylebook.web.dto.RetentionCohortReportResponse;
+import com.barberia.stylebook.web.dto.RetentionCohortResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Return rates of clients grouped by the month of their first completed appointment. A cohort is closed once
+ * {@link #MAX_RETURN_DAYS} have passed since its last day; closed cohorts are cached per month and only the open
+ * or evicted ones are queried.
+ */
+@Service
+public class ClientRetentionService {
+    static final int MAX_RETURN_DAYS = 90;
+    private static final int DEFAULT_MONTHS = 12;
+    private static final int MAX_MONTHS = 36;
+
+    private final AppointmentRepository appointmentRepository;
+    private final CacheManager cacheManager;
+    private final ZoneId businessZone;
+
+    public ClientRetentionService(
+            AppointmentRepository appointmentRepository,
+            CacheManager cacheManager,
+            @Value("${app.business.timezone:America/Argentina/Buenos_Aires}") String businessTimezone
+    ) {
+        this.appointmentRepository = appointmentRepository;
+        this.cacheManager = cacheManager;
+        this.businessZone = ZoneId.of(businessTimezone);
+    }
+
+    @Transactional(readOnly = true)
+    public RetentionCohortReportResponse cohorts(YearMonth from, YearMonth to) {
+        YearMonth last = to == null ? YearMonth.now(businessZone) : to;
+        YearMonth first = from == null ? last.minusMonths(DEFAULT_MONTHS - 1L) : from;
+        if (last.isBefore(first)) {
+            throw new BusinessRuleException("El mes final debe ser igual o posterior al inicial");
+        }
+        if (ChronoUnit.MONTHS.between(first, last) >= MAX_MONTHS) {
+            throw new BusinessRuleException("El rango no puede superar " + MAX_MONTHS + " meses");
+        }
+
+        LocalDate today = LocalDate.now(businessZone);
+        Cache cache = cacheManager.getCache(AdminMetricsCacheService.RETENTION_COHORT_CACHE);
+        Map<YearMonth, RetentionCohortResponse> byMonth = new HashMap<>();
+        YearMonth firstMissing = null;
+        YearMonth lastMissing = null;
+        for (YearMonth month = first; !month.isAfter(last); month = month.plusMonths(1)) {
+            RetentionCohortResponse cached = cache != null && closed(month, today)
+                    ? cache.get(month, RetentionCohortResponse.class)
+                    : null;
+            if (cached != null) {
+                byMonth.put(month, cached);
+            } else {
+                firstMissing = firstMissing == null ? month : firstMissing;
+                lastMissing = month;
+            }
+        }
+        if (firstMissing != null) {
+            loadCohorts(firstMissing, lastMissing, today, cache, byMonth);
+        }
+
+        List<RetentionCohortResponse> cohorts = new ArrayList<>();
+        for (YearMonth month = first; !month.isAfter(last); month = month.plusMonths(1)) {
+            cohorts.add(byMonth.get(month));
+        }
+        return new RetentionCohortReportResponse(first, last, businessZone.getId(), cohorts);
+    }
+
+    private void loadCohorts(
+            YearMonth from,
+            YearMonth to,
+            LocalDate today,
+            Cache cache,
+            Map<YearMonth, RetentionCohortResponse> byMonth
+    ) {
+        Map<YearMonth, AppointmentRepository.RetentionCohortProjection> rows = new HashMap<>();
+        appointmentRepository.findRetentionCohorts(
+                        businessZone.getId(),
+                        from.atDay(1),
+                        to.atDay(1),
+                        to.plusMonths(1).atDay(1).plusDays(MAX_RETURN_DAYS + 1L).atStartOfDay(businessZone).toOffsetDateTime()
+                )
+                .forEach(row -> rows.put(YearMonth.from(row.getCohortMonth()), row));
+
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            if (byMonth.containsKey(month)) {
+                continue;
+            }
+            boolean closed = closed(month, today);
+            RetentionCohortResponse cohort = toResponse(month, rows.get(month), closed);
+            if (closed && cache != null) {
+                cache.put(month, cohort);
+            }
+            byMonth.put(month, cohort);
+        }
+    }
+
+    static boolean closed(YearMonth month, LocalDate today) {
+        return today.isAfter(month.atEndOfMonth().plusDays(MAX_RETURN_DAYS));
+    }
+
+    private static RetentionCohortResponse toResponse(
+            YearMonth month,
+            AppointmentRepository.RetentionCohortProjection row,
+            boolean closed
+    ) {
+        if (row == null) {
+            return new RetentionCohortResponse(month, 0, 0, 0, 0, 0, 0, 0, closed);
+        }
+        long clients = row.getClients();
+        return new RetentionCohortResponse(
+                month,
+                clients,
+                row.getReturnedWithin30Days(),
+                row.getReturnedWithin60Days(),
+                row.getReturnedWithin90Days(),
+                rate(row.getReturnedWithin30Days(), clients),
+                rate(row.getReturnedWithin60Days(), clients),
+                rate(row.getReturnedWithin90Days(), clients),
+                closed
+        );
+    }
+
+    private static double rate(long returned, long clients) {
+        return clients == 0 ? 0 : (double) returned / clients;
+    }
+}
@@ -0,0 +1,182 @@
+package com.barberia.stylebook.application.service;
+
+import com.barberia.stylebook.application.event.AppointmentChangedEvent;
+import com.barberia.stylebook.application.event.AppointmentSnapshot;
+import com.barberia.stylebook.application.exception.BusinessRuleException;
+import com.barberia.stylebook.domain.enums.ClientSegment;
+import com.barberia.stylebook.repository.ClientRfmStatsRepository;
+import com.barberia.stylebook.web.dto.ClientSegmentMemberResponse;
+import com.barberia.stylebook.web.dto.ClientSegmentPageResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+@Service
+public class ClientRfmService {
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final OffsetDateTime EARLIEST = OffsetDateTime.of(1970, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+    private static final BigDecimal FIRST_PAGE_MONETARY = new BigDecimal("999999999999.99");
+    private static final UUID FIRST_PAGE_CLIENT_ID = new UUID(0L, 0L);
+
+    private final ClientRfmStatsRepository clientRfmStatsRepository;
+    private final int atRiskDays;
+    private final int lostDays;
+    private final int loyalMinVisits;
+
+    public ClientRfmService(
+            ClientRfmStatsRepository clientRfmStatsRepository,
+            @Value("${app.clients.rfm.at-risk-days:60}") int atRiskDays,
+            @Value("${app.clients.rfm.lost-days:180}") int lostDays,
+            @Value("${app.clients.rfm.loyal-min-visits:4}") int loyalMinVisits
+    ) {
+        this.clientRfmStatsRepository = clientRfmStatsRepository;
+        this.atRiskDays = Math.max(1, atRiskDays);
+        this.lostDays = Math.max(this.atRiskDays + 1, lostDays);
+        this.loyalMinVisits = Math.max(2, loyalMinVisits);
+    }
+
+    @EventListener
+    public void onAppointmentChanged(AppointmentChangedEvent event) {
+        AppointmentSnapshot before = event.before();
+        AppointmentSnapshot after = event.after();
+        boolean wasCompleted = before != null && before.completed();
+        boolean isCompleted = after != null && after.completed();
+
+        if (!wasCompleted) {
+            if (isCompleted) {
+                clientRfmStatsRepository.addCompletedVisit(after.clientId(), priceOf(after), after.appointmentAt());
+            }
+            return;
+        }
+        if (isCompleted && sameContribution(before, after)) {
+            return;
+        }
+        // Removing a visit can move first/last visit dates, so the affected clients are rebuilt from their history.
+        Set<UUID> affected = new LinkedHashSet<>();
+        affected.add(before.clientId());
+        if (isCompleted) {
+            affected.add(after.clientId());
+        }
+        recompute(affected);
+    }
+
+    @Transactional
+    public void recompute(Collection<UUID> clientIds) {
+        if (clientIds.isEmpty()) {
+            return;
+        }
+        clientRfmStatsRepository.deleteByClientIds(clientIds);
+        clientRfmStatsRepository.insertFromCompletedAppointments(clientIds);
+    }
+
+    @Transactional(readOnly = true)
+    public ClientSegmentPageResponse listSegment(ClientSegment segment, String cursor, int limit) {
+        int boundedLimit = boundPageSize(limit);
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        OffsetDateTime atRiskSince = now.minusDays(atRiskDays);
+        OffsetDateTime lostSince = now.minusDays(lostDays);
+
+        OffsetDateTime lastCompletedFrom = switch (segment) {
+            case NEW, ACTIVE, LOYAL -> atRiskSince;
+            case AT_RISK -> lostSince;
+            case LOST -> EARLIEST;
+        };
+        OffsetDateTime lastCompletedTo = switch (segment) {
+            case NEW, ACTIVE, LOYAL -> now.plusYears(100);
+            case AT_RISK -> atRiskSince;
+            case LOST -> lostSince;
+        };
+        long minCompleted = switch (segment) {
+            case NEW, AT_RISK, LOST -> 1;
+            case ACTIVE -> 2;
+            case LOYAL -> loyalMinVisits;
+        };
+        long maxCompleted = switch (segment) {
+            case NEW -> 1;
+            case ACTIVE -> loyalMinVisits - 1;
+            case LOYAL, AT_RISK, LOST -> Long.MAX_VALUE;
+        };
+
+        PageCursor after = cursor == null || cursor.isBlank() ? null : PageCursor.decode(cursor);
+        List<ClientRfmStatsRepository.ClientSegmentRowProjection> rows = clientRfmStatsRepository.findSegmentPage(
+                lastCompletedFrom,
+                lastCompletedTo,
+                minCompleted,
+                maxCompleted,
+                after == null ? FIRST_PAGE_MONETARY : after.monetaryTotal(),
+                after == null ? FIRST_PAGE_CLIENT_ID : after.clientId(),
+                PageRequest.of(0, boundedLimit + 1)
+        );
+
+        List<ClientSegmentMemberResponse> items = rows.stream()
+                .limit(boundedLimit)
+                .map(row -> new ClientSegmentMemberResponse(
+                        row.getClientId(),
+                        row.getClientName(),
+                        row.getClientPhone(),
+                        row.getCompletedCount(),
+                        row.getMonetaryTotal(),
+                        row.getLastCompletedAt(),
+                        Math.max(0, Duration.between(row.getLastCompletedAt(), now).toDays())
+                ))
+                .toList();
+        String nextCursor = rows.size() > boundedLimit
+                ? new PageCursor(items.getLast().monetaryTotal(), items.getLast().clientId()).encode()
+                : null;
+        return new ClientSegmentPageResponse(segment, items, nextCursor);
+    }
+
+    private static boolean sameContribution(AppointmentSnapshot before, AppointmentSnapshot after) {
+        return before.clientId().equals(after.clientId())
+                && Objects.equals(before.appointmentAt(), after.appointmentAt())
+                && priceOf(before).compareTo(priceOf(after)) == 0;
+    }
+
+    private static BigDecimal priceOf(AppointmentSnapshot snapshot) {
+        return snapshot.price() == null ? BigDecimal.ZERO : snapshot.price();
+    }
+
+    private int boundPageSize(int requestedLimit) {
+        if (requestedLimit <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(requestedLimit, MAX_PAGE_SIZE);
+    }
+
+    private record PageCursor(BigDecimal monetaryTotal, UUID clientId) {
+
+        static PageCursor decode(String cursor) {
+            try {
+                String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = decoded.indexOf('|');
+                return new PageCursor(
+                        new BigDecimal(decoded.substring(0, separator)),
+                        UUID.fromString(decoded.substring(separator + 1))
+                );
+            } catch (RuntimeException ex) {
+                throw new BusinessRuleException("Cursor de paginacion invalido");
+            }
+        }
+
+        String encode() {
+            String raw = monetaryTotal.toPlainString() + "|" + clientId;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
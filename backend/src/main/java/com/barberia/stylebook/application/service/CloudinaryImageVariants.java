@@ -0,0 +1,63 @@
+package com.barberia.stylebook.application.service;
+
+import com.barberia.stylebook.web.dto.GalleryImageVariantResponse;
+import com.barberia.stylebook.web.dto.GalleryImageVariantsResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Derives Cloudinary delivery URLs for responsive images: one {@code f_auto,q_auto} variant per configured width and a
+ * tiny blurred placeholder. Our transformation is chained after any the stored URL already carries, right before the
+ * version segment. URLs that are not Cloudinary uploads get no variants.
+ */
+@Service
+public class CloudinaryImageVariants {
+    private static final Pattern VERSIONED_UPLOAD_URL = Pattern.compile(
+            "^(https?://res\\.cloudinary\\.com/[^/]+/image/upload/(?:[^/]+/)*?)(v\\d+/.+)$"
+    );
+    // Without a version segment transformations cannot be told apart from folders, so the path is taken as-is.
+    private static final Pattern UPLOAD_URL = Pattern.compile("^(https?://res\\.cloudinary\\.com/[^/]+/image/upload/)(.+)$");
+    private static final String PLACEHOLDER_TRANSFORMATION = "f_auto,q_auto:low,w_32,e_blur:200";
+
+    private final int[] widths;
+
+    public CloudinaryImageVariants(@Value("${app.cloudinary.variant-widths:320,640,960,1280,1920}") int[] widths) {
+        this.widths = Arrays.stream(widths).filter(width -> width > 0).sorted().distinct().toArray();
+    }
+
+    public GalleryImageVariantsResponse variants(String imageUrl) {
+        if (imageUrl == null || widths.length == 0) {
+            return null;
+        }
+        Matcher matcher = VERSIONED_UPLOAD_URL.matcher(imageUrl);
+        if (!matcher.matches()) {
+            matcher = UPLOAD_URL.matcher(imageUrl);
+            if (!matcher.matches()) {
+                return null;
+            }
+        }
+        String prefix = matcher.group(1);
+        String asset = matcher.group(2);
+        List<GalleryImageVariantResponse> variants = Arrays.stream(widths)
+                .mapToObj(width -> new GalleryImageVariantResponse(
+                        width,
+                        prefix + "f_auto,q_auto,c_limit,w_" + width + "/" + asset
+                ))
+                .toList();
+        String srcset = variants.stream()
+                .map(variant -> variant.url() + " " + variant.width() + "w")
+                .collect(Collectors.joining(", "));
+        return new GalleryImageVariantsResponse(
+                variants.getLast().url(),
+                srcset,
+                prefix + PLACEHOLDER_TRANSFORMATION + "/" + asset,
+                variants
+        );
+    }
+}
@@ -0,0 +1,106 @@
+package com.barberia.stylebook.application.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+final class CsvRecordReader {
+    private static final int NONE = -2;
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final Reader reader;
+    private final char delimiter;
+    private final StringBuilder field = new StringBuilder();
+    private int pushedBack = NONE;
+    private boolean started;
+    private long line = 1;
+    private long recordLine = 1;
+
+    CsvRecordReader(Reader reader, char delimiter) {
+        this.reader = reader;
+        this.delimiter = delimiter;
+    }
+
+    long recordLine() {
+        return recordLine;
+    }
+
+    List<String> next() throws IOException {
+        int current = read();
+        while (current == '\r' || current == '\n') {
+            endLine(current);
+            current = read();
+        }
+        if (current == -1) {
+            return null;
+        }
+
+        recordLine = line;
+        List<String> values = new ArrayList<>();
+        field.setLength(0);
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (current == '"') {
+                    int following = read();
+                    if (following != '"') {
+                        quoted = false;
+                        current = following;
+                        continue;
+                    }
+                    field.append('"');
+                } else if (current == -1) {
+                    values.add(field.toString());
+                    return values;
+                } else {
+                    if (current == '\n') {
+                        line++;
+                    }
+                    field.append((char) current);
+                }
+            } else if (current == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (current == delimiter) {
+                values.add(field.toString());
+                field.setLength(0);
+            } else if (current == '\r' || current == '\n') {
+                values.add(field.toString());
+                endLine(current);
+                return values;
+            } else if (current == -1) {
+                values.add(field.toString());
+                return values;
+            } else {
+                field.append((char) current);
+            }
+            current = read();
+        }
+    }
+
+    private void endLine(int current) throws IOException {
+        line++;
+        if (current == '\r') {
+            int following = read();
+            if (following != '\n') {
+                pushedBack = following;
+            }
+        }
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != NONE) {
+            int value = pushedBack;
+            pushedBack = NONE;
+            return value;
+        }
+        int value = reader.read();
+        if (!started) {
+            started = true;
+            if (value == BYTE_ORDER_MARK) {
+                value = reader.read();
+            }
+        }
+        return value;
+    }
+}
@@ -0,0 +1,149 @@
+package com.barberia.stylebook.application.service;
+
+import com.barberia.stylebook.application.event.AppointmentChangedEvent;
+import com.barberia.stylebook.application.event.AppointmentSnapshot;
+import com.barberia.stylebook.application.exception.BusinessRuleException;
+import com.barberia.stylebook.domain.enums.AppointmentStatus;
+import com.barberia.stylebook.repository.AppointmentBulkOperations.AppointmentCount;
+import com.barberia.stylebook.repository.DailyIncomeRollupRepository;
+import com.barberia.stylebook.web.dto.IncomeRollupRebuildResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Keeps {@code daily_income_rollups} in step with completed appointments and manual income, so income reports
+ * sum one row per day and service instead of scanning appointments. Days are UTC, like the monthly report.
+ */
+@Service
+public class DailyIncomeRollupService {
+    static final ZoneOffset ROLLUP_ZONE = ZoneOffset.UTC;
+    private static final Logger log = LoggerFactory.getLogger(DailyIncomeRollupService.class);
+
+    private final DailyIncomeRollupRepository dailyIncomeRollupRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public DailyIncomeRollupService(
+            DailyIncomeRollupRepository dailyIncomeRollupRepository,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.dailyIncomeRollupRepository = dailyIncomeRollupRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener
+    public void onAppointmentChanged(AppointmentChangedEvent event) {
+        AppointmentSnapshot before = completedOrNull(event.before());
+        AppointmentSnapshot after = completedOrNull(event.after());
+        if (before != null && after != null && sameIncome(before, after)) {
+            return;
+        }
+        if (before != null) {
+            dailyIncomeRollupRepository.incrementService(day(before), before.serviceId(), -1, before.price().negate());
+        }
+        if (after != null) {
+            dailyIncomeRollupRepository.incrementService(day(after), after.serviceId(), 1, after.price());
+        }
+    }
+
+    /**
+     * Must run before the appointments of {@code clientIds} are deleted, in the same transaction.
+     */
+    @Transactional
+    public void removeClientAppointments(Collection<UUID> clientIds) {
+        dailyIncomeRollupRepository.subtractCompletedForClients(clientIds);
+    }
+
+    @Transactional
+    public void subtractDeleted(List<AppointmentCount> deleted) {
+        deleted.stream()
+                .filter(count -> count.status() == AppointmentStatus.COMPLETED)
+                .forEach(count -> dailyIncomeRollupRepository.incrementService(
+                        count.day(),
+                        count.serviceId(),
+                        -count.count(),
+                        count.total().negate()
+                ));
+    }
+
+    @Transactional
+    public void addManualIncome(LocalDate day, BigDecimal amount, BigDecimal tipAmount) {
+        dailyIncomeRollupRepository.incrementManual(day, 1, amount, tipAmount.signum() > 0 ? 1 : 0, tipAmount);
+    }
+
+    @Transactional
+    public void subtractManualIncome(LocalDate day, BigDecimal amount, BigDecimal tipAmount) {
+        dailyIncomeRollupRepository.incrementManual(
+                day,
+                -1,
+                amount.negate(),
+                tipAmount.signum() > 0 ? -1 : 0,
+                tipAmount.negate()
+        );
+    }
+
+    /**
+     * Recomputes the rollups of {@code [from, to]} from the source tables, one month per transaction. Null bounds
+     * default to the first and last day with income.
+     */
+    public IncomeRollupRebuildResponse rebuild(LocalDate from, LocalDate to) {
+        LocalDate start = from != null ? from : dailyIncomeRollupRepository.findEarliestIncomeDay();
+        LocalDate last = to != null ? to : dailyIncomeRollupRepository.findLatestIncomeDay();
+        if (start == null || last == null) {
+            return new IncomeRollupRebuildResponse(from, to, 0);
+        }
+        if (last.isBefore(start)) {
+            throw new BusinessRuleException("La fecha final debe ser igual o posterior a la inicial");
+        }
+
+        LocalDate end = last.plusDays(1);
+        for (LocalDate chunkStart = start; chunkStart.isBefore(end); ) {
+            LocalDate chunkEnd = min(chunkStart.withDayOfMonth(1).plusMonths(1), end);
+            LocalDate rangeStart = chunkStart;
+            transactionTemplate.executeWithoutResult(status -> rebuildRange(rangeStart, chunkEnd));
+            chunkStart = chunkEnd;
+        }
+        long days = ChronoUnit.DAYS.between(start, end);
+        log.info("Daily income rollups rebuilt from {} to {} ({} days)", start, last, days);
+        return new IncomeRollupRebuildResponse(start, last, days);
+    }
+
+    private void rebuildRange(LocalDate from, LocalDate to) {
+        dailyIncomeRollupRepository.deleteByDayRange(from, to);
+        dailyIncomeRollupRepository.insertCompletedAppointments(
+                from.atStartOfDay().atOffset(ROLLUP_ZONE),
+                to.atStartOfDay().atOffset(ROLLUP_ZONE)
+        );
+        dailyIncomeRollupRepository.insertManualEntries(from, to);
+    }
+
+    private static AppointmentSnapshot completedOrNull(AppointmentSnapshot snapshot) {
+        return snapshot != null && snapshot.status() == AppointmentStatus.COMPLETED ? snapshot : null;
+    }
+
+    private static boolean sameIncome(AppointmentSnapshot before, AppointmentSnapshot after) {
+        return day(before).equals(day(after))
+                && before.serviceId().equals(after.serviceId())
+                && before.price().compareTo(after.price()) == 0;
+    }
+
+    private static LocalDate day(AppointmentSnapshot snapshot) {
+        return snapshot.appointmentAt().atZoneSameInstant(ROLLUP_ZONE).toLocalDate();
+    }
+
+    private static LocalDate min(LocalDate first, LocalDate second) {
+        return first.isBefore(second) ? first : second;
+    }
+}
@@ -1,39 +1,112 @@
 package com.barberia.stylebook.application.service;
 
+import com.barberia.stylebook.application.event.GalleryImageUrlReleasedEvent;
 import com.barberia.stylebook.application.exception.BusinessRuleException;
 import com.barberia.stylebook.application.exception.NotFoundException;
 import com.barberia.stylebook.domain.entity.GalleryImage;
 import com.barberia.stylebook.repository.GalleryImageRepository;
 import com.barberia.stylebook.web.dto.AdminGalleryImageUpsertRequest;
+import com.barberia.stylebook.web.dto.GalleryImagePageResponse;
 import com.barberia.stylebook.web.dto.GalleryImageResponse;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class GalleryImageService {
     private static final int DEFAULT_PAGE_SIZE = 500;
     private static final int MAX_PAGE_SIZE = 1000;
+    private static final int DEFAULT_PUBLIC_PAGE_SIZE = 24;
+    private static final int MAX_PUBLIC_PAGE_SIZE = 100;
 
     private final GalleryImageRepository galleryImageRepository;
+    private final JsonMapper jsonMapper;
+    private final CloudinaryImageVariants imageVariants;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public GalleryImageService(GalleryImageRepository galleryImageRepository) {
+    public GalleryImageService(
+            GalleryImageRepository galleryImageRepository,
+            JsonMapper jsonMapper,
+            CloudinaryImageVariants imageVariants,
+            ApplicationEventPublisher eventPublisher
+    ) {
         this.galleryImageRepository = galleryImageRepository;
+        this.jsonMapper = jsonMapper;
+        this.imageVariants = imageVariants;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional(readOnly = true)
     @Cacheable(cacheNames = "publicGallery")
+    public PublicPayload publicPayload() {
+        return loadPublicPayload();
+    }
+
+    @Transactional(readOnly = true)
+    public PublicPayload loadPublicPayload() {
+        return PublicPayload.of(jsonMapper, listPublic());
+    }
+
+    @Transactional(readOnly = true)
     public List<GalleryImageResponse> listPublic() {
         return galleryImageRepository.findAllByActiveTrueOrderBySortOrderAscCreatedAtDesc().stream()
                 .map(this::toResponse)
                 .toList();
     }
 
+    /**
+     * One page of the active gallery, optionally restricted to a category. Each normalized category/cursor/limit
+     * combination is cached on its own, so infinite scroll only pays for the pages it actually requests.
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = "publicGalleryPages")
+    public PublicPayload publicPagePayload(PublicPageQuery query) {
+        return PublicPayload.of(jsonMapper, listPublicPage(query));
+    }
+
+    @Transactional(readOnly = true)
+    public GalleryImagePageResponse listPublicPage(String category, String cursor, int limit) {
+        return listPublicPage(PublicPageQuery.of(category, cursor, limit));
+    }
+
+    @Transactional(readOnly = true)
+    public GalleryImagePageResponse listPublicPage(PublicPageQuery query) {
+        PageCursor after = query.after() == null ? PageCursor.FIRST_PAGE : query.after();
+        PageRequest pageRequest = PageRequest.of(0, query.limit() + 1);
+        List<GalleryImage> rows = query.category() == null
+                ? galleryImageRepository.findPublicPage(after.sortOrder(), after.createdAt(), after.id(), pageRequest)
+                : galleryImageRepository.findPublicPageByCategory(
+                        query.category(),
+                        after.sortOrder(),
+                        after.createdAt(),
+                        after.id(),
+                        pageRequest
+                );
+
+        List<GalleryImage> page = rows.stream().limit(query.limit()).toList();
+        String nextCursor = rows.size() > query.limit()
+                ? new PageCursor(page.getLast().getSortOrder(), page.getLast().getCreatedAt(), page.getLast().getId())
+                        .encode()
+                : null;
+        return new GalleryImagePageResponse(page.stream().map(this::toResponse).toList(), nextCursor);
+    }
+
     @Transactional(readOnly = true)
     public List<GalleryImageResponse> listAdmin() {
         return listAdmin(DEFAULT_PAGE_SIZE);
@@ -54,7 +127,7 @@ public class GalleryImageService {
     }
 
     @Transactional
-    @CacheEvict(cacheNames = "publicGallery", allEntries = true)
+    @CacheEvict(cacheNames = {"publicGallery", "publicGalleryPages"}, allEntries = true)
     public GalleryImageResponse create(AdminGalleryImageUpsertRequest request) {
         GalleryImage image = new GalleryImage();
         apply(image, request);
@@ -62,21 +135,61 @@ public class GalleryImageService {
     }
 
     @Transactional
-    @CacheEvict(cacheNames = "publicGallery", allEntries = true)
+    @CacheEvict(cacheNames = {"publicGallery", "publicGalleryPages"}, allEntries = true)
     public GalleryImageResponse update(UUID id, AdminGalleryImageUpsertRequest request) {
         GalleryImage image = galleryImageRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Imagen no encontrada"));
 
+        String previousUrl = image.getImageUrl();
         apply(image, request);
-        return toResponse(galleryImageRepository.save(image));
+        GalleryImageResponse response = toResponse(galleryImageRepository.save(image));
+        if (!previousUrl.equals(image.getImageUrl())) {
+            releaseUrl(previousUrl);
+        }
+        return response;
     }
 
     @Transactional
-    @CacheEvict(cacheNames = "publicGallery", allEntries = true)
+    @CacheEvict(cacheNames = {"publicGallery", "publicGalleryPages"}, allEntries = true)
     public void delete(UUID id) {
         GalleryImage image = galleryImageRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Imagen no encontrada"));
         galleryImageRepository.delete(image);
+        releaseUrl(image.getImageUrl());
+    }
+
+    private void releaseUrl(String imageUrl) {
+        if (!galleryImageRepository.existsByImageUrl(imageUrl)) {
+            eventPublisher.publishEvent(new GalleryImageUrlReleasedEvent(imageUrl));
+        }
+    }
+
+    /**
+     * Applies a full new ordering in one transaction. Images whose keys already fit the new order keep them, so
+     * moving a single photo usually updates a single row.
+     */
+    @Transactional
+    @CacheEvict(cacheNames = {"publicGallery", "publicGalleryPages"}, allEntries = true)
+    public List<GalleryImageResponse> reorder(List<UUID> imageIds) {
+        Set<UUID> uniqueIds = new HashSet<>(imageIds);
+        if (uniqueIds.size() != imageIds.size()) {
+            throw new BusinessRuleException("Una foto no puede aparecer dos veces en el orden");
+        }
+        Map<UUID, GalleryImage> imagesById = galleryImageRepository.findAll().stream()
+                .collect(Collectors.toMap(GalleryImage::getId, Function.identity()));
+        if (!imagesById.keySet().equals(uniqueIds)) {
+            throw new BusinessRuleException("El nuevo orden debe incluir todas las fotos de la galeria");
+        }
+
+        List<GalleryImage> ordered = imageIds.stream().map(imagesById::get).toList();
+        int[] keys = GallerySortKeys.assign(ordered.stream().mapToInt(GalleryImage::getSortOrder).toArray());
+        for (int index = 0; index < keys.length; index++) {
+            GalleryImage image = ordered.get(index);
+            if (image.getSortOrder() != keys[index]) {
+                image.setSortOrder(keys[index]);
+            }
+        }
+        return ordered.stream().map(this::toResponse).toList();
     }
 
     private void apply(GalleryImage image, AdminGalleryImageUpsertRequest request) {
@@ -103,6 +216,48 @@ public class GalleryImageService {
         }
     }
 
+    /**
+     * A public page request with category, cursor and limit normalized. It doubles as the cache key, so requests
+     * that differ only in spacing, cursor encoding or an out-of-range limit share one entry.
+     */
+    public record PublicPageQuery(String category, PageCursor after, int limit) {
+
+        public static PublicPageQuery of(String category, String cursor, int limit) {
+            return new PublicPageQuery(
+                    category == null || category.isBlank() ? null : category.trim(),
+                    cursor == null || cursor.isBlank() ? null : PageCursor.decode(cursor),
+                    limit <= 0 ? DEFAULT_PUBLIC_PAGE_SIZE : Math.min(limit, MAX_PUBLIC_PAGE_SIZE)
+            );
+        }
+    }
+
+    record PageCursor(int sortOrder, OffsetDateTime createdAt, UUID id) {
+        static final PageCursor FIRST_PAGE = new PageCursor(
+                Integer.MIN_VALUE,
+                OffsetDateTime.of(9999, 12, 31, 0, 0, 0, 0, ZoneOffset.UTC),
+                new UUID(-1L, -1L)
+        );
+
+        static PageCursor decode(String cursor) {
+            try {
+                String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                String[] parts = decoded.split("\\|", 3);
+                return new PageCursor(
+                        Integer.parseInt(parts[0]),
+                        OffsetDateTime.parse(parts[1]),
+                        UUID.fromString(parts[2])
+                );
+            } catch (RuntimeException ex) {
+                throw new BusinessRuleException("Cursor de paginacion invalido");
+            }
+        }
+
+        String encode() {
+            String raw = sortOrder + "|" + createdAt + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
     private GalleryImageResponse toResponse(GalleryImage image) {
         return new GalleryImageResponse(
                 image.getId(),
@@ -110,7 +265,8 @@ public class GalleryImageService {
                 image.getCategory(),
                 image.getImageUrl(),
                 image.getSortOrder(),
-                image.getActive()
+                image.getActive(),
+                imageVariants.variants(image.getImageUrl())
         );
     }
 
@@ -0,0 +1,87 @@
+package com.barberia.stylebook.application.service;
+
+import java.util.Arrays;
+
+/**
+ * Assigns gallery sort keys for a new ordering while rewriting as few rows as possible. The longest run of images
+ * whose current keys are already increasing in the new order keeps its keys; every other image gets a key spread
+ * evenly inside the gap left by its kept neighbours. Only when some gap is too narrow is the whole gallery
+ * renumbered in steps of {@link #GAP}, which leaves room for later moves.
+ */
+final class GallerySortKeys {
+    static final int GAP = 1024;
+
+    private GallerySortKeys() {
+    }
+
+    /**
+     * @param currentKeys current sort key of each image, listed in the desired order
+     * @return the key each image should have, index for index
+     */
+    static int[] assign(int[] currentKeys) {
+        int size = currentKeys.length;
+        boolean[] kept = longestIncreasingRun(currentKeys);
+        int[] keys = new int[size];
+        int index = 0;
+        while (index < size) {
+            if (kept[index]) {
+                keys[index] = currentKeys[index];
+                index++;
+                continue;
+            }
+            int start = index;
+            while (index < size && !kept[index]) {
+                index++;
+            }
+            int moved = index - start;
+            long low = start == 0 ? -1L : keys[start - 1];
+            long high = index == size ? low + (long) (moved + 1) * GAP : currentKeys[index];
+            long step = (Math.min(high, Integer.MAX_VALUE) - low) / (moved + 1);
+            if (step < 1) {
+                return renumbered(size);
+            }
+            for (int offset = 0; offset < moved; offset++) {
+                keys[start + offset] = (int) (low + step * (offset + 1));
+            }
+        }
+        return keys;
+    }
+
+    private static int[] renumbered(int size) {
+        if ((long) size * GAP > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Demasiadas fotos para renumerar el orden");
+        }
+        int[] keys = new int[size];
+        Arrays.setAll(keys, index -> (index + 1) * GAP);
+        return keys;
+    }
+
+    private static boolean[] longestIncreasingRun(int[] values) {
+        int size = values.length;
+        int[] tailIndex = new int[size];
+        int[] previous = new int[size];
+        int length = 0;
+        for (int index = 0; index < size; index++) {
+            int low = 0;
+            int high = length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (values[tailIndex[middle]] < values[index]) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            previous[index] = low == 0 ? -1 : tailIndex[low - 1];
+            tailIndex[low] = index;
+            if (low == length) {
+                length++;
+            }
+        }
+        boolean[] kept = new boolean[size];
+        for (int index = length == 0 ? -1 : tailIndex[length - 1]; index >= 0; index = previous[index]) {
+            kept[index] = true;
+        }
+        return kept;
+    }
+}
@@ -0,0 +1,159 @@
+package com.barberia.stylebook.application.service;
+
+import com.barberia.stylebook.application.event.GalleryImageUrlReleasedEvent;
+import com.barberia.stylebook.application.exception.BusinessRuleException;
+import com.barberia.stylebook.application.exception.NotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Gallery storage on the local filesystem for self-hosted deployments without Cloudinary. Uploads are moved to
+ * disk under a random name and never rewritten, so they can be served with immutable cache headers.
+ */
+@Service
+public class LocalGalleryStorageService {
+    /**
+     * Stored rows keep this relative path, so they survive host changes and proxies; clients resolve it against
+     * the API base URL.
+     */
+    public static final String PUBLIC_PATH = "/api/public/gallery/files/";
+
+    private static final Logger log = LoggerFactory.getLogger(LocalGalleryStorageService.class);
+    private static final Pattern STORED_NAME = Pattern.compile("[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}\\.(jpg|png|webp|gif)");
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            "jpg", "image/jpeg",
+            "png", "image/png",
+            "webp", "image/webp",
+            "gif", "image/gif"
+    );
+    private static final int SIGNATURE_LENGTH = 12;
+
+    private final boolean enabled;
+    private final Path directory;
+
+    public LocalGalleryStorageService(
+            @Value("${app.gallery.local-storage.enabled:false}") boolean enabled,
+            @Value("${app.gallery.local-storage.directory:./data/gallery}") String directory
+    ) {
+        this.enabled = enabled;
+        this.directory = Path.of(directory).toAbsolutePath().normalize();
+    }
+
+    /**
+     * Stores the upload and returns its file name. The format is taken from the file's magic bytes, never from the
+     * client's name or content type, so nothing but images is ever served back from our origin.
+     */
+    public String store(MultipartFile file) {
+        requireEnabled();
+        if (file == null || file.isEmpty()) {
+            throw new BusinessRuleException("Selecciona una imagen para subir");
+        }
+        String extension = detectExtension(file);
+        if (extension == null) {
+            throw new BusinessRuleException("Formato de imagen no soportado (usa JPG, PNG, WebP o GIF)");
+        }
+
+        String name = UUID.randomUUID() + "." + extension;
+        try {
+            Files.createDirectories(directory);
+            // Multipart parts already spooled to disk are renamed into place instead of being copied through the heap.
+            file.transferTo(directory.resolve(name));
+        } catch (IOException ex) {
+            throw new UncheckedIOException("No se pudo guardar la imagen", ex);
+        }
+        return name;
+    }
+
+    public String publicPath(String name) {
+        return PUBLIC_PATH + name;
+    }
+
+    // Runs after commit, so a rolled-back delete never loses its file.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onImageUrlReleased(GalleryImageUrlReleasedEvent event) {
+        String imageUrl = event.imageUrl();
+        if (!enabled || imageUrl == null || !imageUrl.startsWith(PUBLIC_PATH)) {
+            return;
+        }
+        String name = imageUrl.substring(PUBLIC_PATH.length());
+        if (!STORED_NAME.matcher(name).matches()) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(directory.resolve(name));
+        } catch (IOException ex) {
+            log.warn("No se pudo borrar la imagen local {}: {}", name, ex.getMessage());
+        }
+    }
+
+    public StoredFile resolve(String name) {
+        requireEnabled();
+        if (name == null || !STORED_NAME.matcher(name).matches()) {
+            throw new NotFoundException("Imagen no encontrada");
+        }
+        Path path = directory.resolve(name);
+        if (!Files.isRegularFile(path)) {
+            throw new NotFoundException("Imagen no encontrada");
+        }
+        String extension = name.substring(name.lastIndexOf('.') + 1);
+        return new StoredFile(path, name, CONTENT_TYPES.get(extension));
+    }
+
+    private void requireEnabled() {
+        if (!enabled) {
+            throw new BusinessRuleException("El almacenamiento local de la galeria no esta habilitado");
+        }
+    }
+
+    private static String detectExtension(MultipartFile file) {
+        byte[] head;
+        try (InputStream input = file.getInputStream()) {
+            head = input.readNBytes(SIGNATURE_LENGTH);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("No se pudo leer la imagen", ex);
+        }
+        if (startsWith(head, 0xFF, 0xD8, 0xFF)) {
+            return "jpg";
+        }
+        if (startsWith(head, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) {
+            return "png";
+        }
+        if (startsWith(head, 'G', 'I', 'F', '8')) {
+            return "gif";
+        }
+        if (startsWith(head, 'R', 'I', 'F', 'F') && head.length >= 12
+                && Arrays.equals(head, 8, 12, new byte[]{'W', 'E', 'B', 'P'}, 0, 4)) {
+            return "webp";
+        }
+        return null;
+    }
+
+    private static boolean startsWith(byte[] bytes, int... prefix) {
+        if (bytes.length < prefix.length) {
+            return false;
+        }
+        for (int index = 0; index < prefix.length; index++) {
+            if ((bytes[index] & 0xFF) != prefix[index]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public record StoredFile(Path path, String name, String contentType) {
+    }
+}
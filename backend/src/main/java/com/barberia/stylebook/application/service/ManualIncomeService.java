@@ -1,55 +1,95 @@
 package com.barberia.stylebook.application.service;
 
+import com.barberia.stylebook.application.event.ManualIncomeChangedEvent;
 import com.barberia.stylebook.application.exception.BusinessRuleException;
 import com.barberia.stylebook.application.exception.NotFoundException;
 import com.barberia.stylebook.domain.entity.ManualIncomeEntry;
 import com.barberia.stylebook.repository.ManualIncomeEntryRepository;
 import com.barberia.stylebook.web.dto.CreateManualIncomeRequest;
 import com.barberia.stylebook.web.dto.ManualIncomeEntryResponse;
+import com.barberia.stylebook.web.dto.ManualIncomeLedgerPageResponse;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
 import java.util.List;
 import java.util.UUID;
 
 @Service
 public class ManualIncomeService {
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
 
     private final ManualIncomeEntryRepository manualIncomeEntryRepository;
+    private final DailyIncomeRollupService dailyIncomeRollupService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public ManualIncomeService(ManualIncomeEntryRepository manualIncomeEntryRepository) {
+    public ManualIncomeService(
+            ManualIncomeEntryRepository manualIncomeEntryRepository,
+            DailyIncomeRollupService dailyIncomeRollupService,
+            ApplicationEventPublisher eventPublisher
+    ) {
         this.manualIncomeEntryRepository = manualIncomeEntryRepository;
+        this.dailyIncomeRollupService = dailyIncomeRollupService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
     public ManualIncomeEntryResponse create(CreateManualIncomeRequest request) {
         ManualIncomeEntry entry = new ManualIncomeEntry();
         apply(entry, request);
-        return toResponse(manualIncomeEntryRepository.save(entry));
+        ManualIncomeEntry saved = manualIncomeEntryRepository.save(entry);
+        dailyIncomeRollupService.addManualIncome(saved.getOccurredOn(), saved.getAmount(), saved.getTipAmount());
+        eventPublisher.publishEvent(new ManualIncomeChangedEvent(null, saved.getOccurredOn()));
+        return toResponse(saved);
     }
 
     @Transactional(readOnly = true)
-    public List<ManualIncomeEntryResponse> list() {
-        return manualIncomeEntryRepository.findAllByOrderByOccurredOnDescCreatedAtDesc()
-                .stream()
-                .map(this::toResponse)
-                .toList();
+    public ManualIncomeLedgerPageResponse ledger(String cursor, int limit) {
+        int boundedLimit = limit <= 0 ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+        LedgerCursor after = cursor == null || cursor.isBlank() ? LedgerCursor.FIRST_PAGE : LedgerCursor.decode(cursor);
+        List<ManualIncomeEntry> rows = manualIncomeEntryRepository.findLedgerPage(
+                after.occurredOn(),
+                after.createdAt(),
+                after.id(),
+                PageRequest.of(0, boundedLimit + 1)
+        );
+
+        List<ManualIncomeEntry> page = rows.stream().limit(boundedLimit).toList();
+        String nextCursor = rows.size() > boundedLimit
+                ? new LedgerCursor(page.getLast().getOccurredOn(), page.getLast().getCreatedAt(), page.getLast().getId())
+                        .encode()
+                : null;
+        return new ManualIncomeLedgerPageResponse(page.stream().map(this::toResponse).toList(), nextCursor);
     }
 
     @Transactional
     public ManualIncomeEntryResponse update(UUID id, CreateManualIncomeRequest request) {
         ManualIncomeEntry entry = manualIncomeEntryRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Ingreso manual no encontrado"));
+        LocalDate previousDay = entry.getOccurredOn();
+        dailyIncomeRollupService.subtractManualIncome(previousDay, entry.getAmount(), entry.getTipAmount());
         apply(entry, request);
-        return toResponse(manualIncomeEntryRepository.save(entry));
+        ManualIncomeEntry saved = manualIncomeEntryRepository.save(entry);
+        dailyIncomeRollupService.addManualIncome(saved.getOccurredOn(), saved.getAmount(), saved.getTipAmount());
+        eventPublisher.publishEvent(new ManualIncomeChangedEvent(previousDay, saved.getOccurredOn()));
+        return toResponse(saved);
     }
 
     @Transactional
     public void delete(UUID id) {
         ManualIncomeEntry entry = manualIncomeEntryRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Ingreso manual no encontrado"));
+        dailyIncomeRollupService.subtractManualIncome(entry.getOccurredOn(), entry.getAmount(), entry.getTipAmount());
         manualIncomeEntryRepository.delete(entry);
+        eventPublisher.publishEvent(new ManualIncomeChangedEvent(entry.getOccurredOn(), null));
     }
 
     private void apply(ManualIncomeEntry entry, CreateManualIncomeRequest request) {
@@ -68,6 +108,33 @@ public class ManualIncomeService {
         entry.setNotes((normalizedNotes == null || normalizedNotes.isEmpty()) ? null : normalizedNotes);
     }
 
+    private record LedgerCursor(LocalDate occurredOn, OffsetDateTime createdAt, UUID id) {
+        static final LedgerCursor FIRST_PAGE = new LedgerCursor(
+                LocalDate.of(9999, 12, 31),
+                OffsetDateTime.of(9999, 12, 31, 0, 0, 0, 0, ZoneOffset.UTC),
+                new UUID(-1L, -1L)
+        );
+
+        static LedgerCursor decode(String cursor) {
+            try {
+                String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                String[] parts = decoded.split("\\|", 3);
+                return new LedgerCursor(
+                        LocalDate.parse(parts[0]),
+                        OffsetDateTime.parse(parts[1]),
+                        UUID.fromString(parts[2])
+                );
+            } catch (RuntimeException ex) {
+                throw new BusinessRuleException("Cursor de paginacion invalido");
+            }
+        }
+
+        String encode() {
+            String raw = occurredOn + "|" + createdAt + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
     private ManualIncomeEntryResponse toResponse(ManualIncomeEntry entry) {
         return new ManualIncomeEntryResponse(
                 entry.getId(),
@@ -0,0 +1,30 @@
+package com.barberia.stylebook.application.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Converts amounts to and from cents. In-memory income aggregation adds {@code long}s instead of allocating a
+ * {@link BigDecimal} per addition; values go back to {@code BigDecimal} only at the DTO boundary.
+ */
+public final class Money {
+    private static final int SCALE = 2;
+
+    private Money() {
+    }
+
+    /**
+     * Null counts as zero. Amounts with more than two decimals are rounded half up, like {@code NUMERIC(12, 2)}.
+     */
+    public static long toCents(BigDecimal amount) {
+        if (amount == null) {
+            return 0;
+        }
+        BigDecimal scaled = amount.scale() == SCALE ? amount : amount.setScale(SCALE, RoundingMode.HALF_UP);
+        return scaled.unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal toBigDecimal(long cents) {
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+}
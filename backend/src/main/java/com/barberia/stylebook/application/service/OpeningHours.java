@@ -0,0 +1,85 @@
+package com.barberia.stylebook.application.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Open minutes per hour of the week, parsed from entries such as {@code MON-FRI 09:00-20:00;SAT 09:00-14:00}.
+ * Hour-of-week indexes run from Monday 00:00 ({@code 0}) to Sunday 23:00 ({@code 167}).
+ */
+public final class OpeningHours {
+    public static final int HOURS_PER_WEEK = 7 * 24;
+
+    private final int[] openMinutesByHour;
+
+    private OpeningHours(int[] openMinutesByHour) {
+        this.openMinutesByHour = openMinutesByHour;
+    }
+
+    public static OpeningHours parse(String specification) {
+        boolean[] open = new boolean[HOURS_PER_WEEK * 60];
+        for (String entry : specification.split(";")) {
+            String trimmed = entry.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            String[] parts = trimmed.split("\\s+");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid opening hours entry: " + trimmed);
+            }
+            String[] days = parts[0].split("-");
+            String[] times = parts[1].split("-");
+            if (days.length > 2 || times.length != 2) {
+                throw new IllegalArgumentException("Invalid opening hours entry: " + trimmed);
+            }
+            DayOfWeek firstDay = day(days[0]);
+            DayOfWeek lastDay = days.length == 2 ? day(days[1]) : firstDay;
+            int opensAt = LocalTime.parse(times[0]).toSecondOfDay() / 60;
+            int closesAt = "24:00".equals(times[1]) ? 24 * 60 : LocalTime.parse(times[1]).toSecondOfDay() / 60;
+            if (closesAt <= opensAt) {
+                throw new IllegalArgumentException("Opening hours must close after they open: " + trimmed);
+            }
+
+            for (int offset = 0; offset <= (lastDay.getValue() - firstDay.getValue() + 7) % 7; offset++) {
+                int dayStart = (firstDay.plus(offset).getValue() - 1) * 24 * 60;
+                Arrays.fill(open, dayStart + opensAt, dayStart + closesAt, true);
+            }
+        }
+
+        int[] openMinutes = new int[HOURS_PER_WEEK];
+        for (int minute = 0; minute < open.length; minute++) {
+            if (open[minute]) {
+                openMinutes[minute / 60]++;
+            }
+        }
+        return new OpeningHours(openMinutes);
+    }
+
+    public int openMinutes(int hourOfWeek) {
+        return openMinutesByHour[hourOfWeek];
+    }
+
+    public long openMinutesPerWeek() {
+        long total = 0;
+        for (int minutes : openMinutesByHour) {
+            total += minutes;
+        }
+        return total;
+    }
+
+    public static int hourOfWeek(DayOfWeek day, int hour) {
+        return (day.getValue() - 1) * 24 + hour;
+    }
+
+    private static DayOfWeek day(String value) {
+        String abbreviation = value.trim().toUpperCase(Locale.ROOT);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (day.name().startsWith(abbreviation) && abbreviation.length() >= 3) {
+                return day;
+            }
+        }
+        throw new IllegalArgumentException("Invalid day of week: " + value);
+    }
+}
@@ -0,0 +1,208 @@
+package com.barberia.stylebook.application.service;
+
+import com.barberia.stylebook.application.event.AppointmentChangedEvent;
+import com.barberia.stylebook.application.event.AppointmentSnapshot;
+import com.barberia.stylebook.domain.entity.MetricCounter;
+import com.barberia.stylebook.domain.enums.AppointmentStatus;
+import com.barberia.stylebook.repository.AppointmentBulkOperations.AppointmentCount;
+import com.barberia.stylebook.repository.AppointmentRepository;
+import com.barberia.stylebook.repository.ClientRepository;
+import com.barberia.stylebook.repository.MetricCounterRepository;
+import com.barberia.stylebook.repository.ServiceUsageCounterRepository;
+import com.barberia.stylebook.web.dto.OverviewMetricsResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+public class OverviewCounterService {
+    static final String TOTAL_APPOINTMENTS = "appointments.total";
+    static final String CLIENTS_WITH_APPOINTMENTS = "clients.with_appointments";
+    private static final String STATUS_PREFIX = "appointments.status.";
+    private static final Logger log = LoggerFactory.getLogger(OverviewCounterService.class);
+
+    private final MetricCounterRepository metricCounterRepository;
+    private final ServiceUsageCounterRepository serviceUsageCounterRepository;
+    private final AppointmentRepository appointmentRepository;
+    private final ClientRepository clientRepository;
+
+    public OverviewCounterService(
+            MetricCounterRepository metricCounterRepository,
+            ServiceUsageCounterRepository serviceUsageCounterRepository,
+            AppointmentRepository appointmentRepository,
+            ClientRepository clientRepository
+    ) {
+        this.metricCounterRepository = metricCounterRepository;
+        this.serviceUsageCounterRepository = serviceUsageCounterRepository;
+        this.appointmentRepository = appointmentRepository;
+        this.clientRepository = clientRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public OverviewMetricsResponse overview() {
+        Map<String, Long> counters = metricCounterRepository.findAllById(List.of(
+                        TOTAL_APPOINTMENTS,
+                        statusCounter(AppointmentStatus.PENDING),
+                        statusCounter(AppointmentStatus.COMPLETED),
+                        CLIENTS_WITH_APPOINTMENTS
+                ))
+                .stream()
+                .collect(Collectors.toMap(MetricCounter::getName, MetricCounter::getValue));
+        String popularService = serviceUsageCounterRepository.findMostUsedServiceName().stream()
+                .findFirst()
+                .orElse("-");
+
+        return new OverviewMetricsResponse(
+                counters.getOrDefault(TOTAL_APPOINTMENTS, 0L),
+                counters.getOrDefault(statusCounter(AppointmentStatus.PENDING), 0L),
+                counters.getOrDefault(statusCounter(AppointmentStatus.COMPLETED), 0L),
+                counters.getOrDefault(CLIENTS_WITH_APPOINTMENTS, 0L),
+                popularService
+        );
+    }
+
+    @EventListener
+    public void onAppointmentChanged(AppointmentChangedEvent event) {
+        AppointmentSnapshot before = event.before();
+        AppointmentSnapshot after = event.after();
+        CounterDelta delta = new CounterDelta();
+
+        if (before != null) {
+            delta.subtract(before.status(), before.serviceId(), 1);
+        }
+        if (after != null) {
+            delta.add(TOTAL_APPOINTMENTS, 1);
+            delta.add(statusCounter(after.status()), 1);
+            delta.addServiceUsage(after.serviceId(), 1);
+        }
+
+        UUID previousClientId = before == null ? null : before.clientId();
+        UUID currentClientId = after == null ? null : after.clientId();
+        Set<UUID> movedClients = new HashSet<>();
+        if (previousClientId != null && !previousClientId.equals(currentClientId)) {
+            movedClients.add(previousClientId);
+        }
+        if (currentClientId != null && !currentClientId.equals(previousClientId)) {
+            movedClients.add(currentClientId);
+        }
+        if (!movedClients.isEmpty()) {
+            // Under READ COMMITTED two first bookings of one client would both see no other appointment; holding the
+            // client row makes the second wait and then see the first one's commit.
+            clientRepository.lockForAppointmentChange(movedClients);
+        }
+        if (previousClientId != null && !previousClientId.equals(currentClientId)
+                && !appointmentRepository.existsByClientIdAndIdNot(previousClientId, before.appointmentId())) {
+            delta.add(CLIENTS_WITH_APPOINTMENTS, -1);
+        }
+        if (currentClientId != null && !currentClientId.equals(previousClientId)
+                && !appointmentRepository.existsByClientIdAndIdNot(currentClientId, after.appointmentId())) {
+            delta.add(CLIENTS_WITH_APPOINTMENTS, 1);
+        }
+        apply(delta);
+    }
+
+    /**
+     * Must run before the appointments of {@code clientIds} are deleted, in the same transaction.
+     */
+    @Transactional
+    public void removeClientAppointments(Collection<UUID> clientIds) {
+        CounterDelta delta = new CounterDelta();
+        appointmentRepository.countByStatusAndServiceForClients(clientIds)
+                .forEach(count -> delta.subtract(count.getStatus(), count.getServiceId(), count.getAppointmentCount()));
+        apply(delta);
+        adjustClientsWithAppointments(-appointmentRepository.findClientIdsWithAppointments(clientIds).size());
+    }
+
+    @Transactional
+    public void subtractDeleted(List<AppointmentCount> deleted) {
+        CounterDelta delta = new CounterDelta();
+        deleted.forEach(count -> delta.subtract(count.status(), count.serviceId(), count.count()));
+        apply(delta);
+    }
+
+    @Transactional
+    public void adjustClientsWithAppointments(long change) {
+        CounterDelta delta = new CounterDelta();
+        delta.add(CLIENTS_WITH_APPOINTMENTS, change);
+        apply(delta);
+    }
+
+    /**
+     * Must run before the appointments are reassigned: sources and targets that had appointments collapse
+     * into one client per target.
+     */
+    @Transactional
+    public void prepareMerge(Map<UUID, UUID> targetBySource) {
+        Set<UUID> allIds = new HashSet<>(targetBySource.keySet());
+        allIds.addAll(targetBySource.values());
+        Set<UUID> withAppointments = new HashSet<>(appointmentRepository.findClientIdsWithAppointments(allIds));
+
+        Set<UUID> targetsWithAppointmentsAfter = new HashSet<>();
+        targetBySource.forEach((source, target) -> {
+            if (withAppointments.contains(source) || withAppointments.contains(target)) {
+                targetsWithAppointmentsAfter.add(target);
+            }
+        });
+        adjustClientsWithAppointments(targetsWithAppointmentsAfter.size() - (long) withAppointments.size());
+    }
+
+    @Scheduled(cron = "${app.metrics.counters.reconcile-cron:0 30 4 * * *}")
+    @Transactional
+    public void reconcile() {
+        // Locking the counter rows first makes concurrent writers wait, so no increment is lost to the recount.
+        metricCounterRepository.lockAll();
+        serviceUsageCounterRepository.lockAll();
+        metricCounterRepository.reconcileAppointmentCounters();
+        serviceUsageCounterRepository.reconcile();
+        log.info("Overview counters reconciled");
+    }
+
+    private void apply(CounterDelta delta) {
+        delta.counters.forEach((name, change) -> {
+            if (change != 0) {
+                metricCounterRepository.increment(name, change);
+            }
+        });
+        delta.serviceUsage.forEach((serviceId, change) -> {
+            if (change != 0) {
+                serviceUsageCounterRepository.increment(serviceId, change);
+            }
+        });
+    }
+
+    static String statusCounter(AppointmentStatus status) {
+        return STATUS_PREFIX + status.name();
+    }
+
+    // Sorted keys keep the row-lock order stable across concurrent transactions.
+    private static final class CounterDelta {
+        private final Map<String, Long> counters = new TreeMap<>();
+        private final Map<UUID, Long> serviceUsage = new TreeMap<>();
+
+        void add(String name, long change) {
+            counters.merge(name, change, Long::sum);
+        }
+
+        void addServiceUsage(UUID serviceId, long change) {
+            serviceUsage.merge(serviceId, change, Long::sum);
+        }
+
+        void subtract(AppointmentStatus status, UUID serviceId, long count) {
+            add(TOTAL_APPOINTMENTS, -count);
+            add(statusCounter(status), -count);
+            addServiceUsage(serviceId, -count);
+        }
+    }
+}
@@ -3,15 +3,47 @@ package com.barberia.stylebook.application.service;
 import com.barberia.stylebook.application.exception.BusinessRuleException;
 
 public final class PhoneNormalizer {
+    private static final int MIN_DIGITS = 8;
+    private static final int MAX_DIGITS = 15;
+
     private PhoneNormalizer() {
     }
 
     public static String normalize(String rawPhone) {
-        String value = rawPhone == null ? "" : rawPhone.trim();
-        String digits = value.replaceAll("\\D", "");
-        if (digits.length() < 8 || digits.length() > 15) {
+        String digits = digitsOnly(rawPhone);
+        if (digits.length() < MIN_DIGITS || digits.length() > MAX_DIGITS) {
             throw new BusinessRuleException("Telefono invalido (entre 8 y 15 digitos)");
         }
         return digits;
     }
+
+    /**
+     * Keeps only ASCII digits. Input that is already digits-only is returned as is, without allocating.
+     */
+    public static String digitsOnly(String value) {
+        if (value == null) {
+            return "";
+        }
+        int length = value.length();
+        char[] digits = null;
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            char current = value.charAt(i);
+            boolean digit = current >= '0' && current <= '9';
+            if (digits == null) {
+                if (digit) {
+                    continue;
+                }
+                digits = new char[length - 1];
+                value.getChars(0, i, digits, 0);
+                count = i;
+            } else if (digit) {
+                digits[count++] = current;
+            }
+        }
+        if (digits == null) {
+            return value;
+        }
+        return count == 0 ? "" : new String(digits, 0, count);
+    }
 }
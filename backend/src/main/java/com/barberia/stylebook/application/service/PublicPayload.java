@@ -0,0 +1,50 @@
+package com.barberia.stylebook.application.service;
+
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A public response serialized once per catalog version, with its gzip variant and a strong ETag derived from
+ * the JSON bytes, so identical content gets the same ETag on every node and after every rebuild.
+ */
+public record PublicPayload(byte[] json, byte[] gzip, String version) {
+
+    public static PublicPayload of(JsonMapper jsonMapper, Object body) {
+        byte[] json = jsonMapper.writeValueAsBytes(body);
+        return new PublicPayload(json, gzip(json), version(json));
+    }
+
+    public String etag() {
+        return "\"" + version + "\"";
+    }
+
+    public String gzipEtag() {
+        return "\"" + version + "-gzip\"";
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, json.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(json);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return compressed.toByteArray();
+    }
+
+    private static String version(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest).substring(0, 22);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 no disponible", ex);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.barberia.stylebook.application.service;
 
+import com.barberia.stylebook.application.event.ServiceCatalogChangedEvent;
 import com.barberia.stylebook.application.exception.BusinessRuleException;
 import com.barberia.stylebook.application.exception.NotFoundException;
 import com.barberia.stylebook.domain.entity.ServiceCatalog;
@@ -9,8 +10,10 @@ import com.barberia.stylebook.web.dto.AdminServiceUpsertRequest;
 import com.barberia.stylebook.web.dto.ServiceCatalogResponse;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
 
 import java.util.List;
 import java.util.UUID;
@@ -20,17 +23,37 @@ public class ServiceCatalogService {
 
     private final ServiceCatalogRepository serviceCatalogRepository;
     private final AppointmentRepository appointmentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JsonMapper jsonMapper;
 
     public ServiceCatalogService(
             ServiceCatalogRepository serviceCatalogRepository,
-            AppointmentRepository appointmentRepository
+            AppointmentRepository appointmentRepository,
+            ApplicationEventPublisher eventPublisher,
+            JsonMapper jsonMapper
     ) {
         this.serviceCatalogRepository = serviceCatalogRepository;
         this.appointmentRepository = appointmentRepository;
+        this.eventPublisher = eventPublisher;
+        this.jsonMapper = jsonMapper;
     }
 
+    /**
+     * Active catalog serialized once per version; rebuilt after an admin write evicts it, or refreshed in the
+     * background by the cache loader while the previous version keeps being served.
+     */
     @Transactional(readOnly = true)
     @Cacheable(cacheNames = "publicServices")
+    public PublicPayload publicPayload() {
+        return loadPublicPayload();
+    }
+
+    @Transactional(readOnly = true)
+    public PublicPayload loadPublicPayload() {
+        return PublicPayload.of(jsonMapper, listPublic());
+    }
+
+    @Transactional(readOnly = true)
     public List<ServiceCatalogResponse> listPublic() {
         return serviceCatalogRepository.findAllByActiveTrueOrderByNameAsc().stream()
                 .map(this::toResponse)
@@ -54,7 +77,9 @@ public class ServiceCatalogService {
 
         ServiceCatalog service = new ServiceCatalog();
         apply(service, request, normalizedName);
-        return toResponse(serviceCatalogRepository.save(service));
+        ServiceCatalog saved = serviceCatalogRepository.save(service);
+        eventPublisher.publishEvent(new ServiceCatalogChangedEvent(saved.getId()));
+        return toResponse(saved);
     }
 
     @Transactional
@@ -69,7 +94,9 @@ public class ServiceCatalogService {
         }
 
         apply(service, request, normalizedName);
-        return toResponse(serviceCatalogRepository.save(service));
+        ServiceCatalog saved = serviceCatalogRepository.save(service);
+        eventPublisher.publishEvent(new ServiceCatalogChangedEvent(saved.getId()));
+        return toResponse(saved);
     }
 
     @Transactional
@@ -83,6 +110,7 @@ public class ServiceCatalogService {
         }
 
         serviceCatalogRepository.delete(service);
+        eventPublisher.publishEvent(new ServiceCatalogChangedEvent(id));
     }
 
     private void apply(ServiceCatalog service, AdminServiceUpsertRequest request, String normalizedName) {
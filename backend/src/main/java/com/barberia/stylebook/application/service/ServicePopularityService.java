@@ -0,0 +1,113 @@
+package com.barberia.stylebook.application.service;
+
+import com.barberia.stylebook.application.event.AppointmentChangedEvent;
+import com.barberia.stylebook.application.event.AppointmentSnapshot;
+import com.barberia.stylebook.domain.enums.AppointmentStatus;
+import com.barberia.stylebook.repository.AppointmentBulkOperations.AppointmentCount;
+import com.barberia.stylebook.repository.ServiceDailyBookingsRepository;
+import com.barberia.stylebook.web.dto.ServicePopularityItem;
+import com.barberia.stylebook.web.dto.ServicePopularityWindowResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Ranks services by non-cancelled appointments over rolling windows, reading per-day buckets in
+ * {@code service_daily_bookings} that are kept in step with every booking. Days are UTC, like the income rollups.
+ */
+@Service
+public class ServicePopularityService {
+    static final List<Integer> WINDOW_DAYS = List.of(7, 30, 90);
+    private static final int RETAINED_DAYS = 90;
+    private static final int DEFAULT_LIMIT = 5;
+    private static final int MAX_LIMIT = 50;
+    private static final Logger log = LoggerFactory.getLogger(ServicePopularityService.class);
+
+    private final ServiceDailyBookingsRepository serviceDailyBookingsRepository;
+
+    public ServicePopularityService(ServiceDailyBookingsRepository serviceDailyBookingsRepository) {
+        this.serviceDailyBookingsRepository = serviceDailyBookingsRepository;
+    }
+
+    /**
+     * Top {@code limit} services over the last 7, 30 and 90 days, today included.
+     */
+    @Transactional(readOnly = true)
+    public List<ServicePopularityWindowResponse> topServices(int limit) {
+        int boundedLimit = limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+        LocalDate today = LocalDate.now(DailyIncomeRollupService.ROLLUP_ZONE);
+        return WINDOW_DAYS.stream()
+                .map(days -> {
+                    LocalDate from = today.minusDays(days - 1L);
+                    List<ServicePopularityItem> services = serviceDailyBookingsRepository
+                            .findTopServices(from, today, boundedLimit)
+                            .stream()
+                            .map(row -> new ServicePopularityItem(row.getServiceId(), row.getServiceName(), row.getBookingCount()))
+                            .toList();
+                    return new ServicePopularityWindowResponse(days, from, today, services);
+                })
+                .toList();
+    }
+
+    @EventListener
+    public void onAppointmentChanged(AppointmentChangedEvent event) {
+        AppointmentSnapshot before = bookedOrNull(event.before());
+        AppointmentSnapshot after = bookedOrNull(event.after());
+        if (before != null && after != null && day(before).equals(day(after))
+                && before.serviceId().equals(after.serviceId())) {
+            return;
+        }
+        if (before != null) {
+            serviceDailyBookingsRepository.increment(day(before), before.serviceId(), -1);
+        }
+        if (after != null) {
+            serviceDailyBookingsRepository.increment(day(after), after.serviceId(), 1);
+        }
+    }
+
+    /**
+     * Must run before the appointments of {@code clientIds} are deleted, in the same transaction.
+     */
+    @Transactional
+    public void removeClientAppointments(Collection<UUID> clientIds) {
+        serviceDailyBookingsRepository.subtractForClients(clientIds);
+    }
+
+    @Transactional
+    public void subtractDeleted(List<AppointmentCount> deleted) {
+        deleted.stream()
+                .filter(count -> count.status() != AppointmentStatus.CANCELLED)
+                .forEach(count -> serviceDailyBookingsRepository.increment(count.day(), count.serviceId(), -count.count()));
+    }
+
+    /**
+     * Recounts the retained days from appointments and prunes the days that fell out of every window.
+     */
+    @Scheduled(cron = "${app.metrics.popularity.reconcile-cron:0 45 4 * * *}")
+    @Transactional
+    public void reconcile() {
+        LocalDate horizon = LocalDate.now(DailyIncomeRollupService.ROLLUP_ZONE).minusDays(RETAINED_DAYS - 1L);
+        // Locking the bucket rows first makes concurrent writers wait, so no increment is lost to the recount.
+        serviceDailyBookingsRepository.lockFrom(horizon);
+        serviceDailyBookingsRepository.deleteBefore(horizon);
+        serviceDailyBookingsRepository.deleteFrom(horizon);
+        int buckets = serviceDailyBookingsRepository.insertFrom(horizon.atStartOfDay().atOffset(DailyIncomeRollupService.ROLLUP_ZONE));
+        log.info("Service popularity buckets reconciled from {} ({} buckets)", horizon, buckets);
+    }
+
+    private static AppointmentSnapshot bookedOrNull(AppointmentSnapshot snapshot) {
+        return snapshot != null && snapshot.status() != AppointmentStatus.CANCELLED ? snapshot : null;
+    }
+
+    private static LocalDate day(AppointmentSnapshot snapshot) {
+        return snapshot.appointmentAt().atZoneSameInstant(DailyIncomeRollupService.ROLLUP_ZONE).toLocalDate();
+    }
+}
@@ -124,7 +124,7 @@ public class WhatsAppAutoReplyService {
                     continue;
                 }
                 for (JsonNode message : messages) {
-                    String fromPhone = normalizeDigits(message.path("from").asText(""));
+                    String fromPhone = PhoneNormalizer.digitsOnly(message.path("from").asText(""));
                     if (fromPhone.isBlank()) {
                         continue;
                     }
@@ -177,7 +177,7 @@ public class WhatsAppAutoReplyService {
 
     private String buildAutoReplyBody(Appointment appointment) {
         String clientName = appointment.getClient().getName();
-        String serviceName = appointment.getService().getName();
+        String serviceName = appointment.getServiceName();
         String date = appointment.getAppointmentAt().atZoneSameInstant(businessZone).format(DATE_FORMATTER);
         String time = appointment.getAppointmentAt().atZoneSameInstant(businessZone).format(TIME_FORMATTER);
 
@@ -208,13 +208,6 @@ public class WhatsAppAutoReplyService {
         }
     }
 
-    private static String normalizeDigits(String value) {
-        if (value == null || value.isBlank()) {
-            return "";
-        }
-        return value.replaceAll("\\D", "");
-    }
-
     private static String hmacSha256Hex(String payload, String secret) {
         try {
             Mac mac = Mac.getInstance("HmacSHA256");
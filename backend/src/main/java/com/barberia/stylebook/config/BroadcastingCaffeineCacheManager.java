@@ -0,0 +1,64 @@
+package com.barberia.stylebook.config;
+
+import com.barberia.stylebook.application.service.CacheInvalidationBus;
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+/**
+ * Caffeine caches whose evictions, from {@code @CacheEvict} or direct calls, are also broadcast to the other nodes.
+ */
+class BroadcastingCaffeineCacheManager extends CaffeineCacheManager {
+
+    private final CacheInvalidationBus invalidationBus;
+
+    BroadcastingCaffeineCacheManager(CacheInvalidationBus invalidationBus) {
+        this.invalidationBus = invalidationBus;
+    }
+
+    @Override
+    protected org.springframework.cache.Cache adaptCaffeineCache(String name, Cache<Object, Object> cache) {
+        return new BroadcastingCaffeineCache(name, cache, isAllowNullValues(), invalidationBus);
+    }
+
+    static final class BroadcastingCaffeineCache extends CaffeineCache {
+
+        private final CacheInvalidationBus invalidationBus;
+
+        BroadcastingCaffeineCache(
+                String name,
+                Cache<Object, Object> cache,
+                boolean allowNullValues,
+                CacheInvalidationBus invalidationBus
+        ) {
+            super(name, cache, allowNullValues);
+            this.invalidationBus = invalidationBus;
+        }
+
+        @Override
+        public void evict(Object key) {
+            super.evict(key);
+            invalidationBus.publish(getName(), key);
+        }
+
+        @Override
+        public boolean evictIfPresent(Object key) {
+            boolean evicted = super.evictIfPresent(key);
+            invalidationBus.publish(getName(), key);
+            return evicted;
+        }
+
+        @Override
+        public void clear() {
+            super.clear();
+            invalidationBus.publish(getName(), null);
+        }
+
+        @Override
+        public boolean invalidate() {
+            boolean invalidated = super.invalidate();
+            invalidationBus.publish(getName(), null);
+            return invalidated;
+        }
+    }
+}
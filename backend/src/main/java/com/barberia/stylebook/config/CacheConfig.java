@@ -0,0 +1,66 @@
+package com.barberia.stylebook.config;
+
+import com.barberia.stylebook.application.service.CacheInvalidationBus;
+import com.barberia.stylebook.application.service.GalleryImageService;
+import com.barberia.stylebook.application.service.ServiceCatalogService;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.Map;
+
+@Configuration
+@EnableConfigurationProperties(CacheSpecProperties.class)
+public class CacheConfig {
+
+    @Bean
+    public CacheManager cacheManager(
+            CacheSpecProperties properties,
+            ObjectProvider<ServiceCatalogService> serviceCatalogService,
+            ObjectProvider<GalleryImageService> galleryImageService,
+            CacheInvalidationBus invalidationBus
+    ) {
+        // Loaders must bypass the @Cacheable proxy: a refresh that went through it would read the stale entry back.
+        Map<String, CacheLoader<Object, Object>> loaders = Map.of(
+                "publicServices", key -> serviceCatalogService.getObject().loadPublicPayload(),
+                "publicGallery", key -> galleryImageService.getObject().loadPublicPayload()
+        );
+        CaffeineCacheManager cacheManager = new BroadcastingCaffeineCacheManager(invalidationBus);
+        cacheManager.setCacheNames(List.of());
+        properties.specs().forEach((name, spec) -> {
+            if (!spec.refreshing()) {
+                cacheManager.registerCustomCache(name, caffeine(name, spec).build());
+                return;
+            }
+            CacheLoader<Object, Object> loader = loaders.get(name);
+            if (loader == null) {
+                throw new IllegalStateException("La cache " + name + " tiene refresh-after-write pero no tiene loader");
+            }
+            cacheManager.registerCustomCache(name, caffeine(name, spec).build(loader));
+        });
+        return cacheManager;
+    }
+
+    static Caffeine<Object, Object> caffeine(String name, CacheSpecProperties.Spec spec) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+        if (spec.maximumSize() != null) {
+            builder.maximumSize(spec.maximumSize());
+        }
+        if (spec.hardExpiry() != null) {
+            builder.expireAfterWrite(spec.hardExpiry());
+        }
+        if (spec.refreshing()) {
+            if (spec.hardExpiry() != null && spec.refreshAfterWrite().compareTo(spec.hardExpiry()) >= 0) {
+                throw new IllegalStateException("La cache " + name + " debe refrescarse antes de expirar");
+            }
+            builder.refreshAfterWrite(spec.refreshAfterWrite());
+        }
+        return builder;
+    }
+}
@@ -0,0 +1,37 @@
+package com.barberia.stylebook.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Caffeine settings per cache name. A cache with {@code refreshAfterWrite} keeps serving its current value while
+ * an async reload runs, and keeps serving it when reloads fail until it is {@code expireAfterWrite + maxStale} old.
+ */
+@ConfigurationProperties("app.cache")
+public record CacheSpecProperties(Map<String, Spec> specs) {
+
+    public CacheSpecProperties {
+        specs = specs == null ? Map.of() : Map.copyOf(specs);
+    }
+
+    public record Spec(
+            Long maximumSize,
+            Duration expireAfterWrite,
+            Duration refreshAfterWrite,
+            Duration maxStale
+    ) {
+
+        public boolean refreshing() {
+            return refreshAfterWrite != null;
+        }
+
+        public Duration hardExpiry() {
+            if (expireAfterWrite == null) {
+                return null;
+            }
+            return maxStale == null ? expireAfterWrite : expireAfterWrite.plus(maxStale);
+        }
+    }
+}
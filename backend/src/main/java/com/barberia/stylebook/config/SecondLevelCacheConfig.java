@@ -0,0 +1,78 @@
+package com.barberia.stylebook.config;
+
+import com.barberia.stylebook.application.service.CacheInvalidationBus;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Tells the other nodes when a second-level cached entity changes; their L2 copies would otherwise stay stale until
+ * the region expires. Inserts count too, because a cached query on another node may have remembered no match.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final CacheInvalidationBus invalidationBus;
+
+    public SecondLevelCacheConfig(EntityManagerFactory entityManagerFactory, CacheInvalidationBus invalidationBus) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.invalidationBus = invalidationBus;
+    }
+
+    @PostConstruct
+    public void registerBroadcastListener() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getEventListenerRegistry();
+        CachedEntityChangeListener listener = new CachedEntityChangeListener(invalidationBus);
+        registry.appendListeners(EventType.POST_INSERT, listener);
+        registry.appendListeners(EventType.POST_UPDATE, listener);
+        registry.appendListeners(EventType.POST_DELETE, listener);
+    }
+
+    static final class CachedEntityChangeListener
+            implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+        private final CacheInvalidationBus invalidationBus;
+
+        CachedEntityChangeListener(CacheInvalidationBus invalidationBus) {
+            this.invalidationBus = invalidationBus;
+        }
+
+        @Override
+        public void onPostInsert(PostInsertEvent event) {
+            broadcast(event.getPersister(), event.getId());
+        }
+
+        @Override
+        public void onPostUpdate(PostUpdateEvent event) {
+            broadcast(event.getPersister(), event.getId());
+        }
+
+        @Override
+        public void onPostDelete(PostDeleteEvent event) {
+            broadcast(event.getPersister(), event.getId());
+        }
+
+        @Override
+        public boolean requiresPostCommitHandling(EntityPersister persister) {
+            return false;
+        }
+
+        private void broadcast(EntityPersister persister, Object id) {
+            if (persister.canWriteToCache()) {
+                invalidationBus.publishEntity(persister.getEntityName(), id);
+            }
+        }
+    }
+}
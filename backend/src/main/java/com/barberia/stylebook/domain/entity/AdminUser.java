@@ -1,10 +1,18 @@
 package com.barberia.stylebook.domain.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "adminUser")
+@NaturalIdCache(region = "adminUserNaturalId")
 @Table(name = "admin_users")
 public class AdminUser extends AuditableEntity {
 
@@ -20,6 +28,7 @@ public class AdminUser extends AuditableEntity {
     @Column(nullable = false)
     private Boolean active = true;
 
+    @NaturalId(mutable = true)
     @Column(name = "firebase_uid", unique = true, length = 128)
     private String firebaseUid;
 
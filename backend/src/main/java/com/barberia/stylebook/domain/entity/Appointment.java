@@ -10,6 +10,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 
+import java.math.BigDecimal;
 import java.time.OffsetDateTime;
 
 @Entity
@@ -24,6 +25,12 @@ public class Appointment extends AuditableEntity {
     @JoinColumn(name = "service_id", nullable = false)
     private ServiceCatalog service;
 
+    @Column(name = "service_name", nullable = false, length = 120)
+    private String serviceName;
+
+    @Column(name = "price_at_booking", nullable = false, precision = 12, scale = 2)
+    private BigDecimal priceAtBooking;
+
     @Column(name = "appointment_at", nullable = false)
     private OffsetDateTime appointmentAt;
 
@@ -46,10 +53,31 @@ public class Appointment extends AuditableEntity {
         return service;
     }
 
+    /**
+     * Snapshots the name and price of {@code service} when it is first assigned or replaced, so later catalog
+     * edits do not rewrite what was booked.
+     */
     public void setService(ServiceCatalog service) {
+        if (service == null) {
+            throw new IllegalArgumentException("El turno debe tener un servicio");
+        }
+        boolean sameService = this.service == service
+                || (this.service != null && this.service.getId() != null && this.service.getId().equals(service.getId()));
+        if (!sameService) {
+            this.serviceName = service.getName();
+            this.priceAtBooking = service.getPrice();
+        }
         this.service = service;
     }
 
+    public String getServiceName() {
+        return serviceName;
+    }
+
+    public BigDecimal getPriceAtBooking() {
+        return priceAtBooking;
+    }
+
     public OffsetDateTime getAppointmentAt() {
         return appointmentAt;
     }
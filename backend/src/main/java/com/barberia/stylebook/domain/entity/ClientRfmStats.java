@@ -0,0 +1,58 @@
+package com.barberia.stylebook.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "client_rfm_stats")
+public class ClientRfmStats {
+
+    @Id
+    @Column(name = "client_id")
+    private UUID clientId;
+
+    @Column(name = "completed_count", nullable = false)
+    private long completedCount;
+
+    @Column(name = "monetary_total", nullable = false, precision = 14, scale = 2)
+    private BigDecimal monetaryTotal;
+
+    @Column(name = "first_completed_at", nullable = false)
+    private OffsetDateTime firstCompletedAt;
+
+    @Column(name = "last_completed_at", nullable = false)
+    private OffsetDateTime lastCompletedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private OffsetDateTime updatedAt;
+
+    public UUID getClientId() {
+        return clientId;
+    }
+
+    public long getCompletedCount() {
+        return completedCount;
+    }
+
+    public BigDecimal getMonetaryTotal() {
+        return monetaryTotal;
+    }
+
+    public OffsetDateTime getFirstCompletedAt() {
+        return firstCompletedAt;
+    }
+
+    public OffsetDateTime getLastCompletedAt() {
+        return lastCompletedAt;
+    }
+
+    public OffsetDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
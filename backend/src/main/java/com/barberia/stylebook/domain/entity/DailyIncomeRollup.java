@@ -0,0 +1,64 @@
+package com.barberia.stylebook.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "daily_income_rollups")
+public class DailyIncomeRollup extends BaseUuidEntity {
+
+    @Column(nullable = false)
+    private LocalDate day;
+
+    @Column(name = "service_id")
+    private UUID serviceId;
+
+    @Column(name = "entry_count", nullable = false)
+    private long entryCount;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal amount;
+
+    @Column(name = "tip_count", nullable = false)
+    private long tipCount;
+
+    @Column(name = "tip_amount", nullable = false, precision = 14, scale = 2)
+    private BigDecimal tipAmount;
+
+    @Column(name = "updated_at", nullable = false)
+    private OffsetDateTime updatedAt;
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public UUID getServiceId() {
+        return serviceId;
+    }
+
+    public long getEntryCount() {
+        return entryCount;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public long getTipCount() {
+        return tipCount;
+    }
+
+    public BigDecimal getTipAmount() {
+        return tipAmount;
+    }
+
+    public OffsetDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
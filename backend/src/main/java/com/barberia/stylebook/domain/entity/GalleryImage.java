@@ -1,10 +1,15 @@
 package com.barberia.stylebook.domain.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "galleryImage")
 @Table(name = "gallery_images")
 public class GalleryImage extends AuditableEntity {
 
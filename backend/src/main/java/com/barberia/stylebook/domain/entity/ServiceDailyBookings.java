@@ -0,0 +1,42 @@
+package com.barberia.stylebook.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "service_daily_bookings")
+public class ServiceDailyBookings extends BaseUuidEntity {
+
+    @Column(nullable = false)
+    private LocalDate day;
+
+    @Column(name = "service_id", nullable = false)
+    private UUID serviceId;
+
+    @Column(name = "booking_count", nullable = false)
+    private long bookingCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private OffsetDateTime updatedAt;
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public UUID getServiceId() {
+        return serviceId;
+    }
+
+    public long getBookingCount() {
+        return bookingCount;
+    }
+
+    public OffsetDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -0,0 +1,36 @@
+package com.barberia.stylebook.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "service_usage_counters")
+public class ServiceUsageCounter {
+
+    @Id
+    @Column(name = "service_id")
+    private UUID serviceId;
+
+    @Column(name = "usage_count", nullable = false)
+    private long usageCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private OffsetDateTime updatedAt;
+
+    public UUID getServiceId() {
+        return serviceId;
+    }
+
+    public long getUsageCount() {
+        return usageCount;
+    }
+
+    public OffsetDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -0,0 +1,7 @@
+package com.barberia.stylebook.domain.enums;
+
+public enum ClientErasureJobStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
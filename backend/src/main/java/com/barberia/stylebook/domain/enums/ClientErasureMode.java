@@ -0,0 +1,6 @@
+package com.barberia.stylebook.domain.enums;
+
+public enum ClientErasureMode {
+    DELETE,
+    ANONYMIZE
+}
@@ -0,0 +1,9 @@
+package com.barberia.stylebook.domain.enums;
+
+public enum ClientSegment {
+    NEW,
+    ACTIVE,
+    LOYAL,
+    AT_RISK,
+    LOST
+}
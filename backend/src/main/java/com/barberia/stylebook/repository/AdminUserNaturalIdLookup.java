@@ -0,0 +1,13 @@
+package com.barberia.stylebook.repository;
+
+import com.barberia.stylebook.domain.entity.AdminUser;
+
+import java.util.Optional;
+
+public interface AdminUserNaturalIdLookup {
+
+    /**
+     * Resolves through the natural-id cache, so repeated Firebase logins skip the database.
+     */
+    Optional<AdminUser> findByFirebaseUid(String firebaseUid);
+}
@@ -0,0 +1,26 @@
+package com.barberia.stylebook.repository;
+
+import com.barberia.stylebook.domain.entity.AdminUser;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+
+import java.util.Optional;
+
+class AdminUserNaturalIdLookupImpl implements AdminUserNaturalIdLookup {
+
+    private final EntityManager entityManager;
+
+    AdminUserNaturalIdLookupImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Optional<AdminUser> findByFirebaseUid(String firebaseUid) {
+        if (firebaseUid == null) {
+            return Optional.empty();
+        }
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(AdminUser.class)
+                .loadOptional(firebaseUid);
+    }
+}
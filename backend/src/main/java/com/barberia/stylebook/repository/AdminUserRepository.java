@@ -1,12 +1,17 @@
 package com.barberia.stylebook.repository;
 
 import com.barberia.stylebook.domain.entity.AdminUser;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.Optional;
 import java.util.UUID;
 
-public interface AdminUserRepository extends JpaRepository<AdminUser, UUID> {
+public interface AdminUserRepository extends JpaRepository<AdminUser, UUID>, AdminUserNaturalIdLookup {
+
+    // Emails match case-insensitively and can change, so they go through the query cache rather than a natural id.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<AdminUser> findByEmailIgnoreCase(String email);
-    Optional<AdminUser> findByFirebaseUid(String firebaseUid);
 }
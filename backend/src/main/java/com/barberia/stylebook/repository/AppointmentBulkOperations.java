@@ -0,0 +1,41 @@
+package com.barberia.stylebook.repository;
+
+import com.barberia.stylebook.domain.enums.AppointmentStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+public interface AppointmentBulkOperations {
+
+    int reassignClients(List<UUID> sourceClientIds, List<UUID> targetClientIds);
+
+    List<AppointmentCount> deleteByClientIds(List<UUID> clientIds, int maxRows);
+
+    int clearNotesByClientIds(List<UUID> clientIds, int maxRows);
+
+    /**
+     * Streams every appointment with the price it was booked at. Must run inside a transaction so the driver honours the
+     * fetch size instead of buffering the whole result.
+     */
+    void streamAnalyticsRows(int fetchSize, Consumer<AnalyticsRow> consumer);
+
+    record AnalyticsRow(
+            UUID id,
+            UUID clientId,
+            UUID serviceId,
+            OffsetDateTime appointmentAt,
+            AppointmentStatus status,
+            BigDecimal price
+    ) {
+    }
+
+    /**
+     * Deleted appointments grouped by status, service and UTC day; {@code total} is the sum of booked prices.
+     */
+    record AppointmentCount(AppointmentStatus status, UUID serviceId, LocalDate day, long count, BigDecimal total) {
+    }
+}
@@ -0,0 +1,115 @@
+package com.barberia.stylebook.repository;
+
+import com.barberia.stylebook.domain.enums.AppointmentStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+class AppointmentBulkOperationsImpl implements AppointmentBulkOperations {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    AppointmentBulkOperationsImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int reassignClients(List<UUID> sourceClientIds, List<UUID> targetClientIds) {
+        if (sourceClientIds.size() != targetClientIds.size()) {
+            throw new IllegalArgumentException("Source and target client lists must have the same size");
+        }
+        if (sourceClientIds.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update("""
+                update appointments a
+                set client_id = m.target_client_id
+                from unnest(?::uuid[], ?::uuid[]) as m(source_client_id, target_client_id)
+                where a.client_id = m.source_client_id
+                """, statement -> {
+            statement.setArray(1, statement.getConnection().createArrayOf("uuid", sourceClientIds.toArray()));
+            statement.setArray(2, statement.getConnection().createArrayOf("uuid", targetClientIds.toArray()));
+        });
+    }
+
+    @Override
+    public List<AppointmentCount> deleteByClientIds(List<UUID> clientIds, int maxRows) {
+        if (clientIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query("""
+                with deleted as (
+                    delete from appointments
+                    where id in (
+                        select id
+                        from appointments
+                        where client_id = any(?::uuid[])
+                        limit ?
+                    )
+                    returning status, service_id, appointment_at, price_at_booking
+                )
+                select d.status,
+                       d.service_id,
+                       (d.appointment_at at time zone 'UTC')::date as appointment_day,
+                       count(*) as appointment_count,
+                       coalesce(sum(d.price_at_booking), 0) as appointment_total
+                from deleted d
+                group by 1, 2, 3
+                """, statement -> {
+            statement.setArray(1, statement.getConnection().createArrayOf("uuid", clientIds.toArray()));
+            statement.setInt(2, maxRows);
+        }, (resultSet, rowNum) -> new AppointmentCount(
+                AppointmentStatus.valueOf(resultSet.getString("status")),
+                resultSet.getObject("service_id", UUID.class),
+                resultSet.getObject("appointment_day", LocalDate.class),
+                resultSet.getLong("appointment_count"),
+                resultSet.getBigDecimal("appointment_total")
+        ));
+    }
+
+    @Override
+    public void streamAnalyticsRows(int fetchSize, Consumer<AnalyticsRow> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement("""
+                    select id, client_id, service_id, appointment_at, status, price_at_booking
+                    from appointments
+                    """);
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, (RowCallbackHandler) resultSet -> consumer.accept(new AnalyticsRow(
+                resultSet.getObject("id", UUID.class),
+                resultSet.getObject("client_id", UUID.class),
+                resultSet.getObject("service_id", UUID.class),
+                resultSet.getObject("appointment_at", OffsetDateTime.class),
+                AppointmentStatus.valueOf(resultSet.getString("status")),
+                resultSet.getBigDecimal("price_at_booking")
+        )));
+    }
+
+    @Override
+    public int clearNotesByClientIds(List<UUID> clientIds, int maxRows) {
+        if (clientIds.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update("""
+                update appointments
+                set notes = null
+                where id in (
+                    select id
+                    from appointments
+                    where client_id = any(?::uuid[])
+                      and notes is not null
+                    limit ?
+                )
+                """, statement -> {
+            statement.setArray(1, statement.getConnection().createArrayOf("uuid", clientIds.toArray()));
+            statement.setInt(2, maxRows);
+        });
+    }
+}
@@ -3,18 +3,22 @@ package com.barberia.stylebook.repository;
 import com.barberia.stylebook.domain.entity.Appointment;
 import com.barberia.stylebook.domain.enums.AppointmentStatus;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
-public interface AppointmentRepository extends JpaRepository<Appointment, UUID> {
+public interface AppointmentRepository extends JpaRepository<Appointment, UUID>, AppointmentBulkOperations {
 
     List<Appointment> findAllByClientId(UUID clientId);
 
@@ -45,7 +49,24 @@ public interface AppointmentRepository extends JpaRepository<Appointment, UUID>
 
     boolean existsByServiceId(UUID serviceId);
 
-    void deleteAllByClientId(UUID clientId);
+    boolean existsByClientIdAndIdNot(UUID clientId, UUID id);
+
+    @Query("select distinct a.client.id from Appointment a where a.client.id in :clientIds")
+    List<UUID> findClientIdsWithAppointments(@Param("clientIds") Collection<UUID> clientIds);
+
+    @Query("""
+            select a.status as status,
+                   a.service.id as serviceId,
+                   count(a.id) as appointmentCount
+            from Appointment a
+            where a.client.id in :clientIds
+            group by a.status, a.service.id
+            """)
+    List<AppointmentCountProjection> countByStatusAndServiceForClients(@Param("clientIds") Collection<UUID> clientIds);
+
+    @Modifying
+    @Query("delete from Appointment a where a.client.id = :clientId")
+    int deleteAllByClientIdInBulk(@Param("clientId") UUID clientId);
 
     @Query("""
             select a
@@ -94,63 +115,111 @@ public interface AppointmentRepository extends JpaRepository<Appointment, UUID>
             @Param("clientIds") Collection<UUID> clientIds
     );
 
-    @Query("""
-            select a.service.name as serviceName,
-                   count(a.id) as usageCount
-            from Appointment a
-            group by a.service.name
-            order by count(a.id) desc
-            """)
-    List<ServiceUsageProjection> findServiceUsageOrderedDesc();
-
-    @Query("""
-            select count(distinct a.client.phoneNormalized)
-            from Appointment a
-            """)
-    long countDistinctClientPhones();
-
-    @Query("""
-            select coalesce(sum(a.service.price), 0)
-            from Appointment a
-            where a.status = :status
-            """)
-    BigDecimal sumServicePriceByStatus(@Param("status") AppointmentStatus status);
-
-    @Query("""
-            select coalesce(sum(a.service.price), 0)
-            from Appointment a
-            where a.status = :status
-              and a.appointmentAt >= :from
-              and a.appointmentAt < :to
-            """)
-    BigDecimal sumServicePriceByStatusAndAppointmentAtBetween(
-            @Param("status") AppointmentStatus status,
-            @Param("from") OffsetDateTime from,
-            @Param("to") OffsetDateTime to
+    /**
+     * One row per period between the buckets of {@code fromDay} and {@code toDay}, including periods without income.
+     * Appointments are bucketed by their local date in {@code zone}; manual entries already carry a local date.
+     */
+    @Query(value = """
+            with periods as (
+                select generate_series(
+                    date_trunc(:unit, cast(:fromDay as timestamp)),
+                    date_trunc(:unit, cast(:toDay as timestamp)),
+                    cast('1 ' || :unit as interval)
+                ) as period_start
+            ),
+            registered as (
+                select date_trunc(:unit, a.appointment_at at time zone :zone) as period_start,
+                       count(*) as completed_count,
+                       sum(a.price_at_booking) as amount
+                from appointments a
+                where a.status = 'COMPLETED'
+                  and a.appointment_at >= :fromInstant
+                  and a.appointment_at < :toInstant
+                group by 1
+            ),
+            manual as (
+                select date_trunc(:unit, cast(m.occurred_on as timestamp)) as period_start,
+                       sum(m.amount) as amount,
+                       sum(m.tip_amount) as tips
+                from manual_income_entries m
+                where m.occurred_on >= :fromDay
+                  and m.occurred_on <= :toDay
+                group by 1
+            )
+            select cast(p.period_start as date) as "periodStart",
+                   coalesce(r.completed_count, 0) as "completedAppointments",
+                   coalesce(r.amount, 0) as "registeredIncome",
+                   coalesce(m.amount, 0) as "manualIncome",
+                   coalesce(m.tips, 0) as "tips"
+            from periods p
+            left join registered r on r.period_start = p.period_start
+            left join manual m on m.period_start = p.period_start
+            order by p.period_start
+            """, nativeQuery = true)
+    List<IncomeSeriesRowProjection> findIncomeSeries(
+            @Param("unit") String unit,
+            @Param("zone") String zone,
+            @Param("fromDay") LocalDate fromDay,
+            @Param("toDay") LocalDate toDay,
+            @Param("fromInstant") OffsetDateTime fromInstant,
+            @Param("toInstant") OffsetDateTime toInstant
     );
 
-    @Query("""
-            select a.service.name as serviceName,
-                   count(a.id) as usageCount,
-                   coalesce(sum(a.service.price), 0) as total
-            from Appointment a
-            where a.status = :status
-            group by a.service.name
-            """)
-    List<CompletedIncomeByServiceProjection> findCompletedIncomeByService(@Param("status") AppointmentStatus status);
+    /**
+     * Clients grouped by the business-calendar month of their first completed appointment, with how many had a
+     * second completed appointment within 30, 60 and 90 days of the first. Visits from {@code scanUntil} on cannot
+     * be a first visit in range nor a return within 90 days of one, so they are not read.
+     */
+    @Query(value = """
+            with visits as (
+                select a.client_id,
+                       a.appointment_at,
+                       row_number() over client_visits as visit_number,
+                       lead(a.appointment_at) over client_visits as next_visit_at
+                from appointments a
+                where a.status = 'COMPLETED'
+                  and a.appointment_at < :scanUntil
+                window client_visits as (partition by a.client_id order by a.appointment_at, a.id)
+            ),
+            first_visits as (
+                select cast(date_trunc('month', appointment_at at time zone :zone) as date) as cohort_month,
+                       next_visit_at - appointment_at as return_gap
+                from visits
+                where visit_number = 1
+            )
+            select f.cohort_month as "cohortMonth",
+                   count(*) as "clients",
+                   count(*) filter (where f.return_gap <= interval '30 days') as "returnedWithin30Days",
+                   count(*) filter (where f.return_gap <= interval '60 days') as "returnedWithin60Days",
+                   count(*) filter (where f.return_gap <= interval '90 days') as "returnedWithin90Days"
+            from first_visits f
+            where f.cohort_month >= :fromMonth
+              and f.cohort_month <= :toMonth
+            group by f.cohort_month
+            order by f.cohort_month
+            """, nativeQuery = true)
+    List<RetentionCohortProjection> findRetentionCohorts(
+            @Param("zone") String zone,
+            @Param("fromMonth") LocalDate fromMonth,
+            @Param("toMonth") LocalDate toMonth,
+            @Param("scanUntil") OffsetDateTime scanUntil
+    );
 
     @Query("""
-            select a.service.name as serviceName,
-                   count(a.id) as usageCount,
-                   coalesce(sum(a.service.price), 0) as total
+            select a.appointmentAt as appointmentAt,
+                   s.durationMinutes as durationMinutes,
+                   s.id as serviceId,
+                   a.serviceName as serviceName,
+                   a.status as status,
+                   a.priceAtBooking as priceAtBooking
             from Appointment a
-            where a.status = :status
+            join a.service s
+            where a.status <> :excludedStatus
               and a.appointmentAt >= :from
               and a.appointmentAt < :to
-            group by a.service.name
             """)
-    List<CompletedIncomeByServiceProjection> findCompletedIncomeByServiceAndAppointmentAtBetween(
-            @Param("status") AppointmentStatus status,
+    List<UtilizationRowProjection> findUtilizationRows(
+            @Param("excludedStatus") AppointmentStatus excludedStatus,
             @Param("from") OffsetDateTime from,
             @Param("to") OffsetDateTime to
     );
@@ -218,6 +287,7 @@ public interface AppointmentRepository extends JpaRepository<Appointment, UUID>
     );
 
     @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "appointments"))
     @Query(value = """
             update appointments
             set client_id = :targetClientId
@@ -225,21 +295,41 @@ public interface AppointmentRepository extends JpaRepository<Appointment, UUID>
             """, nativeQuery = true)
     int reassignClient(@Param("sourceClientId") UUID sourceClientId, @Param("targetClientId") UUID targetClientId);
 
+    interface UtilizationRowProjection {
+        OffsetDateTime getAppointmentAt();
+        Integer getDurationMinutes();
+        UUID getServiceId();
+        String getServiceName();
+        AppointmentStatus getStatus();
+        BigDecimal getPriceAtBooking();
+    }
+
+    interface RetentionCohortProjection {
+        LocalDate getCohortMonth();
+        long getClients();
+        long getReturnedWithin30Days();
+        long getReturnedWithin60Days();
+        long getReturnedWithin90Days();
+    }
+
     interface ClientCompletedStatsProjection {
         UUID getClientId();
         long getCompletedCount();
         OffsetDateTime getLastCompletedAt();
     }
 
-    interface ServiceUsageProjection {
-        String getServiceName();
-        long getUsageCount();
+    interface IncomeSeriesRowProjection {
+        LocalDate getPeriodStart();
+        long getCompletedAppointments();
+        BigDecimal getRegisteredIncome();
+        BigDecimal getManualIncome();
+        BigDecimal getTips();
     }
 
-    interface CompletedIncomeByServiceProjection {
-        String getServiceName();
-        long getUsageCount();
-        BigDecimal getTotal();
+    interface AppointmentCountProjection {
+        AppointmentStatus getStatus();
+        UUID getServiceId();
+        long getAppointmentCount();
     }
 
     interface OccupiedSlotProjection {
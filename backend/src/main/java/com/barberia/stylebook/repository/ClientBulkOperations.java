@@ -0,0 +1,16 @@
+package com.barberia.stylebook.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ClientBulkOperations {
+
+    int deleteByIds(List<UUID> clientIds);
+
+    int anonymizeByIds(List<UUID> clientIds);
+
+    int[] upsertByPhoneNormalized(List<ClientUpsert> clients);
+
+    record ClientUpsert(String name, String phone, String phoneNormalized) {
+    }
+}
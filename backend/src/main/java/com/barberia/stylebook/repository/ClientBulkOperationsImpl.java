@@ -0,0 +1,70 @@
+package com.barberia.stylebook.repository;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+
+class ClientBulkOperationsImpl implements ClientBulkOperations {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    ClientBulkOperationsImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int deleteByIds(List<UUID> clientIds) {
+        if (clientIds.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update(
+                "delete from clients where id = any(?::uuid[])",
+                statement -> statement.setArray(1, statement.getConnection().createArrayOf("uuid", clientIds.toArray()))
+        );
+    }
+
+    @Override
+    public int anonymizeByIds(List<UUID> clientIds) {
+        if (clientIds.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update("""
+                update clients
+                set name = 'Cliente anonimizado',
+                    phone = 'anon-' || replace(id::text, '-', ''),
+                    phone_normalized = 'anon' || substr(replace(id::text, '-', ''), 1, 16)
+                where id = any(?::uuid[])
+                """, statement -> statement.setArray(1, statement.getConnection().createArrayOf("uuid", clientIds.toArray())));
+    }
+
+    @Override
+    public int[] upsertByPhoneNormalized(List<ClientUpsert> clients) {
+        if (clients.isEmpty()) {
+            return new int[0];
+        }
+        return jdbcTemplate.batchUpdate("""
+                insert into clients (name, phone, phone_normalized, created_at, updated_at)
+                values (?, ?, ?, now(), now())
+                on conflict (phone_normalized) do update
+                set name = excluded.name,
+                    updated_at = now()
+                """, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement statement, int index) throws SQLException {
+                ClientUpsert client = clients.get(index);
+                statement.setString(1, client.name());
+                statement.setString(2, client.phone());
+                statement.setString(3, client.phoneNormalized());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return clients.size();
+            }
+        });
+    }
+}
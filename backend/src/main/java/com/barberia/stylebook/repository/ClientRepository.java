@@ -2,11 +2,16 @@ package com.barberia.stylebook.repository;
 
 import com.barberia.stylebook.domain.entity.Client;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-public interface ClientRepository extends JpaRepository<Client, UUID> {
+public interface ClientRepository extends JpaRepository<Client, UUID>, ClientBulkOperations {
     Optional<Client> findByPhone(String phone);
 
     Optional<Client> findByPhoneNormalized(String phoneNormalized);
@@ -14,4 +19,68 @@ public interface ClientRepository extends JpaRepository<Client, UUID> {
     boolean existsByPhoneAndIdNot(String phone, UUID id);
 
     boolean existsByPhoneNormalizedAndIdNot(String phoneNormalized, UUID id);
+
+    @Query("select c.id from Client c where c.id in :ids")
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+
+    // Conflicts with the key-share lock every appointment insert takes on its client, so no booking can land meanwhile.
+    @Query(value = "select id from clients where id in (:ids) order by id for update", nativeQuery = true)
+    List<UUID> lockForDelete(@Param("ids") Collection<UUID> ids);
+
+    // Unlike FOR UPDATE this does not wait on the key-share lock of an appointment insert, including the caller's own.
+    @Query(value = "select id from clients where id in (:ids) order by id for no key update", nativeQuery = true)
+    List<UUID> lockForAppointmentChange(@Param("ids") Collection<UUID> ids);
+
+    @Query("""
+            select c.id as id,
+                   c.name as name,
+                   c.phone as phone,
+                   c.phoneNormalized as phoneNormalized,
+                   c.createdAt as createdAt
+            from Client c
+            where c.phoneNormalized not like 'anon%'
+            """)
+    List<ClientDuplicateScanProjection> findAllForDuplicateScan();
+
+    @Query(value = """
+            select c.id as "id",
+                   c.name as "name",
+                   c.phone as "phone",
+                   c.phone_normalized as "phoneNormalized"
+            from clients c
+            where c.phone_normalized like :prefixPattern
+            order by c.phone_normalized asc
+            limit :limit
+            """, nativeQuery = true)
+    List<ClientLookupProjection> findLookupByPhoneNormalizedPrefix(
+            @Param("prefixPattern") String prefixPattern,
+            @Param("limit") int limit
+    );
+
+    @Query(value = """
+            select c.id as "id",
+                   c.name as "name",
+                   c.phone as "phone",
+                   c.phone_normalized as "phoneNormalized"
+            from clients c
+            where lower(c.name) like :containsPattern escape '\\'
+            order by similarity(lower(c.name), :term) desc, c.name asc
+            limit :limit
+            """, nativeQuery = true)
+    List<ClientLookupProjection> findLookupByNameSimilarity(
+            @Param("containsPattern") String containsPattern,
+            @Param("term") String term,
+            @Param("limit") int limit
+    );
+
+    interface ClientLookupProjection {
+        UUID getId();
+        String getName();
+        String getPhone();
+        String getPhoneNormalized();
+    }
+
+    interface ClientDuplicateScanProjection extends ClientLookupProjection {
+        OffsetDateTime getCreatedAt();
+    }
 }
@@ -0,0 +1,100 @@
+package com.barberia.stylebook.repository;
+
+import com.barberia.stylebook.domain.entity.ClientRfmStats;
+import org.springframework.data.domain.Pageable;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface ClientRfmStatsRepository extends JpaRepository<ClientRfmStats, UUID> {
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "client_rfm_stats"))
+    @Query(value = """
+            insert into client_rfm_stats (
+                client_id, completed_count, monetary_total, first_completed_at, last_completed_at, updated_at
+            )
+            values (:clientId, 1, :amount, :completedAt, :completedAt, now())
+            on conflict (client_id) do update
+            set completed_count = client_rfm_stats.completed_count + 1,
+                monetary_total = client_rfm_stats.monetary_total + excluded.monetary_total,
+                first_completed_at = least(client_rfm_stats.first_completed_at, excluded.first_completed_at),
+                last_completed_at = greatest(client_rfm_stats.last_completed_at, excluded.last_completed_at),
+                updated_at = now()
+            """, nativeQuery = true)
+    int addCompletedVisit(
+            @Param("clientId") UUID clientId,
+            @Param("amount") BigDecimal amount,
+            @Param("completedAt") OffsetDateTime completedAt
+    );
+
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "client_rfm_stats"))
+    @Query(value = "delete from client_rfm_stats where client_id in (:clientIds)", nativeQuery = true)
+    int deleteByClientIds(@Param("clientIds") Collection<UUID> clientIds);
+
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "client_rfm_stats"))
+    @Query(value = """
+            insert into client_rfm_stats (
+                client_id, completed_count, monetary_total, first_completed_at, last_completed_at, updated_at
+            )
+            select a.client_id,
+                   count(*),
+                   coalesce(sum(a.price_at_booking), 0),
+                   min(a.appointment_at),
+                   max(a.appointment_at),
+                   now()
+            from appointments a
+            where a.status = 'COMPLETED'
+              and a.client_id in (:clientIds)
+            group by a.client_id
+            """, nativeQuery = true)
+    int insertFromCompletedAppointments(@Param("clientIds") Collection<UUID> clientIds);
+
+    @Query("""
+            select c.id as clientId,
+                   c.name as clientName,
+                   c.phone as clientPhone,
+                   r.completedCount as completedCount,
+                   r.monetaryTotal as monetaryTotal,
+                   r.lastCompletedAt as lastCompletedAt
+            from ClientRfmStats r
+            join Client c on c.id = r.clientId
+            where r.lastCompletedAt >= :lastCompletedFrom
+              and r.lastCompletedAt < :lastCompletedTo
+              and r.completedCount between :minCompleted and :maxCompleted
+              and c.phoneNormalized not like 'anon%'
+              and (r.monetaryTotal < :afterMonetary
+                   or (r.monetaryTotal = :afterMonetary and r.clientId > :afterClientId))
+            order by r.monetaryTotal desc, r.clientId asc
+            """)
+    List<ClientSegmentRowProjection> findSegmentPage(
+            @Param("lastCompletedFrom") OffsetDateTime lastCompletedFrom,
+            @Param("lastCompletedTo") OffsetDateTime lastCompletedTo,
+            @Param("minCompleted") long minCompleted,
+            @Param("maxCompleted") long maxCompleted,
+            @Param("afterMonetary") BigDecimal afterMonetary,
+            @Param("afterClientId") UUID afterClientId,
+            Pageable pageable
+    );
+
+    interface ClientSegmentRowProjection {
+        UUID getClientId();
+        String getClientName();
+        String getClientPhone();
+        long getCompletedCount();
+        BigDecimal getMonetaryTotal();
+        OffsetDateTime getLastCompletedAt();
+    }
+}
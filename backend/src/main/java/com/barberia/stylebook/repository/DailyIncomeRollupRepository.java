@@ -0,0 +1,198 @@
+package com.barberia.stylebook.repository;
+
+import com.barberia.stylebook.domain.entity.DailyIncomeRollup;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface DailyIncomeRollupRepository extends JpaRepository<DailyIncomeRollup, UUID> {
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "daily_income_rollups"))
+    @Query(value = """
+            insert into daily_income_rollups (day, service_id, entry_count, amount, updated_at)
+            values (:day, :serviceId, :countDelta, :amountDelta, now())
+            on conflict (day, service_id) do update
+            set entry_count = daily_income_rollups.entry_count + excluded.entry_count,
+                amount = daily_income_rollups.amount + excluded.amount,
+                updated_at = now()
+            """, nativeQuery = true)
+    int incrementService(
+            @Param("day") LocalDate day,
+            @Param("serviceId") UUID serviceId,
+            @Param("countDelta") long countDelta,
+            @Param("amountDelta") BigDecimal amountDelta
+    );
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "daily_income_rollups"))
+    @Query(value = """
+            insert into daily_income_rollups (day, service_id, entry_count, amount, tip_count, tip_amount, updated_at)
+            values (:day, null, :countDelta, :amountDelta, :tipCountDelta, :tipAmountDelta, now())
+            on conflict (day, service_id) do update
+            set entry_count = daily_income_rollups.entry_count + excluded.entry_count,
+                amount = daily_income_rollups.amount + excluded.amount,
+                tip_count = daily_income_rollups.tip_count + excluded.tip_count,
+                tip_amount = daily_income_rollups.tip_amount + excluded.tip_amount,
+                updated_at = now()
+            """, nativeQuery = true)
+    int incrementManual(
+            @Param("day") LocalDate day,
+            @Param("countDelta") long countDelta,
+            @Param("amountDelta") BigDecimal amountDelta,
+            @Param("tipCountDelta") long tipCountDelta,
+            @Param("tipAmountDelta") BigDecimal tipAmountDelta
+    );
+
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "daily_income_rollups"))
+    @Query(value = """
+            update daily_income_rollups r
+            set entry_count = r.entry_count - d.completed_count,
+                amount = r.amount - d.completed_total,
+                updated_at = now()
+            from (
+                select (a.appointment_at at time zone 'UTC')::date as day,
+                       a.service_id,
+                       count(*) as completed_count,
+                       coalesce(sum(a.price_at_booking), 0) as completed_total
+                from appointments a
+                where a.client_id in (:clientIds)
+                  and a.status = 'COMPLETED'
+                group by 1, 2
+            ) d
+            where r.day = d.day
+              and r.service_id = d.service_id
+            """, nativeQuery = true)
+    int subtractCompletedForClients(@Param("clientIds") Collection<UUID> clientIds);
+
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "daily_income_rollups"))
+    @Query(value = "delete from daily_income_rollups where day >= :from and day < :to", nativeQuery = true)
+    int deleteByDayRange(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "daily_income_rollups"))
+    @Query(value = """
+            insert into daily_income_rollups (day, service_id, entry_count, amount, updated_at)
+            select (a.appointment_at at time zone 'UTC')::date, a.service_id, count(*), coalesce(sum(a.price_at_booking), 0), now()
+            from appointments a
+            where a.status = 'COMPLETED'
+              and a.appointment_at >= :fromInstant
+              and a.appointment_at < :toInstant
+            group by 1, 2
+            """, nativeQuery = true)
+    int insertCompletedAppointments(
+            @Param("fromInstant") OffsetDateTime fromInstant,
+            @Param("toInstant") OffsetDateTime toInstant
+    );
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "daily_income_rollups"))
+    @Query(value = """
+            insert into daily_income_rollups (day, service_id, entry_count, amount, tip_count, tip_amount, updated_at)
+            select occurred_on,
+                   null,
+                   count(*),
+                   coalesce(sum(amount), 0),
+                   count(*) filter (where tip_amount > 0),
+                   coalesce(sum(tip_amount), 0),
+                   now()
+            from manual_income_entries
+            where occurred_on >= :from
+              and occurred_on < :to
+            group by occurred_on
+            """, nativeQuery = true)
+    int insertManualEntries(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query(value = """
+            select least(
+                (select min((appointment_at at time zone 'UTC')::date) from appointments where status = 'COMPLETED'),
+                (select min(occurred_on) from manual_income_entries)
+            )
+            """, nativeQuery = true)
+    LocalDate findEarliestIncomeDay();
+
+    @Query(value = """
+            select greatest(
+                (select max((appointment_at at time zone 'UTC')::date) from appointments where status = 'COMPLETED'),
+                (select max(occurred_on) from manual_income_entries)
+            )
+            """, nativeQuery = true)
+    LocalDate findLatestIncomeDay();
+
+    @Query(value = """
+            select s.name as "serviceName",
+                   cast(sum(r.entry_count) as bigint) as "usageCount",
+                   sum(r.amount) as "total"
+            from daily_income_rollups r
+            join services s on s.id = r.service_id
+            where r.day >= :from
+              and r.day < :to
+            group by s.name
+            having sum(r.entry_count) > 0
+            """, nativeQuery = true)
+    List<ServiceIncomeProjection> findServiceIncome(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query(value = """
+            select cast(coalesce(sum(r.entry_count), 0) as bigint) as "entryCount",
+                   coalesce(sum(r.amount), 0) as "amount",
+                   cast(coalesce(sum(r.tip_count), 0) as bigint) as "tipCount",
+                   coalesce(sum(r.tip_amount), 0) as "tipAmount"
+            from daily_income_rollups r
+            where r.service_id is null
+              and r.day >= :from
+              and r.day < :to
+            """, nativeQuery = true)
+    ManualIncomeTotalsProjection findManualIncome(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query(value = """
+            select r.day as "day",
+                   r.amount as "amount",
+                   r.tip_amount as "tipAmount"
+            from daily_income_rollups r
+            where r.service_id is null
+              and r.day >= :from
+              and r.day < :to
+            order by r.day
+            """, nativeQuery = true)
+    List<ManualIncomeDayProjection> findManualIncomeByDay(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query(value = """
+            select coalesce(sum(r.amount + r.tip_amount), 0)
+            from daily_income_rollups r
+            where r.day >= :from
+              and r.day < :to
+            """, nativeQuery = true)
+    BigDecimal sumIncome(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    interface ServiceIncomeProjection {
+        String getServiceName();
+        long getUsageCount();
+        BigDecimal getTotal();
+    }
+
+    interface ManualIncomeTotalsProjection {
+        long getEntryCount();
+        BigDecimal getAmount();
+        long getTipCount();
+        BigDecimal getTipAmount();
+    }
+
+    interface ManualIncomeDayProjection {
+        LocalDate getDay();
+        BigDecimal getAmount();
+        BigDecimal getTipAmount();
+    }
+}
@@ -3,7 +3,10 @@ package com.barberia.stylebook.repository;
 import com.barberia.stylebook.domain.entity.GalleryImage;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -13,9 +16,47 @@ public interface GalleryImageRepository extends JpaRepository<GalleryImage, UUID
 
     List<GalleryImage> findAllByOrderBySortOrderAscCreatedAtDesc();
 
+    @Query("""
+            select g
+            from GalleryImage g
+            where g.active = true
+              and g.sortOrder >= :afterSortOrder
+              and (g.sortOrder > :afterSortOrder
+                or (g.sortOrder = :afterSortOrder and g.createdAt < :afterCreatedAt)
+                or (g.sortOrder = :afterSortOrder and g.createdAt = :afterCreatedAt and g.id < :afterId))
+            order by g.sortOrder asc, g.createdAt desc, g.id desc
+            """)
+    List<GalleryImage> findPublicPage(
+            @Param("afterSortOrder") int afterSortOrder,
+            @Param("afterCreatedAt") OffsetDateTime afterCreatedAt,
+            @Param("afterId") UUID afterId,
+            Pageable pageable
+    );
+
+    @Query("""
+            select g
+            from GalleryImage g
+            where g.active = true
+              and g.category = :category
+              and g.sortOrder >= :afterSortOrder
+              and (g.sortOrder > :afterSortOrder
+                or (g.sortOrder = :afterSortOrder and g.createdAt < :afterCreatedAt)
+                or (g.sortOrder = :afterSortOrder and g.createdAt = :afterCreatedAt and g.id < :afterId))
+            order by g.sortOrder asc, g.createdAt desc, g.id desc
+            """)
+    List<GalleryImage> findPublicPageByCategory(
+            @Param("category") String category,
+            @Param("afterSortOrder") int afterSortOrder,
+            @Param("afterCreatedAt") OffsetDateTime afterCreatedAt,
+            @Param("afterId") UUID afterId,
+            Pageable pageable
+    );
+
     List<GalleryImage> findAllByOrderBySortOrderAscCreatedAtDesc(Pageable pageable);
 
     boolean existsBySortOrder(Integer sortOrder);
 
+    boolean existsByImageUrl(String imageUrl);
+
     boolean existsBySortOrderAndIdNot(Integer sortOrder, UUID id);
 }
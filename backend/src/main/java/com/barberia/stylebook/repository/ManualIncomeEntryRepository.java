@@ -1,38 +1,35 @@
 package com.barberia.stylebook.repository;
 
 import com.barberia.stylebook.domain.entity.ManualIncomeEntry;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
 
 public interface ManualIncomeEntryRepository extends JpaRepository<ManualIncomeEntry, UUID> {
 
-    List<ManualIncomeEntry> findAllByOrderByOccurredOnDescCreatedAtDesc();
-
     List<ManualIncomeEntry> findAllByOccurredOnGreaterThanEqualAndOccurredOnLessThanOrderByOccurredOnDescCreatedAtDesc(
             LocalDate from,
             LocalDate to
     );
 
-    @Query("select coalesce(sum(m.amount), 0) from ManualIncomeEntry m")
-    BigDecimal sumAmount();
-
-    @Query("select coalesce(sum(m.tipAmount), 0) from ManualIncomeEntry m")
-    BigDecimal sumTipAmount();
-
     @Query("""
-            select coalesce(sum(m.amount + m.tipAmount), 0)
+            select m
             from ManualIncomeEntry m
-            where m.occurredOn >= :from
-              and m.occurredOn < :to
+            where m.occurredOn < :afterOccurredOn
+               or (m.occurredOn = :afterOccurredOn and m.createdAt < :afterCreatedAt)
+               or (m.occurredOn = :afterOccurredOn and m.createdAt = :afterCreatedAt and m.id < :afterId)
+            order by m.occurredOn desc, m.createdAt desc, m.id desc
             """)
-    BigDecimal sumAmountAndTipByOccurredOnBetween(
-            @Param("from") LocalDate from,
-            @Param("to") LocalDate to
+    List<ManualIncomeEntry> findLedgerPage(
+            @Param("afterOccurredOn") LocalDate afterOccurredOn,
+            @Param("afterCreatedAt") OffsetDateTime afterCreatedAt,
+            @Param("afterId") UUID afterId,
+            Pageable pageable
     );
 }
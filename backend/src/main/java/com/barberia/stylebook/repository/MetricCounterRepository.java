@@ -0,0 +1,47 @@
+package com.barberia.stylebook.repository;
+
+import com.barberia.stylebook.domain.entity.MetricCounter;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface MetricCounterRepository extends JpaRepository<MetricCounter, String> {
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "metric_counters"))
+    @Query(value = """
+            insert into metric_counters (name, value, updated_at)
+            values (:name, :delta, now())
+            on conflict (name) do update
+            set value = metric_counters.value + excluded.value,
+                updated_at = now()
+            """, nativeQuery = true)
+    int increment(@Param("name") String name, @Param("delta") long delta);
+
+    @Query(value = "select name from metric_counters order by name for update", nativeQuery = true)
+    List<String> lockAll();
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "metric_counters"))
+    @Query(value = """
+            insert into metric_counters (name, value, updated_at)
+            select 'appointments.total', count(*), now() from appointments
+            union all
+            select 'appointments.status.' || s.status, count(a.id), now()
+            from (values ('PENDING'), ('CONFIRMED'), ('COMPLETED'), ('CANCELLED')) as s(status)
+            left join appointments a on a.status = s.status
+            group by s.status
+            union all
+            select 'clients.with_appointments', count(distinct client_id), now() from appointments
+            on conflict (name) do update
+            set value = excluded.value,
+                updated_at = now()
+            """, nativeQuery = true)
+    int reconcileAppointmentCounters();
+}
@@ -0,0 +1,100 @@
+package com.barberia.stylebook.repository;
+
+import com.barberia.stylebook.domain.entity.ServiceDailyBookings;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface ServiceDailyBookingsRepository extends JpaRepository<ServiceDailyBookings, UUID> {
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "service_daily_bookings"))
+    @Query(value = """
+            insert into service_daily_bookings (day, service_id, booking_count, updated_at)
+            values (:day, :serviceId, :delta, now())
+            on conflict (day, service_id) do update
+            set booking_count = service_daily_bookings.booking_count + excluded.booking_count,
+                updated_at = now()
+            """, nativeQuery = true)
+    int increment(@Param("day") LocalDate day, @Param("serviceId") UUID serviceId, @Param("delta") long delta);
+
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "service_daily_bookings"))
+    @Query(value = """
+            update service_daily_bookings b
+            set booking_count = b.booking_count - d.booking_count,
+                updated_at = now()
+            from (
+                select (a.appointment_at at time zone 'UTC')::date as day,
+                       a.service_id,
+                       count(*) as booking_count
+                from appointments a
+                where a.client_id in (:clientIds)
+                  and a.status <> 'CANCELLED'
+                group by 1, 2
+            ) d
+            where b.day = d.day
+              and b.service_id = d.service_id
+            """, nativeQuery = true)
+    int subtractForClients(@Param("clientIds") Collection<UUID> clientIds);
+
+    @Query(value = """
+            select s.id as "serviceId",
+                   s.name as "serviceName",
+                   cast(sum(b.booking_count) as bigint) as "bookingCount"
+            from service_daily_bookings b
+            join services s on s.id = b.service_id
+            where b.day >= :from
+              and b.day <= :to
+            group by s.id, s.name
+            having sum(b.booking_count) > 0
+            order by sum(b.booking_count) desc, s.name asc
+            limit :limit
+            """, nativeQuery = true)
+    List<ServicePopularityProjection> findTopServices(
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            @Param("limit") int limit
+    );
+
+    @Query(value = "select id from service_daily_bookings where day >= :from order by id for update", nativeQuery = true)
+    List<UUID> lockFrom(@Param("from") LocalDate from);
+
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "service_daily_bookings"))
+    @Query(value = "delete from service_daily_bookings where day < :horizon", nativeQuery = true)
+    int deleteBefore(@Param("horizon") LocalDate horizon);
+
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "service_daily_bookings"))
+    @Query(value = "delete from service_daily_bookings where day >= :from", nativeQuery = true)
+    int deleteFrom(@Param("from") LocalDate from);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "service_daily_bookings"))
+    @Query(value = """
+            insert into service_daily_bookings (day, service_id, booking_count, updated_at)
+            select (appointment_at at time zone 'UTC')::date, service_id, count(*), now()
+            from appointments
+            where status <> 'CANCELLED'
+              and appointment_at >= :fromInstant
+            group by 1, 2
+            """, nativeQuery = true)
+    int insertFrom(@Param("fromInstant") OffsetDateTime fromInstant);
+
+    interface ServicePopularityProjection {
+        UUID getServiceId();
+        String getServiceName();
+        long getBookingCount();
+    }
+}
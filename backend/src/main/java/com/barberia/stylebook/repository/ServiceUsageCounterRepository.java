@@ -0,0 +1,54 @@
+package com.barberia.stylebook.repository;
+
+import com.barberia.stylebook.domain.entity.ServiceUsageCounter;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ServiceUsageCounterRepository extends JpaRepository<ServiceUsageCounter, UUID> {
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "service_usage_counters"))
+    @Query(value = """
+            insert into service_usage_counters (service_id, usage_count, updated_at)
+            values (:serviceId, :delta, now())
+            on conflict (service_id) do update
+            set usage_count = service_usage_counters.usage_count + excluded.usage_count,
+                updated_at = now()
+            """, nativeQuery = true)
+    int increment(@Param("serviceId") UUID serviceId, @Param("delta") long delta);
+
+    @Query(value = """
+            select s.name
+            from service_usage_counters u
+            join services s on s.id = u.service_id
+            where u.usage_count > 0
+            order by u.usage_count desc, s.name asc
+            limit 1
+            """, nativeQuery = true)
+    List<String> findMostUsedServiceName();
+
+    @Query(value = "select service_id from service_usage_counters order by service_id for update", nativeQuery = true)
+    List<UUID> lockAll();
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "service_usage_counters"))
+    @Query(value = """
+            insert into service_usage_counters (service_id, usage_count, updated_at)
+            select s.id, count(a.id), now()
+            from services s
+            left join appointments a on a.service_id = s.id
+            group by s.id
+            on conflict (service_id) do update
+            set usage_count = excluded.usage_count,
+                updated_at = now()
+            """, nativeQuery = true)
+    int reconcile();
+}
@@ -1,10 +1,27 @@
 package com.barberia.stylebook.web;
 
+import com.barberia.stylebook.application.exception.BusinessRuleException;
 import com.barberia.stylebook.application.service.AdminClientService;
+import com.barberia.stylebook.application.service.ClientDuplicateService;
+import com.barberia.stylebook.application.service.ClientErasureService;
+import com.barberia.stylebook.application.service.ClientImportService;
+import com.barberia.stylebook.application.service.ClientLookupService;
+import com.barberia.stylebook.application.service.ClientRfmService;
+import com.barberia.stylebook.domain.enums.ClientSegment;
 import com.barberia.stylebook.web.dto.AdminClientUpsertRequest;
+import com.barberia.stylebook.web.dto.BatchMergeClientsRequest;
+import com.barberia.stylebook.web.dto.BatchMergeClientsResponse;
+import com.barberia.stylebook.web.dto.ClientDuplicateCandidateResponse;
+import com.barberia.stylebook.web.dto.ClientErasureJobResponse;
+import com.barberia.stylebook.web.dto.ClientErasureRequest;
+import com.barberia.stylebook.web.dto.ClientImportResponse;
+import com.barberia.stylebook.web.dto.ClientLookupResponse;
+import com.barberia.stylebook.web.dto.ClientSegmentPageResponse;
 import com.barberia.stylebook.web.dto.ClientSummaryResponse;
 import com.barberia.stylebook.web.dto.MergeClientsRequest;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -14,9 +31,14 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
 
 @RestController
@@ -24,9 +46,26 @@ import java.util.UUID;
 public class AdminClientController {
 
     private final AdminClientService adminClientService;
+    private final ClientLookupService clientLookupService;
+    private final ClientDuplicateService clientDuplicateService;
+    private final ClientErasureService clientErasureService;
+    private final ClientRfmService clientRfmService;
+    private final ClientImportService clientImportService;
 
-    public AdminClientController(AdminClientService adminClientService) {
+    public AdminClientController(
+            AdminClientService adminClientService,
+            ClientLookupService clientLookupService,
+            ClientDuplicateService clientDuplicateService,
+            ClientErasureService clientErasureService,
+            ClientRfmService clientRfmService,
+            ClientImportService clientImportService
+    ) {
         this.adminClientService = adminClientService;
+        this.clientLookupService = clientLookupService;
+        this.clientDuplicateService = clientDuplicateService;
+        this.clientErasureService = clientErasureService;
+        this.clientRfmService = clientRfmService;
+        this.clientImportService = clientImportService;
     }
 
     @GetMapping
@@ -37,6 +76,37 @@ public class AdminClientController {
         return ResponseEntity.ok(adminClientService.list(limit, page));
     }
 
+    @GetMapping("/lookup")
+    public ResponseEntity<List<ClientLookupResponse>> lookup(
+            @RequestParam(name = "q") String query,
+            @RequestParam(name = "limit", required = false, defaultValue = "8") int limit
+    ) {
+        return ResponseEntity.ok(clientLookupService.lookup(query, limit));
+    }
+
+    @GetMapping("/duplicates")
+    public ResponseEntity<List<ClientDuplicateCandidateResponse>> duplicates(
+            @RequestParam(name = "minScore", required = false) Double minScore,
+            @RequestParam(name = "limit", required = false, defaultValue = "100") int limit
+    ) {
+        return ResponseEntity.ok(clientDuplicateService.detect(minScore, limit));
+    }
+
+    @GetMapping("/segments/{segment}")
+    public ResponseEntity<ClientSegmentPageResponse> segment(
+            @PathVariable String segment,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "limit", required = false, defaultValue = "50") int limit
+    ) {
+        ClientSegment parsedSegment;
+        try {
+            parsedSegment = ClientSegment.valueOf(segment.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        } catch (IllegalArgumentException ex) {
+            throw new BusinessRuleException("Segmento invalido");
+        }
+        return ResponseEntity.ok(clientRfmService.listSegment(parsedSegment, cursor, limit));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ClientSummaryResponse> update(
             @PathVariable UUID id,
@@ -50,6 +120,33 @@ public class AdminClientController {
         return ResponseEntity.ok(adminClientService.merge(request.sourceClientId(), request.targetClientId()));
     }
 
+    @PostMapping("/merge/batch")
+    public ResponseEntity<BatchMergeClientsResponse> mergeBatch(@Valid @RequestBody BatchMergeClientsRequest request) {
+        return ResponseEntity.ok(adminClientService.mergeBatch(request.merges()));
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ClientImportResponse> importCsv(@RequestPart("file") MultipartFile file) {
+        if (file.isEmpty()) {
+            throw new BusinessRuleException("El archivo CSV esta vacio");
+        }
+        try (InputStream input = file.getInputStream()) {
+            return ResponseEntity.ok(clientImportService.importCsv(input));
+        } catch (IOException ex) {
+            throw new BusinessRuleException("No se pudo leer el archivo CSV");
+        }
+    }
+
+    @PostMapping("/erasure")
+    public ResponseEntity<ClientErasureJobResponse> startErasure(@Valid @RequestBody ClientErasureRequest request) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(clientErasureService.start(request));
+    }
+
+    @GetMapping("/erasure/{jobId}")
+    public ResponseEntity<ClientErasureJobResponse> erasureStatus(@PathVariable UUID jobId) {
+        return ResponseEntity.ok(clientErasureService.status(jobId));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> delete(@PathVariable UUID id) {
         adminClientService.delete(id);
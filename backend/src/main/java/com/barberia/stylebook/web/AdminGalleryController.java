@@ -2,10 +2,14 @@ package com.barberia.stylebook.web;
 
 import com.barberia.stylebook.application.service.CloudinaryUploadSignatureService;
 import com.barberia.stylebook.application.service.GalleryImageService;
+import com.barberia.stylebook.application.service.LocalGalleryStorageService;
+import com.barberia.stylebook.web.dto.AdminGalleryFileUploadResponse;
 import com.barberia.stylebook.web.dto.AdminGalleryImageUpsertRequest;
+import com.barberia.stylebook.web.dto.AdminGalleryReorderRequest;
 import com.barberia.stylebook.web.dto.AdminGalleryUploadSignatureResponse;
 import com.barberia.stylebook.web.dto.GalleryImageResponse;
 import jakarta.validation.Valid;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -15,7 +19,9 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 import java.util.UUID;
@@ -26,13 +32,16 @@ public class AdminGalleryController {
 
     private final GalleryImageService galleryImageService;
     private final CloudinaryUploadSignatureService cloudinaryUploadSignatureService;
+    private final LocalGalleryStorageService localGalleryStorageService;
 
     public AdminGalleryController(
             GalleryImageService galleryImageService,
-            CloudinaryUploadSignatureService cloudinaryUploadSignatureService
+            CloudinaryUploadSignatureService cloudinaryUploadSignatureService,
+            LocalGalleryStorageService localGalleryStorageService
     ) {
         this.galleryImageService = galleryImageService;
         this.cloudinaryUploadSignatureService = cloudinaryUploadSignatureService;
+        this.localGalleryStorageService = localGalleryStorageService;
     }
 
     @GetMapping
@@ -48,6 +57,12 @@ public class AdminGalleryController {
         return ResponseEntity.ok(cloudinaryUploadSignatureService.generateUploadSignature());
     }
 
+    @PostMapping(value = "/files", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<AdminGalleryFileUploadResponse> uploadFile(@RequestPart("file") MultipartFile file) {
+        String name = localGalleryStorageService.store(file);
+        return ResponseEntity.ok(new AdminGalleryFileUploadResponse(localGalleryStorageService.publicPath(name)));
+    }
+
     @PostMapping
     public ResponseEntity<GalleryImageResponse> create(@Valid @RequestBody AdminGalleryImageUpsertRequest request) {
         return ResponseEntity.ok(galleryImageService.create(request));
@@ -61,6 +76,11 @@ public class AdminGalleryController {
         return ResponseEntity.ok(galleryImageService.update(id, request));
     }
 
+    @PutMapping("/order")
+    public ResponseEntity<List<GalleryImageResponse>> reorder(@Valid @RequestBody AdminGalleryReorderRequest request) {
+        return ResponseEntity.ok(galleryImageService.reorder(request.imageIds()));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> delete(@PathVariable UUID id) {
         galleryImageService.delete(id);
@@ -1,14 +1,27 @@
 package com.barberia.stylebook.web;
 
+import com.barberia.stylebook.application.service.AdminMetricsCacheService;
 import com.barberia.stylebook.application.service.AdminMetricsService;
 import com.barberia.stylebook.application.service.AdminClientService;
+import com.barberia.stylebook.application.service.ChairUtilizationService;
+import com.barberia.stylebook.application.service.ClientRetentionService;
+import com.barberia.stylebook.application.service.DailyIncomeRollupService;
 import com.barberia.stylebook.application.service.ManualIncomeService;
+import com.barberia.stylebook.application.service.ServicePopularityService;
 import com.barberia.stylebook.application.exception.BusinessRuleException;
+import com.barberia.stylebook.domain.enums.IncomeGranularity;
+import com.barberia.stylebook.web.dto.CacheStatsResponse;
 import com.barberia.stylebook.web.dto.ClientSummaryResponse;
 import com.barberia.stylebook.web.dto.CreateManualIncomeRequest;
 import com.barberia.stylebook.web.dto.IncomeMetricsResponse;
+import com.barberia.stylebook.web.dto.IncomeRollupRebuildResponse;
+import com.barberia.stylebook.web.dto.IncomeSeriesResponse;
 import com.barberia.stylebook.web.dto.ManualIncomeEntryResponse;
+import com.barberia.stylebook.web.dto.ManualIncomeLedgerPageResponse;
 import com.barberia.stylebook.web.dto.OverviewMetricsResponse;
+import com.barberia.stylebook.web.dto.RetentionCohortReportResponse;
+import com.barberia.stylebook.web.dto.ServicePopularityWindowResponse;
+import com.barberia.stylebook.web.dto.UtilizationReportResponse;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -21,9 +34,11 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
 import java.time.YearMonth;
 import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
 
 @RestController
@@ -33,15 +48,30 @@ public class AdminMetricsController {
     private final AdminMetricsService adminMetricsService;
     private final AdminClientService adminClientService;
     private final ManualIncomeService manualIncomeService;
+    private final DailyIncomeRollupService dailyIncomeRollupService;
+    private final AdminMetricsCacheService adminMetricsCacheService;
+    private final ServicePopularityService servicePopularityService;
+    private final ClientRetentionService clientRetentionService;
+    private final ChairUtilizationService chairUtilizationService;
 
     public AdminMetricsController(
             AdminMetricsService adminMetricsService,
             AdminClientService adminClientService,
-            ManualIncomeService manualIncomeService
+            ManualIncomeService manualIncomeService,
+            DailyIncomeRollupService dailyIncomeRollupService,
+            AdminMetricsCacheService adminMetricsCacheService,
+            ServicePopularityService servicePopularityService,
+            ClientRetentionService clientRetentionService,
+            ChairUtilizationService chairUtilizationService
     ) {
         this.adminMetricsService = adminMetricsService;
         this.adminClientService = adminClientService;
         this.manualIncomeService = manualIncomeService;
+        this.dailyIncomeRollupService = dailyIncomeRollupService;
+        this.adminMetricsCacheService = adminMetricsCacheService;
+        this.servicePopularityService = servicePopularityService;
+        this.clientRetentionService = clientRetentionService;
+        this.chairUtilizationService = chairUtilizationService;
     }
 
     @GetMapping("/overview")
@@ -49,18 +79,60 @@ public class AdminMetricsController {
         return ResponseEntity.ok(adminMetricsService.overview());
     }
 
+    @GetMapping("/services/popularity")
+    public ResponseEntity<List<ServicePopularityWindowResponse>> servicePopularity(
+            @RequestParam(name = "limit", required = false, defaultValue = "5") int limit
+    ) {
+        return ResponseEntity.ok(servicePopularityService.topServices(limit));
+    }
+
     @GetMapping("/income")
     public ResponseEntity<IncomeMetricsResponse> income(
-            @RequestParam(name = "month", required = false) String month
+            @RequestParam(name = "month", required = false) String month,
+            @RequestParam(name = "from", required = false) String from,
+            @RequestParam(name = "to", required = false) String to
     ) {
+        if (from != null || to != null) {
+            return ResponseEntity.ok(adminMetricsService.income(parseDate(from), parseDate(to)));
+        }
         if (month == null || month.isBlank()) {
             return ResponseEntity.ok(adminMetricsService.income());
         }
+        return ResponseEntity.ok(adminMetricsService.income(parseMonth(month)));
+    }
+
+    @GetMapping("/income/series")
+    public ResponseEntity<IncomeSeriesResponse> incomeSeries(
+            @RequestParam(name = "from") String from,
+            @RequestParam(name = "to") String to,
+            @RequestParam(name = "granularity", required = false, defaultValue = "day") String granularity
+    ) {
+        IncomeGranularity parsedGranularity;
         try {
-            return ResponseEntity.ok(adminMetricsService.income(YearMonth.parse(month)));
-        } catch (DateTimeParseException ex) {
-            throw new BusinessRuleException("El mes debe tener formato YYYY-MM");
+            parsedGranularity = IncomeGranularity.valueOf(granularity.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new BusinessRuleException("La agrupacion debe ser day, week o month");
         }
+        return ResponseEntity.ok(adminMetricsService.incomeSeries(parseDate(from), parseDate(to), parsedGranularity));
+    }
+
+    @PostMapping("/income/rollups/rebuild")
+    public ResponseEntity<IncomeRollupRebuildResponse> rebuildIncomeRollups(
+            @RequestParam(name = "from", required = false) String from,
+            @RequestParam(name = "to", required = false) String to
+    ) {
+        return ResponseEntity.ok(dailyIncomeRollupService.rebuild(
+                from == null ? null : parseDate(from),
+                to == null ? null : parseDate(to)
+        ));
+    }
+
+    @GetMapping("/income/manual")
+    public ResponseEntity<ManualIncomeLedgerPageResponse> manualIncomeLedger(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "limit", required = false, defaultValue = "50") int limit
+    ) {
+        return ResponseEntity.ok(manualIncomeService.ledger(cursor, limit));
     }
 
     @PostMapping("/income/manual")
@@ -84,8 +156,54 @@ public class AdminMetricsController {
         return ResponseEntity.noContent().build();
     }
 
+    @GetMapping("/retention")
+    public ResponseEntity<RetentionCohortReportResponse> retention(
+            @RequestParam(name = "from", required = false) String from,
+            @RequestParam(name = "to", required = false) String to
+    ) {
+        return ResponseEntity.ok(clientRetentionService.cohorts(
+                from == null || from.isBlank() ? null : parseMonth(from),
+                to == null || to.isBlank() ? null : parseMonth(to)
+        ));
+    }
+
+    @GetMapping("/utilization")
+    public ResponseEntity<UtilizationReportResponse> utilization(
+            @RequestParam(name = "from", required = false) String from,
+            @RequestParam(name = "to", required = false) String to
+    ) {
+        return ResponseEntity.ok(chairUtilizationService.utilization(
+                from == null || from.isBlank() ? null : parseDate(from),
+                to == null || to.isBlank() ? null : parseDate(to)
+        ));
+    }
+
+    @GetMapping("/cache")
+    public ResponseEntity<List<CacheStatsResponse>> cacheStats() {
+        return ResponseEntity.ok(adminMetricsCacheService.stats());
+    }
+
     @GetMapping("/clients")
     public ResponseEntity<List<ClientSummaryResponse>> clients() {
         return ResponseEntity.ok(adminClientService.list());
     }
+
+    private static YearMonth parseMonth(String value) {
+        try {
+            return YearMonth.parse(value.trim());
+        } catch (DateTimeParseException ex) {
+            throw new BusinessRuleException("El mes debe tener formato YYYY-MM");
+        }
+    }
+
+    private static LocalDate parseDate(String value) {
+        if (value == null || value.isBlank()) {
+            throw new BusinessRuleException("Indica las fechas desde y hasta");
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException ex) {
+            throw new BusinessRuleException("Las fechas deben tener formato YYYY-MM-DD");
+        }
+    }
 }
@@ -2,25 +2,30 @@ package com.barberia.stylebook.web;
 
 import com.barberia.stylebook.application.service.BookingService;
 import com.barberia.stylebook.application.service.GalleryImageService;
+import com.barberia.stylebook.application.service.PublicPayload;
 import com.barberia.stylebook.application.service.ServiceCatalogService;
 import com.barberia.stylebook.security.BookingRateLimiter;
 import com.barberia.stylebook.security.ClientIpResolver;
 import com.barberia.stylebook.web.dto.CreateAppointmentRequest;
-import com.barberia.stylebook.web.dto.GalleryImageResponse;
 import com.barberia.stylebook.web.dto.PublicAppointmentResponse;
 import com.barberia.stylebook.web.dto.PublicOccupiedAppointmentResponse;
-import com.barberia.stylebook.web.dto.ServiceCatalogResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
@@ -28,6 +33,9 @@ import java.util.UUID;
 @RestController
 @RequestMapping("/api/public")
 public class PublicBookingController {
+    private static final CacheControl PUBLIC_CATALOG_CACHE = CacheControl.maxAge(Duration.ofMinutes(1))
+            .cachePublic()
+            .mustRevalidate();
 
     private final BookingService bookingService;
     private final ServiceCatalogService serviceCatalogService;
@@ -69,12 +77,85 @@ public class PublicBookingController {
     }
 
     @GetMapping("/services")
-    public ResponseEntity<List<ServiceCatalogResponse>> listServices() {
-        return ResponseEntity.ok(serviceCatalogService.listPublic());
+    public ResponseEntity<byte[]> listServices(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        return serve(serviceCatalogService.publicPayload(), ifNoneMatch, acceptEncoding);
     }
 
     @GetMapping("/gallery")
-    public ResponseEntity<List<GalleryImageResponse>> listGallery() {
-        return ResponseEntity.ok(galleryImageService.listPublic());
+    public ResponseEntity<byte[]> listGallery(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        return serve(galleryImageService.publicPayload(), ifNoneMatch, acceptEncoding);
+    }
+
+    @GetMapping("/gallery/page")
+    public ResponseEntity<byte[]> listGalleryPage(
+            @RequestParam(name = "category", required = false) String category,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "limit", required = false, defaultValue = "24") int limit,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        return serve(galleryImageService.publicPagePayload(
+                GalleryImageService.PublicPageQuery.of(category, cursor, limit)
+        ), ifNoneMatch, acceptEncoding);
+    }
+
+    private ResponseEntity<byte[]> serve(PublicPayload payload, String ifNoneMatch, String acceptEncoding) {
+        boolean gzip = acceptsGzip(acceptEncoding);
+        String etag = gzip ? payload.gzipEtag() : payload.etag();
+        if (matches(ifNoneMatch, payload)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(PUBLIC_CATALOG_CACHE)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .cacheControl(PUBLIC_CATALOG_CACHE)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(payload.gzip());
+        }
+        return response.body(payload.json());
+    }
+
+    private static boolean matches(String ifNoneMatch, PublicPayload payload) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(payload.etag()) || tag.equals(payload.gzipEtag())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            String name = parts[0].trim();
+            if (!name.equalsIgnoreCase("gzip") && !name.equals("*")) {
+                continue;
+            }
+            boolean refused = parts.length > 1 && parts[1].trim().replace(" ", "").matches("q=0(\\.0*)?");
+            return !refused;
+        }
+        return false;
     }
 }
@@ -0,0 +1,6 @@
+package com.barberia.stylebook.web.dto;
+
+public record AdminGalleryFileUploadResponse(
+        String imageUrl
+) {
+}
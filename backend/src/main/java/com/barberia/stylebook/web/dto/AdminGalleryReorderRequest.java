@@ -0,0 +1,13 @@
+package com.barberia.stylebook.web.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+public record AdminGalleryReorderRequest(
+        @NotEmpty @Size(max = 1000) List<@NotNull UUID> imageIds
+) {
+}
@@ -0,0 +1,10 @@
+package com.barberia.stylebook.web.dto;
+
+import java.util.List;
+
+public record BatchMergeClientsResponse(
+        int mergedClients,
+        int reassignedAppointments,
+        List<ClientSummaryResponse> targets
+) {
+}
@@ -0,0 +1,11 @@
+package com.barberia.stylebook.web.dto;
+
+public record CacheStatsResponse(
+        String name,
+        long size,
+        long hitCount,
+        long missCount,
+        double hitRate,
+        long evictionCount
+) {
+}
@@ -0,0 +1,16 @@
+package com.barberia.stylebook.web.dto;
+
+import java.util.UUID;
+
+public record ClientDuplicateCandidateResponse(
+        UUID sourceClientId,
+        String sourceClientName,
+        String sourceClientPhone,
+        UUID targetClientId,
+        String targetClientName,
+        String targetClientPhone,
+        double score,
+        double nameSimilarity,
+        boolean samePhoneSuffix
+) {
+}
@@ -0,0 +1,22 @@
+package com.barberia.stylebook.web.dto;
+
+import com.barberia.stylebook.domain.enums.ClientErasureJobStatus;
+import com.barberia.stylebook.domain.enums.ClientErasureMode;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public record ClientErasureJobResponse(
+        UUID jobId,
+        ClientErasureMode mode,
+        ClientErasureJobStatus status,
+        int totalClients,
+        int processedClients,
+        long processedAppointments,
+        List<UUID> missingClientIds,
+        OffsetDateTime startedAt,
+        OffsetDateTime finishedAt,
+        String error
+) {
+}
@@ -0,0 +1,15 @@
+package com.barberia.stylebook.web.dto;
+
+import com.barberia.stylebook.domain.enums.ClientErasureMode;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+public record ClientErasureRequest(
+        @NotEmpty @Size(max = 5000) List<@NotNull UUID> clientIds,
+        @NotNull ClientErasureMode mode
+) {
+}
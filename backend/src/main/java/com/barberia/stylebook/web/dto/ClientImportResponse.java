@@ -0,0 +1,12 @@
+package com.barberia.stylebook.web.dto;
+
+import java.util.List;
+
+public record ClientImportResponse(
+        long totalRows,
+        long upsertedRows,
+        long errorRows,
+        List<ClientImportRowError> errors,
+        boolean errorsTruncated
+) {
+}
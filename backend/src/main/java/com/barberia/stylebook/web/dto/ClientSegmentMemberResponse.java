@@ -0,0 +1,16 @@
+package com.barberia.stylebook.web.dto;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+public record ClientSegmentMemberResponse(
+        UUID clientId,
+        String clientName,
+        String clientPhone,
+        long completedCount,
+        BigDecimal monetaryTotal,
+        OffsetDateTime lastCompletedAt,
+        long recencyDays
+) {
+}
@@ -0,0 +1,12 @@
+package com.barberia.stylebook.web.dto;
+
+import com.barberia.stylebook.domain.enums.ClientSegment;
+
+import java.util.List;
+
+public record ClientSegmentPageResponse(
+        ClientSegment segment,
+        List<ClientSegmentMemberResponse> items,
+        String nextCursor
+) {
+}
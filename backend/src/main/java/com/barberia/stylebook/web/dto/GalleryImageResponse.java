@@ -8,6 +8,7 @@ public record GalleryImageResponse(
         String category,
         String imageUrl,
         Integer sortOrder,
-        Boolean active
+        Boolean active,
+        GalleryImageVariantsResponse variants
 ) {
 }
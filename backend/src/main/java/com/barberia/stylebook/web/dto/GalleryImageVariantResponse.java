@@ -0,0 +1,7 @@
+package com.barberia.stylebook.web.dto;
+
+public record GalleryImageVariantResponse(
+        int width,
+        String url
+) {
+}
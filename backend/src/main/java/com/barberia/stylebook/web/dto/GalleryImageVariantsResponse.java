@@ -0,0 +1,11 @@
+package com.barberia.stylebook.web.dto;
+
+import java.util.List;
+
+public record GalleryImageVariantsResponse(
+        String src,
+        String srcset,
+        String placeholderUrl,
+        List<GalleryImageVariantResponse> widths
+) {
+}
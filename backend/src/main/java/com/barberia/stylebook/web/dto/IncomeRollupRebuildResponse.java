@@ -0,0 +1,10 @@
+package com.barberia.stylebook.web.dto;
+
+import java.time.LocalDate;
+
+public record IncomeRollupRebuildResponse(
+        LocalDate from,
+        LocalDate to,
+        long rebuiltDays
+) {
+}
@@ -0,0 +1,14 @@
+package com.barberia.stylebook.web.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record IncomeSeriesPoint(
+        LocalDate periodStart,
+        long completedAppointments,
+        BigDecimal registeredIncome,
+        BigDecimal manualIncome,
+        BigDecimal tips,
+        BigDecimal totalIncome
+) {
+}
@@ -0,0 +1,15 @@
+package com.barberia.stylebook.web.dto;
+
+import com.barberia.stylebook.domain.enums.IncomeGranularity;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record IncomeSeriesResponse(
+        IncomeGranularity granularity,
+        LocalDate from,
+        LocalDate to,
+        String timezone,
+        List<IncomeSeriesPoint> points
+) {
+}
@@ -0,0 +1,9 @@
+package com.barberia.stylebook.web.dto;
+
+import java.util.List;
+
+public record ManualIncomeLedgerPageResponse(
+        List<ManualIncomeEntryResponse> items,
+        String nextCursor
+) {
+}
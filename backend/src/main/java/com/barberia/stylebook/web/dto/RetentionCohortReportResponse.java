@@ -0,0 +1,12 @@
+package com.barberia.stylebook.web.dto;
+
+import java.time.YearMonth;
+import java.util.List;
+
+public record RetentionCohortReportResponse(
+        YearMonth from,
+        YearMonth to,
+        String timezone,
+        List<RetentionCohortResponse> cohorts
+) {
+}
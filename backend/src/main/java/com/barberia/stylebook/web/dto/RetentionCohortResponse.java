@@ -0,0 +1,16 @@
+package com.barberia.stylebook.web.dto;
+
+import java.time.YearMonth;
+
+public record RetentionCohortResponse(
+        YearMonth cohortMonth,
+        long clients,
+        long returnedWithin30Days,
+        long returnedWithin60Days,
+        long returnedWithin90Days,
+        double returnRate30Days,
+        double returnRate60Days,
+        double returnRate90Days,
+        boolean closed
+) {
+}
@@ -0,0 +1,10 @@
+package com.barberia.stylebook.web.dto;
+
+import java.util.UUID;
+
+public record ServicePopularityItem(
+        UUID serviceId,
+        String serviceName,
+        long bookingCount
+) {
+}
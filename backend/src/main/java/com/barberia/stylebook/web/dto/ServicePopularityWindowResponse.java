@@ -0,0 +1,12 @@
+package com.barberia.stylebook.web.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record ServicePopularityWindowResponse(
+        int days,
+        LocalDate from,
+        LocalDate to,
+        List<ServicePopularityItem> services
+) {
+}
@@ -0,0 +1,15 @@
+package com.barberia.stylebook.web.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record ServiceUtilizationResponse(
+        UUID serviceId,
+        String serviceName,
+        long appointments,
+        long bookedMinutes,
+        double utilization,
+        BigDecimal completedRevenue,
+        BigDecimal revenuePerAvailableHour
+) {
+}
@@ -0,0 +1,12 @@
+package com.barberia.stylebook.web.dto;
+
+import java.time.DayOfWeek;
+
+public record UtilizationCellResponse(
+        DayOfWeek dayOfWeek,
+        int hour,
+        long bookedMinutes,
+        long availableMinutes,
+        double utilization
+) {
+}
@@ -0,0 +1,20 @@
+package com.barberia.stylebook.web.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public record UtilizationReportResponse(
+        LocalDate from,
+        LocalDate to,
+        String timezone,
+        int chairs,
+        long bookedMinutes,
+        long availableMinutes,
+        double utilization,
+        BigDecimal completedRevenue,
+        BigDecimal revenuePerAvailableHour,
+        List<UtilizationCellResponse> heatmap,
+        List<ServiceUtilizationResponse> services
+) {
+}
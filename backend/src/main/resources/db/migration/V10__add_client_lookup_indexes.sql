@@ -0,0 +1,7 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_clients_phone_normalized_prefix
+ON clients(phone_normalized text_pattern_ops);
+
+CREATE INDEX IF NOT EXISTS idx_clients_name_trgm
+ON clients USING gin (lower(name) gin_trgm_ops);
@@ -0,0 +1,26 @@
+CREATE TABLE IF NOT EXISTS client_rfm_stats (
+    client_id UUID PRIMARY KEY REFERENCES clients(id) ON DELETE CASCADE,
+    completed_count BIGINT NOT NULL,
+    monetary_total NUMERIC(14,2) NOT NULL,
+    first_completed_at TIMESTAMPTZ NOT NULL,
+    last_completed_at TIMESTAMPTZ NOT NULL,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+INSERT INTO client_rfm_stats (client_id, completed_count, monetary_total, first_completed_at, last_completed_at)
+SELECT a.client_id,
+       count(*),
+       coalesce(sum(s.price), 0),
+       min(a.appointment_at),
+       max(a.appointment_at)
+FROM appointments a
+JOIN services s ON s.id = a.service_id
+WHERE a.status = 'COMPLETED'
+GROUP BY a.client_id
+ON CONFLICT (client_id) DO NOTHING;
+
+CREATE INDEX IF NOT EXISTS idx_client_rfm_stats_last_completed
+ON client_rfm_stats(last_completed_at);
+
+CREATE INDEX IF NOT EXISTS idx_client_rfm_stats_monetary
+ON client_rfm_stats(monetary_total DESC, client_id);
@@ -0,0 +1,30 @@
+CREATE TABLE IF NOT EXISTS metric_counters (
+    name VARCHAR(80) PRIMARY KEY,
+    value BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+CREATE TABLE IF NOT EXISTS service_usage_counters (
+    service_id UUID PRIMARY KEY REFERENCES services(id) ON DELETE CASCADE,
+    usage_count BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS idx_service_usage_counters_usage
+ON service_usage_counters(usage_count DESC);
+
+INSERT INTO metric_counters (name, value)
+SELECT 'appointments.total', count(*) FROM appointments
+ON CONFLICT (name) DO NOTHING;
+
+INSERT INTO metric_counters (name, value)
+SELECT 'appointments.status.' || status, count(*) FROM appointments GROUP BY status
+ON CONFLICT (name) DO NOTHING;
+
+INSERT INTO metric_counters (name, value)
+SELECT 'clients.with_appointments', count(DISTINCT client_id) FROM appointments
+ON CONFLICT (name) DO NOTHING;
+
+INSERT INTO service_usage_counters (service_id, usage_count)
+SELECT service_id, count(*) FROM appointments GROUP BY service_id
+ON CONFLICT (service_id) DO NOTHING;
@@ -0,0 +1,26 @@
+-- One row per UTC day and service; rows with a null service_id hold the manual income of the day.
+CREATE TABLE IF NOT EXISTS daily_income_rollups (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    day DATE NOT NULL,
+    service_id UUID REFERENCES services(id) ON DELETE CASCADE,
+    entry_count BIGINT NOT NULL DEFAULT 0,
+    amount NUMERIC(14,2) NOT NULL DEFAULT 0,
+    tip_count BIGINT NOT NULL DEFAULT 0,
+    tip_amount NUMERIC(14,2) NOT NULL DEFAULT 0,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    CONSTRAINT uk_daily_income_rollups_day_service UNIQUE NULLS NOT DISTINCT (day, service_id)
+);
+
+INSERT INTO daily_income_rollups (day, service_id, entry_count, amount)
+SELECT (a.appointment_at AT TIME ZONE 'UTC')::date, a.service_id, count(*), coalesce(sum(s.price), 0)
+FROM appointments a
+JOIN services s ON s.id = a.service_id
+WHERE a.status = 'COMPLETED'
+GROUP BY 1, 2
+ON CONFLICT (day, service_id) DO NOTHING;
+
+INSERT INTO daily_income_rollups (day, service_id, entry_count, amount, tip_count, tip_amount)
+SELECT occurred_on, NULL, count(*), coalesce(sum(amount), 0), count(*) FILTER (WHERE tip_amount > 0), coalesce(sum(tip_amount), 0)
+FROM manual_income_entries
+GROUP BY occurred_on
+ON CONFLICT (day, service_id) DO NOTHING;
@@ -0,0 +1,18 @@
+-- One row per UTC day and service with the non-cancelled appointments of that day. Only the popularity windows
+-- (last 90 days) and upcoming days are kept; older rows are pruned by the reconciliation job.
+CREATE TABLE IF NOT EXISTS service_daily_bookings (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    day DATE NOT NULL,
+    service_id UUID NOT NULL REFERENCES services(id) ON DELETE CASCADE,
+    booking_count BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    CONSTRAINT uk_service_daily_bookings_day_service UNIQUE (day, service_id)
+);
+
+INSERT INTO service_daily_bookings (day, service_id, booking_count)
+SELECT (appointment_at AT TIME ZONE 'UTC')::date, service_id, count(*)
+FROM appointments
+WHERE status <> 'CANCELLED'
+  AND appointment_at >= (current_date - 89)::timestamp AT TIME ZONE 'UTC'
+GROUP BY 1, 2
+ON CONFLICT (day, service_id) DO NOTHING;
@@ -0,0 +1,17 @@
+-- Appointments keep the service name and price they were booked with, so catalog edits do not rewrite history
+-- and income queries read appointments alone.
+ALTER TABLE appointments ADD COLUMN IF NOT EXISTS service_name VARCHAR(120);
+ALTER TABLE appointments ADD COLUMN IF NOT EXISTS price_at_booking NUMERIC(12, 2);
+
+UPDATE appointments a
+SET service_name = s.name,
+    price_at_booking = s.price
+FROM services s
+WHERE s.id = a.service_id
+  AND (a.service_name IS NULL OR a.price_at_booking IS NULL);
+
+ALTER TABLE appointments ALTER COLUMN service_name SET NOT NULL;
+ALTER TABLE appointments ALTER COLUMN price_at_booking SET NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_appointments_status_appointment_at_price
+ON appointments(status, appointment_at) INCLUDE (price_at_booking, service_id, client_id);
@@ -0,0 +1,10 @@
+-- V13 filled the service rows of daily_income_rollups from the catalog price current when it ran, and V15 later
+-- backfilled price_at_booking from the catalog price current when that one ran. Recompute the service rows from
+-- the stored snapshots so both agree; manual income rows (null service_id) are left as they are.
+DELETE FROM daily_income_rollups WHERE service_id IS NOT NULL;
+
+INSERT INTO daily_income_rollups (day, service_id, entry_count, amount)
+SELECT (a.appointment_at AT TIME ZONE 'UTC')::date, a.service_id, count(*), coalesce(sum(a.price_at_booking), 0)
+FROM appointments a
+WHERE a.status = 'COMPLETED'
+GROUP BY 1, 2;
@@ -1,5 +1,6 @@
 package com.barberia.stylebook.application.service;
 
+import com.barberia.stylebook.application.event.AppointmentChangedEvent;
 import com.barberia.stylebook.application.exception.BusinessRuleException;
 import com.barberia.stylebook.application.exception.NotFoundException;
 import com.barberia.stylebook.domain.entity.Appointment;
@@ -13,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Optional;
@@ -31,6 +33,9 @@ class AdminAppointmentServiceTest {
     @Mock
     private AppointmentRepository appointmentRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private AdminAppointmentService service;
 
@@ -48,6 +53,7 @@ class AdminAppointmentServiceTest {
 
         assertEquals(AppointmentStatus.PENDING, response.status());
         verify(appointmentRepository).save(appointment);
+        verify(eventPublisher).publishEvent(any(AppointmentChangedEvent.class));
     }
 
     @Test
@@ -0,0 +1,127 @@
+package com.barberia.stylebook.application.service;
+
+import com.barberia.stylebook.application.event.AppointmentChangedEvent;
+import com.barberia.stylebook.application.event.AppointmentSnapshot;
+import com.barberia.stylebook.application.event.ManualIncomeChangedEvent;
+import com.barberia.stylebook.domain.enums.AppointmentStatus;
+import com.barberia.stylebook.web.dto.CacheStatsResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+
+class AdminMetricsCacheServiceTest {
+
+    private final CaffeineCacheManager cacheManager = new CaffeineCacheManager(
+            AdminMetricsCacheService.OVERVIEW_CACHE,
+            AdminMetricsCacheService.MONTHLY_INCOME_CACHE,
+            AdminMetricsCacheService.RETENTION_COHORT_CACHE
+    );
+    @SuppressWarnings("unchecked")
+    private final AdminMetricsCacheService service = new AdminMetricsCacheService(
+            cacheManager,
+            mock(ObjectProvider.class)
+    );
+    private Cache overview;
+    private Cache monthlyIncome;
+    private Cache retentionCohorts;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.setCacheSpecification("maximumSize=16,recordStats");
+        overview = cacheManager.getCache(AdminMetricsCacheService.OVERVIEW_CACHE);
+        monthlyIncome = cacheManager.getCache(AdminMetricsCacheService.MONTHLY_INCOME_CACHE);
+        overview.put("overview", "cached");
+        monthlyIncome.put(YearMonth.of(2026, 2), "february");
+        monthlyIncome.put(YearMonth.of(2026, 3), "march");
+        retentionCohorts = cacheManager.getCache(AdminMetricsCacheService.RETENTION_COHORT_CACHE);
+        retentionCohorts.put(YearMonth.of(2026, 3), "march cohort");
+        retentionCohorts.put(YearMonth.of(2026, 11), "november cohort");
+    }
+
+    @Test
+    void onAppointmentChanged_evictsOverviewAndOnlyTheMonthOfTheCompletedAppointment() {
+        UUID appointmentId = UUID.randomUUID();
+        UUID clientId = UUID.randomUUID();
+        UUID serviceId = UUID.randomUUID();
+        OffsetDateTime at = OffsetDateTime.of(2026, 3, 10, 15, 0, 0, 0, ZoneOffset.UTC);
+
+        service.onAppointmentChanged(AppointmentChangedEvent.updated(
+                new AppointmentSnapshot(appointmentId, clientId, serviceId, at, AppointmentStatus.CONFIRMED, BigDecimal.TEN),
+                new AppointmentSnapshot(appointmentId, clientId, serviceId, at, AppointmentStatus.COMPLETED, BigDecimal.TEN)
+        ));
+
+        assertNull(overview.get("overview"));
+        assertNull(monthlyIncome.get(YearMonth.of(2026, 3)));
+        assertNotNull(monthlyIncome.get(YearMonth.of(2026, 2)));
+    }
+
+    @Test
+    void onAppointmentChanged_clearsEveryCohortWhenACompletedVisitIsUndone() {
+        UUID appointmentId = UUID.randomUUID();
+        UUID clientId = UUID.randomUUID();
+        UUID serviceId = UUID.randomUUID();
+        OffsetDateTime at = OffsetDateTime.of(2026, 3, 10, 15, 0, 0, 0, ZoneOffset.UTC);
+
+        // The client's next visit may be months later, so its cohort has to go as well.
+        service.onAppointmentChanged(AppointmentChangedEvent.updated(
+                new AppointmentSnapshot(appointmentId, clientId, serviceId, at, AppointmentStatus.COMPLETED, BigDecimal.TEN),
+                new AppointmentSnapshot(appointmentId, clientId, serviceId, at, AppointmentStatus.CANCELLED, BigDecimal.TEN)
+        ));
+
+        assertNull(retentionCohorts.get(YearMonth.of(2026, 3)));
+        assertNull(retentionCohorts.get(YearMonth.of(2026, 11)));
+    }
+
+    @Test
+    void onAppointmentChanged_keepsCohortsWhenNoCompletedVisitIsInvolved() {
+        UUID appointmentId = UUID.randomUUID();
+        UUID clientId = UUID.randomUUID();
+        UUID serviceId = UUID.randomUUID();
+        OffsetDateTime at = OffsetDateTime.of(2026, 3, 10, 15, 0, 0, 0, ZoneOffset.UTC);
+
+        service.onAppointmentChanged(AppointmentChangedEvent.updated(
+                new AppointmentSnapshot(appointmentId, clientId, serviceId, at, AppointmentStatus.PENDING, BigDecimal.TEN),
+                new AppointmentSnapshot(appointmentId, clientId, serviceId, at, AppointmentStatus.CONFIRMED, BigDecimal.TEN)
+        ));
+
+        assertNotNull(retentionCohorts.get(YearMonth.of(2026, 11)));
+    }
+
+    @Test
+    void onManualIncomeChanged_keepsOverviewAndEvictsBothMonthsOfAMovedEntry() {
+        service.onManualIncomeChanged(new ManualIncomeChangedEvent(LocalDate.of(2026, 2, 27), LocalDate.of(2026, 3, 2)));
+
+        assertNotNull(overview.get("overview"));
+        assertNull(monthlyIncome.get(YearMonth.of(2026, 2)));
+        assertNull(monthlyIncome.get(YearMonth.of(2026, 3)));
+    }
+
+    @Test
+    void stats_reportsHitsAndMissesPerCache() {
+        monthlyIncome.get(YearMonth.of(2026, 2));
+        monthlyIncome.get(YearMonth.of(2025, 12));
+
+        CacheStatsResponse stats = service.stats().stream()
+                .filter(cache -> cache.name().equals(AdminMetricsCacheService.MONTHLY_INCOME_CACHE))
+                .findFirst()
+                .orElseThrow();
+
+        assertEquals(1, stats.hitCount());
+        assertEquals(1, stats.missCount());
+        assertEquals(2, stats.size());
+    }
+}
@@ -0,0 +1,103 @@
+package com.barberia.stylebook.application.service;
+
+import com.barberia.stylebook.application.exception.BusinessRuleException;
+import com.barberia.stylebook.domain.enums.IncomeGranularity;
+import com.barberia.stylebook.repository.AppointmentRepository;
+import com.barberia.stylebook.repository.DailyIncomeRollupRepository;
+import com.barberia.stylebook.repository.ManualIncomeEntryRepository;
+import com.barberia.stylebook.web.dto.IncomeSeriesResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class AdminMetricsServiceTest {
+
+    private final AppointmentRepository appointmentRepository = mock(AppointmentRepository.class);
+    private final AdminMetricsService service = new AdminMetricsService(
+            appointmentRepository,
+            mock(ManualIncomeEntryRepository.class),
+            mock(DailyIncomeRollupRepository.class),
+            mock(OverviewCounterService.class),
+            new AppointmentColumnStore(mock(AppointmentRepository.class), mock(PlatformTransactionManager.class), false),
+            "America/Argentina/Buenos_Aires"
+    );
+
+    @Test
+    void incomeSeries_queriesBusinessDaysAndAddsUpTotals() {
+        LocalDate from = LocalDate.of(2026, 1, 1);
+        LocalDate to = LocalDate.of(2026, 2, 28);
+        when(appointmentRepository.findIncomeSeries(
+                "month",
+                "America/Argentina/Buenos_Aires",
+                from,
+                to,
+                OffsetDateTime.of(2026, 1, 1, 0, 0, 0, 0, ZoneOffset.ofHours(-3)),
+                OffsetDateTime.of(2026, 3, 1, 0, 0, 0, 0, ZoneOffset.ofHours(-3))
+        )).thenReturn(List.of(
+                row(LocalDate.of(2026, 1, 1), 3, "24000.00", "5000.00", "1000.00"),
+                row(LocalDate.of(2026, 2, 1), 0, "0", "0", "0")
+        ));
+
+        IncomeSeriesResponse response = service.incomeSeries(from, to, IncomeGranularity.MONTH);
+
+        assertEquals(2, response.points().size());
+        assertEquals(new BigDecimal("30000.00"), response.points().getFirst().totalIncome());
+        assertEquals(BigDecimal.ZERO, response.points().get(1).totalIncome());
+    }
+
+    @Test
+    void incomeSeries_rejectsRangesWithTooManyPeriods() {
+        assertThrows(BusinessRuleException.class, () -> service.incomeSeries(
+                LocalDate.of(2024, 1, 1),
+                LocalDate.of(2026, 1, 1),
+                IncomeGranularity.DAY
+        ));
+        verifyNoInteractions(appointmentRepository);
+    }
+
+    private static AppointmentRepository.IncomeSeriesRowProjection row(
+            LocalDate periodStart,
+            long completedAppointments,
+            String registeredIncome,
+            String manualIncome,
+            String tips
+    ) {
+        return new AppointmentRepository.IncomeSeriesRowProjection() {
+            @Override
+            public LocalDate getPeriodStart() {
+                return periodStart;
+            }
+
+            @Override
+            public long getCompletedAppointments() {
+                return completedAppointments;
+            }
+
+            @Override
+            public BigDecimal getRegisteredIncome() {
+                return new BigDecimal(registeredIncome);
+            }
+
+            @Override
+            public BigDecimal getManualIncome() {
+                return new BigDecimal(manualIncome);
+            }
+
+            @Override
+            public BigDecimal getTips() {
+                return new BigDecimal(tips);
+            }
+        };
+    }
+}
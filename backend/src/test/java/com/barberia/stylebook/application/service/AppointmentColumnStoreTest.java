@@ -0,0 +1,103 @@
+package com.barberia.stylebook.application.service;
+
+import com.barberia.stylebook.application.event.AppointmentChangedEvent;
+import com.barberia.stylebook.application.event.AppointmentSnapshot;
+import com.barberia.stylebook.application.event.ClientAppointmentsChangedEvent;
+import com.barberia.stylebook.domain.enums.AppointmentStatus;
+import com.barberia.stylebook.repository.AppointmentBulkOperations.AnalyticsRow;
+import com.barberia.stylebook.repository.AppointmentRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class AppointmentColumnStoreTest {
+
+    private static final OffsetDateTime MARCH_10 = OffsetDateTime.of(2026, 3, 10, 15, 0, 0, 0, ZoneOffset.UTC);
+    private static final OffsetDateTime MARCH_20 = OffsetDateTime.of(2026, 3, 20, 15, 0, 0, 0, ZoneOffset.UTC);
+    private static final long[] BOUNDARIES = {
+            AppointmentColumnStore.epochMinute(OffsetDateTime.of(2026, 3, 1, 0, 0, 0, 0, ZoneOffset.UTC)),
+            AppointmentColumnStore.epochMinute(OffsetDateTime.of(2026, 3, 15, 0, 0, 0, 0, ZoneOffset.UTC)),
+            AppointmentColumnStore.epochMinute(OffsetDateTime.of(2026, 4, 1, 0, 0, 0, 0, ZoneOffset.UTC))
+    };
+
+    private final AppointmentRepository appointmentRepository = mock(AppointmentRepository.class);
+    private final AppointmentColumnStore store = new AppointmentColumnStore(
+            appointmentRepository,
+            mock(PlatformTransactionManager.class),
+            true
+    );
+
+    @Test
+    void completedByPeriod_reflectsLoadedRowsAndLaterChanges() {
+        UUID serviceId = UUID.randomUUID();
+        UUID loadedId = UUID.randomUUID();
+        UUID rescheduledId = UUID.randomUUID();
+        stubLoad(
+                new AnalyticsRow(loadedId, UUID.randomUUID(), serviceId, MARCH_10, AppointmentStatus.COMPLETED, new BigDecimal("8000.00")),
+                new AnalyticsRow(rescheduledId, UUID.randomUUID(), serviceId, MARCH_10, AppointmentStatus.PENDING, new BigDecimal("8000.00"))
+        );
+        store.reload();
+
+        AppointmentSnapshot pending = snapshot(rescheduledId, MARCH_10, AppointmentStatus.PENDING);
+        store.onAppointmentChanged(AppointmentChangedEvent.updated(
+                pending,
+                snapshot(rescheduledId, MARCH_20, AppointmentStatus.COMPLETED)
+        ));
+        AppointmentSnapshot created = snapshot(UUID.randomUUID(), MARCH_20, AppointmentStatus.COMPLETED);
+        store.onAppointmentChanged(AppointmentChangedEvent.created(created));
+        store.onAppointmentChanged(AppointmentChangedEvent.deleted(created));
+
+        AppointmentColumnStore.PeriodTotals totals = store.completedByPeriod(BOUNDARIES).orElseThrow();
+
+        assertArrayEquals(new long[]{1, 1}, totals.completedCounts());
+        assertArrayEquals(new long[]{800_000, 500_050}, totals.incomeCents());
+    }
+
+    @Test
+    void completedByPeriod_isEmptyAfterBulkClientChangeUntilReload() {
+        stubLoad();
+        store.reload();
+        assertTrue(store.completedByPeriod(BOUNDARIES).isPresent());
+
+        store.onClientAppointmentsChanged(ClientAppointmentsChangedEvent.incomeChangedOnUnknownDays());
+        assertFalse(store.completedByPeriod(BOUNDARIES).isPresent());
+
+        store.reload();
+        assertTrue(store.completedByPeriod(BOUNDARIES).isPresent());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubLoad(AnalyticsRow... rows) {
+        doAnswer(invocation -> {
+            Consumer<AnalyticsRow> consumer = invocation.getArgument(1);
+            for (AnalyticsRow row : rows) {
+                consumer.accept(row);
+            }
+            return null;
+        }).when(appointmentRepository).streamAnalyticsRows(anyInt(), any(Consumer.class));
+    }
+
+    private static AppointmentSnapshot snapshot(UUID appointmentId, OffsetDateTime appointmentAt, AppointmentStatus status) {
+        return new AppointmentSnapshot(
+                appointmentId,
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                appointmentAt,
+                status,
+                new BigDecimal("5000.50")
+        );
+    }
+}
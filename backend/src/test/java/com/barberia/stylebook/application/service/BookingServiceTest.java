@@ -1,5 +1,6 @@
 package com.barberia.stylebook.application.service;
 
+import com.barberia.stylebook.application.event.ClientsChangedEvent;
 import com.barberia.stylebook.application.exception.BusinessRuleException;
 import com.barberia.stylebook.application.exception.NotFoundException;
 import com.barberia.stylebook.domain.entity.Appointment;
@@ -17,6 +18,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
@@ -47,6 +49,9 @@ class BookingServiceTest {
     @Mock
     private AppointmentRepository appointmentRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private BookingService bookingService;
 
@@ -117,6 +122,7 @@ class BookingServiceTest {
         assertEquals(AppointmentStatus.PENDING, response.status());
         verify(clientRepository).save(any(Client.class));
         verify(appointmentRepository).saveAndFlush(any(Appointment.class));
+        verify(eventPublisher).publishEvent(any(ClientsChangedEvent.class));
     }
 
     @Test
@@ -141,6 +147,7 @@ class BookingServiceTest {
 
         assertEquals("Juan Viejo", existing.getName());
         verify(clientRepository).save(eq(existing));
+        verify(eventPublisher, never()).publishEvent(any(ClientsChangedEvent.class));
     }
 
     @Test
@@ -0,0 +1,79 @@
+package com.barberia.stylebook.application.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tools.jackson.databind.json.JsonMapper;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class CacheInvalidationBusTest {
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final DataSource dataSource = mock(DataSource.class);
+    private final CaffeineCacheManager cacheManager = new CaffeineCacheManager("adminMonthlyIncome");
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void apply_evictsMatchingKeyFromOtherNodes() {
+        CacheInvalidationBus bus = bus();
+        cacheManager.getCache("adminMonthlyIncome").put(YearMonth.of(2026, 3), "march");
+        cacheManager.getCache("adminMonthlyIncome").put(YearMonth.of(2026, 4), "april");
+
+        bus.apply(jsonMapper.writeValueAsString(
+                new CacheInvalidationBus.Invalidation("other-node", "adminMonthlyIncome", "2026-03")
+        ));
+
+        assertNull(cacheManager.getCache("adminMonthlyIncome").get(YearMonth.of(2026, 3)));
+        assertNotNull(cacheManager.getCache("adminMonthlyIncome").get(YearMonth.of(2026, 4)));
+    }
+
+    @Test
+    void publish_notifiesOnlyAfterTheTransactionCommits() throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        CacheInvalidationBus bus = bus();
+        TransactionSynchronizationManager.initSynchronization();
+
+        bus.publish("publicServices", null);
+        verifyNoInteractions(dataSource);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(statement).setString(1, CacheInvalidationBus.CHANNEL);
+        verify(statement).setString(eq(2), contains("\"cache\":\"publicServices\""));
+        verify(statement).execute();
+    }
+
+    @SuppressWarnings("unchecked")
+    private CacheInvalidationBus bus() {
+        ObjectProvider<CacheManager> provider = mock(ObjectProvider.class);
+        when(provider.getObject()).thenReturn(cacheManager);
+        return new CacheInvalidationBus(dataSource, jsonMapper, provider, mock(ObjectProvider.class), true);
+    }
+}
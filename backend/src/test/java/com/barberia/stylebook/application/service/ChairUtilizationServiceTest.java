@@ -0,0 +1,130 @@
+package com.barberia.stylebook.application.service;
+
+import com.barberia.stylebook.domain.enums.AppointmentStatus;
+import com.barberia.stylebook.repository.AppointmentRepository;
+import com.barberia.stylebook.web.dto.ServiceUtilizationResponse;
+import com.barberia.stylebook.web.dto.UtilizationCellResponse;
+import com.barberia.stylebook.web.dto.UtilizationReportResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChairUtilizationServiceTest {
+
+    private static final ZoneOffset BUENOS_AIRES = ZoneOffset.ofHours(-3);
+
+    private final AppointmentRepository appointmentRepository = mock(AppointmentRepository.class);
+    private final ChairUtilizationService service = new ChairUtilizationService(
+            appointmentRepository,
+            new CaffeineCacheManager(AdminMetricsCacheService.UTILIZATION_CACHE),
+            "America/Argentina/Buenos_Aires",
+            "MON-FRI 09:00-18:00;SAT 09:30-13:00",
+            2
+    );
+
+    @Test
+    void utilization_splitsBookedMinutesAcrossHoursAndSumsCompletedRevenue() {
+        UUID serviceId = UUID.randomUUID();
+        when(appointmentRepository.findUtilizationRows(eq(AppointmentStatus.CANCELLED), any(), any())).thenReturn(List.of(
+                row(OffsetDateTime.of(2024, 3, 4, 10, 30, 0, 0, BUENOS_AIRES), 45, serviceId, AppointmentStatus.COMPLETED, "9000.00"),
+                row(OffsetDateTime.of(2024, 3, 11, 10, 0, 0, 0, BUENOS_AIRES), 30, serviceId, AppointmentStatus.PENDING, "9000.00")
+        ));
+
+        UtilizationReportResponse report = service.utilization(LocalDate.of(2024, 3, 6), LocalDate.of(2024, 3, 12));
+
+        assertEquals(LocalDate.of(2024, 3, 4), report.from());
+        assertEquals(LocalDate.of(2024, 3, 17), report.to());
+        long weeklyOpenMinutes = 5 * 9 * 60 + 210;
+        assertEquals(weeklyOpenMinutes * 2 * 2, report.availableMinutes());
+        assertEquals(75, report.bookedMinutes());
+        UtilizationCellResponse mondayTen = cell(report, DayOfWeek.MONDAY, 10);
+        assertEquals(60, mondayTen.bookedMinutes());
+        assertEquals(240, mondayTen.availableMinutes());
+        assertEquals(15, cell(report, DayOfWeek.MONDAY, 11).bookedMinutes());
+        assertEquals(120, cell(report, DayOfWeek.SATURDAY, 9).availableMinutes());
+
+        ServiceUtilizationResponse serviceUtilization = report.services().getFirst();
+        assertEquals(2, serviceUtilization.appointments());
+        assertEquals(new BigDecimal("9000.00"), serviceUtilization.completedRevenue());
+        assertEquals(new BigDecimal("9000.00"), report.completedRevenue());
+    }
+
+    @Test
+    void utilization_readsEndedWeeksFromCache() {
+        when(appointmentRepository.findUtilizationRows(any(), any(), any())).thenReturn(List.of());
+
+        service.utilization(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 25));
+        service.utilization(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 25));
+
+        verify(appointmentRepository, times(1)).findUtilizationRows(any(), any(), any());
+    }
+
+    @Test
+    void openingHours_countsOverlappingEntriesOnce() {
+        OpeningHours hours = OpeningHours.parse("MON 09:00-10:30; MON 10:00-11:00; SUN-MON 23:30-24:00");
+
+        assertEquals(60, hours.openMinutes(OpeningHours.hourOfWeek(DayOfWeek.MONDAY, 9)));
+        assertEquals(60, hours.openMinutes(OpeningHours.hourOfWeek(DayOfWeek.MONDAY, 10)));
+        assertEquals(30, hours.openMinutes(OpeningHours.hourOfWeek(DayOfWeek.SUNDAY, 23)));
+        assertEquals(180, hours.openMinutesPerWeek());
+    }
+
+    private static UtilizationCellResponse cell(UtilizationReportResponse report, DayOfWeek day, int hour) {
+        return report.heatmap().get(OpeningHours.hourOfWeek(day, hour));
+    }
+
+    private static AppointmentRepository.UtilizationRowProjection row(
+            OffsetDateTime appointmentAt,
+            int durationMinutes,
+            UUID serviceId,
+            AppointmentStatus status,
+            String price
+    ) {
+        return new AppointmentRepository.UtilizationRowProjection() {
+            @Override
+            public OffsetDateTime getAppointmentAt() {
+                return appointmentAt;
+            }
+
+            @Override
+            public Integer getDurationMinutes() {
+                return durationMinutes;
+            }
+
+            @Override
+            public UUID getServiceId() {
+                return serviceId;
+            }
+
+            @Override
+            public String getServiceName() {
+                return "Corte";
+            }
+
+            @Override
+            public AppointmentStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public BigDecimal getPriceAtBooking() {
+                return new BigDecimal(price);
+            }
+        };
+    }
+}
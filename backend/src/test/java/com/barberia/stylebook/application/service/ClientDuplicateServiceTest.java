@@ -0,0 +1,116 @@
+package com.barberia.stylebook.application.service;
+
+import com.barberia.stylebook.repository.ClientRepository;
+import com.barberia.stylebook.web.dto.ClientDuplicateCandidateResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ClientDuplicateServiceTest {
+
+    private static final OffsetDateTime BASE_TIME = OffsetDateTime.of(2026, 1, 1, 10, 0, 0, 0, ZoneOffset.UTC);
+
+    private final ClientRepository clientRepository = mock(ClientRepository.class);
+    private final ClientDuplicateService service = new ClientDuplicateService(clientRepository, 2);
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void detect_findsAccentVariantsWithDifferentPhonesAndSuggestsOlderClientAsTarget() {
+        ClientRepository.ClientDuplicateScanProjection older = row("Juan Perez", "1122334455", 0);
+        ClientRepository.ClientDuplicateScanProjection newer = row("Juan Pérez", "1199887766", 5);
+        when(clientRepository.findAllForDuplicateScan()).thenReturn(List.of(
+                older,
+                newer,
+                row("Maria Gomez", "1133445566", 1)
+        ));
+
+        List<ClientDuplicateCandidateResponse> candidates = service.detect(null, 10);
+
+        assertEquals(1, candidates.size());
+        ClientDuplicateCandidateResponse candidate = candidates.getFirst();
+        assertEquals(newer.getId(), candidate.sourceClientId());
+        assertEquals(older.getId(), candidate.targetClientId());
+        assertEquals(1.0, candidate.nameSimilarity());
+        assertFalse(candidate.samePhoneSuffix());
+    }
+
+    @Test
+    void detect_findsSamePhoneWithAndWithoutCountryCode() {
+        when(clientRepository.findAllForDuplicateScan()).thenReturn(List.of(
+                row("Matias", "1122334455", 0),
+                row("Matiass", "5491122334455", 1)
+        ));
+
+        List<ClientDuplicateCandidateResponse> candidates = service.detect(0.9, 10);
+
+        assertEquals(1, candidates.size());
+        assertTrue(candidates.getFirst().samePhoneSuffix());
+    }
+
+    @Test
+    void detect_comparesNeighboursInsideBlocksTooLargeToPairExhaustively() {
+        ClientRepository.ClientDuplicateScanProjection older = row("Juan Perez", "1122334455", 0);
+        ClientRepository.ClientDuplicateScanProjection newer = row("Pérez, Juan", "1199887766", 5);
+        List<ClientRepository.ClientDuplicateScanProjection> rows = new ArrayList<>(List.of(older, newer));
+        for (int i = 0; i < 250; i++) {
+            rows.add(row("Juan Otro" + i, String.valueOf(3000000000L + i), 10));
+            rows.add(row("Otra" + i + " Perez", String.valueOf(4000000000L + i), 10));
+        }
+        when(clientRepository.findAllForDuplicateScan()).thenReturn(rows);
+
+        List<ClientDuplicateCandidateResponse> candidates = service.detect(null, 500);
+
+        assertTrue(candidates.stream().anyMatch(candidate -> candidate.sourceClientId().equals(newer.getId())
+                && candidate.targetClientId().equals(older.getId())));
+    }
+
+    @Test
+    void normalizeName_stripsAccentsPunctuationAndCase() {
+        assertEquals("jose maria lopez", ClientDuplicateService.normalizeName("  José-María   LÓPEZ. "));
+    }
+
+    private ClientRepository.ClientDuplicateScanProjection row(String name, String phoneNormalized, int minutesAfterBase) {
+        UUID id = UUID.randomUUID();
+        return new ClientRepository.ClientDuplicateScanProjection() {
+            @Override
+            public OffsetDateTime getCreatedAt() {
+                return BASE_TIME.plusMinutes(minutesAfterBase);
+            }
+
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public String getPhone() {
+                return phoneNormalized;
+            }
+
+            @Override
+            public String getPhoneNormalized() {
+                return phoneNormalized;
+            }
+        };
+    }
+}
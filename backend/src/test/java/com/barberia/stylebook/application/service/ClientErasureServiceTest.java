@@ -0,0 +1,134 @@
+package com.barberia.stylebook.application.service;
+
+import com.barberia.stylebook.application.event.ClientsChangedEvent;
+import com.barberia.stylebook.domain.enums.AppointmentStatus;
+import com.barberia.stylebook.domain.enums.ClientErasureJobStatus;
+import com.barberia.stylebook.domain.enums.ClientErasureMode;
+import com.barberia.stylebook.repository.AppointmentBulkOperations.AppointmentCount;
+import com.barberia.stylebook.repository.AppointmentRepository;
+import com.barberia.stylebook.repository.ClientRepository;
+import com.barberia.stylebook.web.dto.ClientErasureJobResponse;
+import com.barberia.stylebook.web.dto.ClientErasureRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ClientErasureServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 10);
+
+    private final ClientRepository clientRepository = mock(ClientRepository.class);
+    private final AppointmentRepository appointmentRepository = mock(AppointmentRepository.class);
+    private final OverviewCounterService overviewCounterService = mock(OverviewCounterService.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final ClientErasureService service = new ClientErasureService(
+            clientRepository,
+            appointmentRepository,
+            overviewCounterService,
+            mock(DailyIncomeRollupService.class),
+            mock(ServicePopularityService.class),
+            eventPublisher,
+            mock(PlatformTransactionManager.class),
+            2,
+            10
+    );
+
+    @Test
+    void delete_drainsAppointmentsInBatchesPerChunkAndReportsMissingClients() throws InterruptedException {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        when(clientRepository.findExistingIds(List.of(first, second, third, missing)))
+                .thenReturn(List.of(first, second, third));
+        UUID serviceId = UUID.randomUUID();
+        List<AppointmentCount> fullBatch = List.of(
+                new AppointmentCount(AppointmentStatus.COMPLETED, serviceId, DAY, 7, new BigDecimal("56000.00")),
+                new AppointmentCount(AppointmentStatus.CANCELLED, serviceId, DAY, 3, new BigDecimal("24000.00"))
+        );
+        List<AppointmentCount> lastBatch = List.of(new AppointmentCount(AppointmentStatus.PENDING, serviceId, DAY, 3, new BigDecimal("24000.00")));
+        List<UUID> both = List.of(first, second);
+        when(appointmentRepository.findClientIdsWithAppointments(both))
+                .thenReturn(both, both, both, both, both, List.of(), List.of());
+        when(appointmentRepository.deleteByClientIds(both, 10)).thenReturn(fullBatch, fullBatch, lastBatch, List.of());
+        when(appointmentRepository.deleteByClientIds(List.of(third), 10)).thenReturn(List.of());
+
+        ClientErasureJobResponse started = service.start(new ClientErasureRequest(
+                List.of(first, second, third, missing, first),
+                ClientErasureMode.DELETE
+        ));
+        service.shutdown();
+        ClientErasureJobResponse finished = service.status(started.jobId());
+
+        assertEquals(ClientErasureJobStatus.COMPLETED, finished.status());
+        assertEquals(4, finished.totalClients());
+        assertEquals(4, finished.processedClients());
+        assertEquals(23, finished.processedAppointments());
+        assertEquals(List.of(missing), finished.missingClientIds());
+        verify(appointmentRepository, times(4)).deleteByClientIds(List.of(first, second), 10);
+        verify(clientRepository, times(4)).lockForDelete(List.of(first, second));
+        verify(clientRepository).deleteByIds(List.of(first, second));
+        verify(clientRepository).deleteByIds(List.of(third));
+        verify(overviewCounterService, times(2)).subtractDeleted(fullBatch);
+        verify(overviewCounterService).subtractDeleted(lastBatch);
+        verify(overviewCounterService).adjustClientsWithAppointments(-2);
+        verify(eventPublisher).publishEvent(new ClientsChangedEvent());
+    }
+
+    @Test
+    void delete_removesAppointmentsBookedAfterTheDrainBeforeDeletingTheClient() throws InterruptedException {
+        UUID clientId = UUID.randomUUID();
+        List<UUID> chunk = List.of(clientId);
+        List<AppointmentCount> lateBooking = List.of(
+                new AppointmentCount(AppointmentStatus.PENDING, UUID.randomUUID(), DAY, 1, new BigDecimal("8000.00"))
+        );
+        when(clientRepository.findExistingIds(chunk)).thenReturn(chunk);
+        when(appointmentRepository.findClientIdsWithAppointments(chunk)).thenReturn(List.of(), chunk, List.of());
+        when(appointmentRepository.deleteByClientIds(chunk, 10)).thenReturn(List.of(), lateBooking, List.of());
+
+        ClientErasureJobResponse started = service.start(new ClientErasureRequest(chunk, ClientErasureMode.DELETE));
+        service.shutdown();
+        ClientErasureJobResponse finished = service.status(started.jobId());
+
+        assertEquals(ClientErasureJobStatus.COMPLETED, finished.status());
+        assertEquals(1, finished.processedAppointments());
+        verify(overviewCounterService).subtractDeleted(lateBooking);
+        verify(overviewCounterService).adjustClientsWithAppointments(-1);
+        verify(clientRepository).deleteByIds(chunk);
+    }
+
+    @Test
+    void anonymize_keepsAppointmentsAndMarksJobFailedOnError() throws InterruptedException {
+        UUID clientId = UUID.randomUUID();
+        when(clientRepository.findExistingIds(any())).thenReturn(List.of(clientId));
+        when(appointmentRepository.clearNotesByClientIds(anyList(), eq(10))).thenReturn(1);
+        when(clientRepository.anonymizeByIds(List.of(clientId))).thenThrow(new IllegalStateException("boom"));
+
+        ClientErasureJobResponse started = service.start(new ClientErasureRequest(
+                List.of(clientId),
+                ClientErasureMode.ANONYMIZE
+        ));
+        service.shutdown();
+        ClientErasureJobResponse finished = service.status(started.jobId());
+
+        assertEquals(ClientErasureJobStatus.FAILED, finished.status());
+        assertEquals(0, finished.processedClients());
+        verify(appointmentRepository, never()).deleteByClientIds(anyList(), eq(10));
+        verify(eventPublisher).publishEvent(new ClientsChangedEvent());
+    }
+}
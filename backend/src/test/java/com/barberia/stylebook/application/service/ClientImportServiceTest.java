@@ -0,0 +1,103 @@
+package com.barberia.stylebook.application.service;
+
+import com.barberia.stylebook.application.event.ClientsChangedEvent;
+import com.barberia.stylebook.application.exception.BusinessRuleException;
+import com.barberia.stylebook.repository.ClientBulkOperations.ClientUpsert;
+import com.barberia.stylebook.repository.ClientRepository;
+import com.barberia.stylebook.web.dto.ClientImportResponse;
+import com.barberia.stylebook.web.dto.ClientImportRowError;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ClientImportServiceTest {
+
+    private final ClientRepository clientRepository = mock(ClientRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final ClientImportService service = new ClientImportService(
+            clientRepository,
+            eventPublisher,
+            mock(PlatformTransactionManager.class),
+            2
+    );
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void importCsv_upsertsInBatchesAndReportsInvalidRows() {
+        String csv = """
+                Telefono;Nombre
+                11 2233-4455;Juan Perez
+                123;Sin telefono
+                +54 9 11 9988-7766;"Gomez; Maria"
+                11 5555-6666;
+                11 4444-3333;Luis
+                """;
+
+        ClientImportResponse response = service.importCsv(stream(csv));
+
+        assertEquals(5, response.totalRows());
+        assertEquals(3, response.upsertedRows());
+        assertEquals(2, response.errorRows());
+        assertEquals(List.of(3L, 5L), response.errors().stream().map(ClientImportRowError::line).toList());
+        ArgumentCaptor<List<ClientUpsert>> batches = ArgumentCaptor.forClass(List.class);
+        verify(clientRepository, times(2)).upsertByPhoneNormalized(batches.capture());
+        assertEquals("Gomez; Maria", batches.getAllValues().get(0).get(1).name());
+        assertEquals("5491199887766", batches.getAllValues().get(0).get(1).phoneNormalized());
+        assertEquals(1, batches.getAllValues().get(1).size());
+        verify(eventPublisher).publishEvent(new ClientsChangedEvent());
+    }
+
+    @Test
+    void importCsv_retriesFailedBatchRowByRow() {
+        when(clientRepository.upsertByPhoneNormalized(anyList())).thenAnswer(invocation -> {
+            List<ClientUpsert> clients = invocation.getArgument(0);
+            if (clients.stream().anyMatch(client -> client.name().equals("Roto"))) {
+                throw new DataIntegrityViolationException("constraint");
+            }
+            return new int[clients.size()];
+        });
+
+        ClientImportResponse response = service.importCsv(stream("Juan,1122334455\nRoto,1199887766\n"));
+
+        assertEquals(2, response.totalRows());
+        assertEquals(1, response.upsertedRows());
+        assertEquals(List.of(new ClientImportRowError(2, "No se pudo guardar el cliente")), response.errors());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void importCsv_reportsRowOverwrittenByRepeatedPhoneInTheSameBatch() {
+        ClientImportResponse response = service.importCsv(stream("Juan,1122334455\nJuan Perez,11 2233-4455\n"));
+
+        assertEquals(2, response.totalRows());
+        assertEquals(1, response.upsertedRows());
+        assertEquals(1, response.errorRows());
+        assertEquals(List.of(new ClientImportRowError(1, "Telefono repetido en la linea 2, se importa esa fila")), response.errors());
+        ArgumentCaptor<List<ClientUpsert>> batch = ArgumentCaptor.forClass(List.class);
+        verify(clientRepository).upsertByPhoneNormalized(batch.capture());
+        assertEquals(List.of("Juan Perez"), batch.getValue().stream().map(ClientUpsert::name).toList());
+    }
+
+    @Test
+    void importCsv_rejectsHeaderWithoutPhoneColumn() {
+        assertThrows(BusinessRuleException.class, () -> service.importCsv(stream("nombre,email\nJuan,juan@mail.com\n")));
+    }
+
+    private static ByteArrayInputStream stream(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,120 @@
+package com.barberia.stylebook.application.service;
+
+import com.barberia.stylebook.application.event.ClientsChangedEvent;
+import com.barberia.stylebook.application.exception.BusinessRuleException;
+import com.barberia.stylebook.repository.ClientRepository;
+import com.barberia.stylebook.web.dto.ClientLookupResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ClientLookupServiceTest {
+
+    private final ClientRepository clientRepository = mock(ClientRepository.class);
+    private final ClientLookupService service = new ClientLookupService(
+            clientRepository,
+            new CaffeineCacheManager(ClientLookupService.LOOKUP_CACHE)
+    );
+
+    @Test
+    void lookup_narrowsCompleteShorterPrefixWithoutQueryingAgain() {
+        when(clientRepository.findLookupByPhoneNormalizedPrefix("112%", 9)).thenReturn(List.of(
+                row("Juan", "11 2233-4455", "1122334455"),
+                row("Pedro", "11 2299-0000", "1122990000"),
+                row("Ana", "11 2011-1111", "1120111111")
+        ));
+
+        service.lookup("112", 8);
+        List<ClientLookupResponse> narrowed = service.lookup("11 22", 8);
+
+        assertEquals(List.of("Juan", "Pedro"), narrowed.stream().map(ClientLookupResponse::clientName).toList());
+        verify(clientRepository, times(1)).findLookupByPhoneNormalizedPrefix(anyString(), anyInt());
+    }
+
+    @Test
+    void lookup_queriesAgainWhenShorterPrefixWasTruncated() {
+        when(clientRepository.findLookupByPhoneNormalizedPrefix("112%", 3)).thenReturn(List.of(
+                row("Juan", "1122334455", "1122334455"),
+                row("Pedro", "1122990000", "1122990000"),
+                row("Ana", "1120111111", "1120111111"),
+                row("Luis", "1121111111", "1121111111")
+        ));
+        when(clientRepository.findLookupByPhoneNormalizedPrefix("1122%", 3)).thenReturn(List.of(
+                row("Juan", "1122334455", "1122334455")
+        ));
+
+        List<ClientLookupResponse> first = service.lookup("112", 2);
+        List<ClientLookupResponse> second = service.lookup("1122", 2);
+
+        assertEquals(2, first.size());
+        assertEquals(1, second.size());
+        verify(clientRepository).findLookupByPhoneNormalizedPrefix("1122%", 3);
+    }
+
+    @Test
+    void onClientsChanged_dropsCachedLookups() {
+        when(clientRepository.findLookupByNameSimilarity("%juan%", "juan", 9)).thenReturn(List.of());
+
+        service.lookup("juan", 8);
+        service.lookup("juan", 8);
+        service.onClientsChanged(new ClientsChangedEvent());
+        service.lookup("juan", 8);
+
+        verify(clientRepository, times(2)).findLookupByNameSimilarity("%juan%", "juan", 9);
+    }
+
+    @Test
+    void lookup_searchesByNameWithEscapedPattern() {
+        when(clientRepository.findLookupByNameSimilarity("%juan\\_p%", "juan_p", 9)).thenReturn(List.of(
+                row("Juan_Perez", "1122334455", "1122334455")
+        ));
+
+        List<ClientLookupResponse> result = service.lookup("  Juan_P ", 8);
+
+        assertEquals(1, result.size());
+        verify(clientRepository, never()).findLookupByPhoneNormalizedPrefix(anyString(), anyInt());
+    }
+
+    @Test
+    void lookup_rejectsTooShortQueries() {
+        assertThrows(BusinessRuleException.class, () -> service.lookup("11", 8));
+        assertThrows(BusinessRuleException.class, () -> service.lookup("j", 8));
+    }
+
+    private ClientRepository.ClientLookupProjection row(String name, String phone, String phoneNormalized) {
+        UUID id = UUID.randomUUID();
+        return new ClientRepository.ClientLookupProjection() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public String getPhone() {
+                return phone;
+            }
+
+            @Override
+            public String getPhoneNormalized() {
+                return phoneNormalized;
+            }
+        };
+    }
+}
@@ -0,0 +1,114 @@
+package com.barberia.stylebook.application.service;
+
+import com.barberia.stylebook.application.exception.BusinessRuleException;
+import com.barberia.stylebook.repository.AppointmentRepository;
+import com.barberia.stylebook.web.dto.RetentionCohortReportResponse;
+import com.barberia.stylebook.web.dto.RetentionCohortResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class ClientRetentionServiceTest {
+
+    private final AppointmentRepository appointmentRepository = mock(AppointmentRepository.class);
+    private final ClientRetentionService service = new ClientRetentionService(
+            appointmentRepository,
+            new CaffeineCacheManager(AdminMetricsCacheService.RETENTION_COHORT_CACHE),
+            "America/Argentina/Buenos_Aires"
+    );
+
+    @Test
+    void cohorts_computesRatesAndFillsMonthsWithoutFirstVisits() {
+        when(appointmentRepository.findRetentionCohorts(anyString(), any(), any(), any()))
+                .thenReturn(List.of(cohort(LocalDate.of(2024, 3, 1), 8, 2, 4, 6)));
+
+        RetentionCohortReportResponse report = service.cohorts(YearMonth.of(2024, 2), YearMonth.of(2024, 3));
+
+        assertEquals(2, report.cohorts().size());
+        RetentionCohortResponse february = report.cohorts().getFirst();
+        assertEquals(0, february.clients());
+        assertTrue(february.closed());
+        RetentionCohortResponse march = report.cohorts().get(1);
+        assertEquals(8, march.clients());
+        assertEquals(0.25, march.returnRate30Days());
+        assertEquals(0.75, march.returnRate90Days());
+    }
+
+    @Test
+    void cohorts_servesClosedMonthsFromCacheAndQueriesOnlyOpenOnes() {
+        YearMonth current = YearMonth.now();
+        when(appointmentRepository.findRetentionCohorts(anyString(), any(), any(), any())).thenReturn(List.of());
+
+        service.cohorts(YearMonth.of(2024, 1), YearMonth.of(2024, 6));
+        service.cohorts(YearMonth.of(2024, 1), YearMonth.of(2024, 6));
+        verify(appointmentRepository, times(1)).findRetentionCohorts(anyString(), any(), any(), any());
+
+        RetentionCohortReportResponse open = service.cohorts(current, current);
+        service.cohorts(current, current);
+
+        assertFalse(open.cohorts().getFirst().closed());
+        verify(appointmentRepository, times(2)).findRetentionCohorts(
+                anyString(),
+                eq(current.atDay(1)),
+                eq(current.atDay(1)),
+                any()
+        );
+    }
+
+    @Test
+    void cohorts_rejectsRangesLongerThanThreeYears() {
+        assertThrows(BusinessRuleException.class, () -> service.cohorts(YearMonth.of(2020, 1), YearMonth.of(2023, 1)));
+        verifyNoInteractions(appointmentRepository);
+    }
+
+    private static AppointmentRepository.RetentionCohortProjection cohort(
+            LocalDate month,
+            long clients,
+            long within30,
+            long within60,
+            long within90
+    ) {
+        return new AppointmentRepository.RetentionCohortProjection() {
+            @Override
+            public LocalDate getCohortMonth() {
+                return month;
+            }
+
+            @Override
+            public long getClients() {
+                return clients;
+            }
+
+            @Override
+            public long getReturnedWithin30Days() {
+                return within30;
+            }
+
+            @Override
+            public long getReturnedWithin60Days() {
+                return within60;
+            }
+
+            @Override
+            public long getReturnedWithin90Days() {
+                return within90;
+            }
+        };
+    }
+}
@@ -0,0 +1,152 @@
+package com.barberia.stylebook.application.service;
+
+import com.barberia.stylebook.application.event.AppointmentChangedEvent;
+import com.barberia.stylebook.application.event.AppointmentSnapshot;
+import com.barberia.stylebook.application.exception.BusinessRuleException;
+import com.barberia.stylebook.domain.enums.AppointmentStatus;
+import com.barberia.stylebook.domain.enums.ClientSegment;
+import com.barberia.stylebook.repository.ClientRfmStatsRepository;
+import com.barberia.stylebook.web.dto.ClientSegmentPageResponse;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class ClientRfmServiceTest {
+
+    private static final OffsetDateTime VISIT_AT = OffsetDateTime.of(2026, 3, 10, 15, 0, 0, 0, ZoneOffset.UTC);
+
+    private final ClientRfmStatsRepository repository = mock(ClientRfmStatsRepository.class);
+    private final ClientRfmService service = new ClientRfmService(repository, 60, 180, 4);
+
+    @Test
+    void onAppointmentChanged_addsVisitIncrementallyWhenAppointmentIsCompleted() {
+        UUID clientId = UUID.randomUUID();
+        AppointmentSnapshot confirmed = snapshot(clientId, AppointmentStatus.CONFIRMED, "8000.00");
+        AppointmentSnapshot completed = snapshot(clientId, AppointmentStatus.COMPLETED, "8000.00");
+
+        service.onAppointmentChanged(AppointmentChangedEvent.updated(confirmed, completed));
+
+        verify(repository).addCompletedVisit(clientId, new BigDecimal("8000.00"), VISIT_AT);
+        verify(repository, never()).insertFromCompletedAppointments(any());
+    }
+
+    @Test
+    void onAppointmentChanged_rebuildsBothClientsWhenCompletedVisitMovesToAnotherClient() {
+        UUID previousClientId = UUID.randomUUID();
+        UUID newClientId = UUID.randomUUID();
+
+        service.onAppointmentChanged(AppointmentChangedEvent.updated(
+                snapshot(previousClientId, AppointmentStatus.COMPLETED, "8000.00"),
+                snapshot(newClientId, AppointmentStatus.COMPLETED, "8000.00")
+        ));
+
+        verify(repository).deleteByClientIds(Set.of(previousClientId, newClientId));
+        verify(repository).insertFromCompletedAppointments(Set.of(previousClientId, newClientId));
+        verify(repository, never()).addCompletedVisit(any(), any(), any());
+    }
+
+    @Test
+    void onAppointmentChanged_ignoresChangesThatDoNotAffectCompletedVisits() {
+        UUID clientId = UUID.randomUUID();
+
+        service.onAppointmentChanged(AppointmentChangedEvent.created(snapshot(clientId, AppointmentStatus.PENDING, "8000.00")));
+        service.onAppointmentChanged(AppointmentChangedEvent.updated(
+                snapshot(clientId, AppointmentStatus.COMPLETED, "8000.00"),
+                snapshot(clientId, AppointmentStatus.COMPLETED, "8000")
+        ));
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void listSegment_returnsCursorThatContinuesAfterLastRow() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        OffsetDateTime lastVisit = OffsetDateTime.now(ZoneOffset.UTC).minusDays(90);
+        when(repository.findSegmentPage(any(), any(), eq(1L), eq(Long.MAX_VALUE), any(), any(), any()))
+                .thenReturn(List.of(
+                        row(first, "30000.00", lastVisit),
+                        row(second, "12000.00", lastVisit)
+                ))
+                .thenReturn(List.of());
+
+        ClientSegmentPageResponse firstPage = service.listSegment(ClientSegment.AT_RISK, null, 1);
+        ClientSegmentPageResponse secondPage = service.listSegment(ClientSegment.AT_RISK, firstPage.nextCursor(), 1);
+
+        assertEquals(List.of(first), firstPage.items().stream().map(item -> item.clientId()).toList());
+        assertEquals(90, firstPage.items().getFirst().recencyDays());
+        assertNull(secondPage.nextCursor());
+        ArgumentCaptor<BigDecimal> monetary = ArgumentCaptor.forClass(BigDecimal.class);
+        ArgumentCaptor<UUID> clientId = ArgumentCaptor.forClass(UUID.class);
+        verify(repository, times(2))
+                .findSegmentPage(any(), any(), anyLong(), anyLong(), monetary.capture(), clientId.capture(), any());
+        assertEquals(new BigDecimal("30000.00"), monetary.getAllValues().get(1));
+        assertEquals(first, clientId.getAllValues().get(1));
+    }
+
+    @Test
+    void listSegment_rejectsMalformedCursor() {
+        assertThrows(BusinessRuleException.class, () -> service.listSegment(ClientSegment.LOST, "not-a-cursor", 10));
+    }
+
+    private static AppointmentSnapshot snapshot(UUID clientId, AppointmentStatus status, String price) {
+        return new AppointmentSnapshot(UUID.randomUUID(), clientId, UUID.randomUUID(), VISIT_AT, status, new BigDecimal(price));
+    }
+
+    private static ClientRfmStatsRepository.ClientSegmentRowProjection row(
+            UUID clientId,
+            String monetaryTotal,
+            OffsetDateTime lastCompletedAt
+    ) {
+        return new ClientRfmStatsRepository.ClientSegmentRowProjection() {
+            @Override
+            public UUID getClientId() {
+                return clientId;
+            }
+
+            @Override
+            public String getClientName() {
+                return "Cliente";
+            }
+
+            @Override
+            public String getClientPhone() {
+                return "1122334455";
+            }
+
+            @Override
+            public long getCompletedCount() {
+                return 3;
+            }
+
+            @Override
+            public BigDecimal getMonetaryTotal() {
+                return new BigDecimal(monetaryTotal);
+            }
+
+            @Override
+            public OffsetDateTime getLastCompletedAt() {
+                return lastCompletedAt;
+            }
+        };
+    }
+}
@@ -0,0 +1,41 @@
+package com.barberia.stylebook.application.service;
+
+import com.barberia.stylebook.web.dto.GalleryImageVariantsResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CloudinaryImageVariantsTest {
+
+    private final CloudinaryImageVariants imageVariants = new CloudinaryImageVariants(new int[]{960, 320, 0, 320});
+
+    @Test
+    void variants_chainsWidthSteppedTransformationsBeforeTheVersion() {
+        GalleryImageVariantsResponse variants = imageVariants.variants(
+                "https://res.cloudinary.com/demo/image/upload/c_fill,g_face/v1712345/stylebook/gallery/fade.jpg"
+        );
+
+        String base = "https://res.cloudinary.com/demo/image/upload/c_fill,g_face/";
+        assertEquals(List.of(320, 960), variants.widths().stream().map(variant -> variant.width()).toList());
+        assertEquals(base + "f_auto,q_auto,c_limit,w_320/v1712345/stylebook/gallery/fade.jpg", variants.widths().getFirst().url());
+        assertEquals(variants.widths().getLast().url(), variants.src());
+        assertEquals(
+                base + "f_auto,q_auto,c_limit,w_320/v1712345/stylebook/gallery/fade.jpg 320w, "
+                        + base + "f_auto,q_auto,c_limit,w_960/v1712345/stylebook/gallery/fade.jpg 960w",
+                variants.srcset()
+        );
+        assertEquals(base + "f_auto,q_auto:low,w_32,e_blur:200/v1712345/stylebook/gallery/fade.jpg", variants.placeholderUrl());
+    }
+
+    @Test
+    void variants_takesUnversionedPathsAsIsAndSkipsForeignHosts() {
+        assertEquals(
+                "https://res.cloudinary.com/demo/image/upload/f_auto,q_auto,c_limit,w_320/sample.jpg",
+                imageVariants.variants("https://res.cloudinary.com/demo/image/upload/sample.jpg").widths().getFirst().url()
+        );
+        assertNull(imageVariants.variants("https://example.com/photos/sample.jpg"));
+    }
+}
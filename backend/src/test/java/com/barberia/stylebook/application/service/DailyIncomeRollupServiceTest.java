@@ -0,0 +1,84 @@
+package com.barberia.stylebook.application.service;
+
+import com.barberia.stylebook.application.event.AppointmentChangedEvent;
+import com.barberia.stylebook.application.event.AppointmentSnapshot;
+import com.barberia.stylebook.domain.enums.AppointmentStatus;
+import com.barberia.stylebook.repository.DailyIncomeRollupRepository;
+import com.barberia.stylebook.web.dto.IncomeRollupRebuildResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class DailyIncomeRollupServiceTest {
+
+    private final DailyIncomeRollupRepository repository = mock(DailyIncomeRollupRepository.class);
+    private final DailyIncomeRollupService service = new DailyIncomeRollupService(
+            repository,
+            mock(PlatformTransactionManager.class)
+    );
+
+    @Test
+    void onAppointmentChanged_movesIncomeToNewDayWhenCompletedAppointmentIsRescheduled() {
+        UUID appointmentId = UUID.randomUUID();
+        UUID serviceId = UUID.randomUUID();
+        // 23:30 in Buenos Aires is already the next UTC day.
+        OffsetDateTime before = OffsetDateTime.of(2026, 3, 10, 23, 30, 0, 0, ZoneOffset.ofHours(-3));
+        OffsetDateTime after = OffsetDateTime.of(2026, 3, 12, 10, 0, 0, 0, ZoneOffset.ofHours(-3));
+
+        service.onAppointmentChanged(AppointmentChangedEvent.updated(
+                snapshot(appointmentId, serviceId, before, AppointmentStatus.COMPLETED),
+                snapshot(appointmentId, serviceId, after, AppointmentStatus.COMPLETED)
+        ));
+
+        verify(repository).incrementService(LocalDate.of(2026, 3, 11), serviceId, -1, new BigDecimal("-8000.00"));
+        verify(repository).incrementService(LocalDate.of(2026, 3, 12), serviceId, 1, new BigDecimal("8000.00"));
+    }
+
+    @Test
+    void onAppointmentChanged_ignoresAppointmentsThatNeverWereCompleted() {
+        UUID appointmentId = UUID.randomUUID();
+        UUID serviceId = UUID.randomUUID();
+        OffsetDateTime at = OffsetDateTime.of(2026, 3, 10, 15, 0, 0, 0, ZoneOffset.UTC);
+
+        service.onAppointmentChanged(AppointmentChangedEvent.updated(
+                snapshot(appointmentId, serviceId, at, AppointmentStatus.PENDING),
+                snapshot(appointmentId, serviceId, at, AppointmentStatus.CANCELLED)
+        ));
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void rebuild_recomputesOneMonthPerChunk() {
+        IncomeRollupRebuildResponse response = service.rebuild(LocalDate.of(2026, 1, 20), LocalDate.of(2026, 3, 5));
+
+        assertEquals(45, response.rebuiltDays());
+        verify(repository).deleteByDayRange(LocalDate.of(2026, 1, 20), LocalDate.of(2026, 2, 1));
+        verify(repository).deleteByDayRange(LocalDate.of(2026, 2, 1), LocalDate.of(2026, 3, 1));
+        verify(repository).deleteByDayRange(LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 6));
+        verify(repository).insertManualEntries(LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 6));
+        verify(repository, never()).incrementService(any(), any(), anyLong(), any());
+    }
+
+    private static AppointmentSnapshot snapshot(
+            UUID appointmentId,
+            UUID serviceId,
+            OffsetDateTime appointmentAt,
+            AppointmentStatus status
+    ) {
+        return new AppointmentSnapshot(appointmentId, UUID.randomUUID(), serviceId, appointmentAt, status, new BigDecimal("8000.00"));
+    }
+}
@@ -0,0 +1,120 @@
+package com.barberia.stylebook.application.service;
+
+import com.barberia.stylebook.application.event.GalleryImageUrlReleasedEvent;
+import com.barberia.stylebook.application.exception.BusinessRuleException;
+import com.barberia.stylebook.domain.entity.GalleryImage;
+import com.barberia.stylebook.repository.GalleryImageRepository;
+import com.barberia.stylebook.web.dto.GalleryImagePageResponse;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GalleryImageServiceTest {
+
+    private final GalleryImageRepository repository = mock(GalleryImageRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final GalleryImageService service = new GalleryImageService(
+            repository,
+            JsonMapper.builder().build(),
+            new CloudinaryImageVariants(new int[]{320}),
+            eventPublisher
+    );
+
+    @Test
+    void listPublicPage_returnsCursorThatContinuesAfterLastImage() {
+        GalleryImage first = image(1024);
+        GalleryImage second = image(2048);
+        when(repository.findPublicPage(anyInt(), any(), any(), any()))
+                .thenReturn(List.of(first, second))
+                .thenReturn(List.of(second));
+
+        GalleryImagePageResponse firstPage = service.listPublicPage(null, null, 1);
+        GalleryImagePageResponse secondPage = service.listPublicPage(" ", firstPage.nextCursor(), 1);
+
+        assertEquals(List.of(first.getId()), firstPage.items().stream().map(item -> item.id()).toList());
+        assertNull(secondPage.nextCursor());
+        ArgumentCaptor<Integer> sortOrder = ArgumentCaptor.forClass(Integer.class);
+        ArgumentCaptor<OffsetDateTime> createdAt = ArgumentCaptor.forClass(OffsetDateTime.class);
+        ArgumentCaptor<UUID> id = ArgumentCaptor.forClass(UUID.class);
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(repository, times(2)).findPublicPage(sortOrder.capture(), createdAt.capture(), id.capture(), pageable.capture());
+        assertEquals(Integer.MIN_VALUE, sortOrder.getAllValues().getFirst());
+        assertEquals(first.getSortOrder(), sortOrder.getAllValues().get(1));
+        assertEquals(first.getCreatedAt(), createdAt.getAllValues().get(1));
+        assertEquals(first.getId(), id.getAllValues().get(1));
+        assertEquals(2, pageable.getValue().getPageSize());
+    }
+
+    @Test
+    void listPublicPage_filtersByTrimmedCategory() {
+        when(repository.findPublicPageByCategory(eq("Barba"), anyInt(), any(), any(), any())).thenReturn(List.of());
+
+        GalleryImagePageResponse page = service.listPublicPage("  Barba ", null, 0);
+
+        assertEquals(List.of(), page.items());
+        verify(repository, never()).findPublicPage(anyInt(), any(), any(), any());
+    }
+
+    @Test
+    void publicPageQuery_mapsEquivalentRequestsToTheSameCacheKey() {
+        assertEquals(
+                GalleryImageService.PublicPageQuery.of("Barba", null, 24),
+                GalleryImageService.PublicPageQuery.of(" Barba ", "", 0)
+        );
+        assertEquals(
+                GalleryImageService.PublicPageQuery.of(null, null, 100),
+                GalleryImageService.PublicPageQuery.of("  ", null, 5000)
+        );
+    }
+
+    @Test
+    void listPublicPage_rejectsMalformedCursor() {
+        assertThrows(BusinessRuleException.class, () -> service.listPublicPage(null, "not-a-cursor", 10));
+    }
+
+    @Test
+    void delete_releasesTheImageUrlOnlyWhenNoOtherRowUsesIt() {
+        GalleryImage shared = image(1024);
+        GalleryImage unique = image(2048);
+        when(repository.findById(shared.getId())).thenReturn(Optional.of(shared));
+        when(repository.findById(unique.getId())).thenReturn(Optional.of(unique));
+        when(repository.existsByImageUrl(shared.getImageUrl())).thenReturn(true);
+
+        service.delete(shared.getId());
+        service.delete(unique.getId());
+
+        verify(eventPublisher).publishEvent(new GalleryImageUrlReleasedEvent(unique.getImageUrl()));
+        verify(eventPublisher, never()).publishEvent(new GalleryImageUrlReleasedEvent(shared.getImageUrl()));
+    }
+
+    private static GalleryImage image(int sortOrder) {
+        GalleryImage image = new GalleryImage();
+        image.setTitle("Fade " + sortOrder);
+        image.setImageUrl("https://res.cloudinary.com/demo/image/upload/v1/fade-" + sortOrder + ".jpg");
+        image.setSortOrder(sortOrder);
+        ReflectionTestUtils.setField(image, "id", UUID.randomUUID());
+        ReflectionTestUtils.setField(image, "createdAt", OffsetDateTime.of(2026, 3, 10, 12, 0, 0, 0, ZoneOffset.UTC));
+        return image;
+    }
+}
@@ -0,0 +1,43 @@
+package com.barberia.stylebook.application.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+class GallerySortKeysTest {
+
+    @Test
+    void assign_movesOnlyTheRelocatedImageIntoTheGapAtTheTop() {
+        int[] keys = GallerySortKeys.assign(new int[]{3072, 1024, 2048, 4096});
+
+        assertArrayEquals(new int[]{511, 1024, 2048, 4096}, keys);
+    }
+
+    @Test
+    void assign_spreadsSeveralMovedImagesBetweenTheirKeptNeighbours() {
+        int[] keys = GallerySortKeys.assign(new int[]{1000, 5000, 6000, 2000, 3000});
+
+        assertArrayEquals(new int[]{1000, 1333, 1666, 2000, 3000}, keys);
+    }
+
+    @Test
+    void assign_appendsAfterTheLastKeptImageWithAFullGap() {
+        int[] keys = GallerySortKeys.assign(new int[]{20, 30, 10});
+
+        assertArrayEquals(new int[]{20, 30, 30 + GallerySortKeys.GAP}, keys);
+    }
+
+    @Test
+    void assign_renumbersEverythingWhenDenseKeysLeaveNoRoom() {
+        int[] keys = GallerySortKeys.assign(new int[]{2, 0, 1});
+
+        assertArrayEquals(new int[]{1024, 2048, 3072}, keys);
+    }
+
+    @Test
+    void assign_keepsKeysWhenTheOrderIsUnchanged() {
+        int[] keys = GallerySortKeys.assign(new int[]{0, 5, 9});
+
+        assertArrayEquals(new int[]{0, 5, 9}, keys);
+    }
+}
@@ -0,0 +1,74 @@
+package com.barberia.stylebook.application.service;
+
+import com.barberia.stylebook.application.event.GalleryImageUrlReleasedEvent;
+import com.barberia.stylebook.application.exception.BusinessRuleException;
+import com.barberia.stylebook.application.exception.NotFoundException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LocalGalleryStorageServiceTest {
+
+    private static final byte[] PNG = {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A, 0, 0, 0, 0x0D, 'I', 'H', 'D', 'R'};
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void store_namesFileByDetectedFormatAndResolvesItBack() throws IOException {
+        LocalGalleryStorageService service = new LocalGalleryStorageService(true, directory.toString());
+
+        String name = service.store(new MockMultipartFile("file", "fade.jpg", "image/jpeg", PNG));
+        LocalGalleryStorageService.StoredFile stored = service.resolve(name);
+
+        assertTrue(name.endsWith(".png"));
+        assertEquals("image/png", stored.contentType());
+        assertArrayEquals(PNG, Files.readAllBytes(stored.path()));
+    }
+
+    @Test
+    void onImageUrlReleased_deletesTheStoredFileBehindARelativeUrl() {
+        LocalGalleryStorageService service = new LocalGalleryStorageService(true, directory.toString());
+        String name = service.store(new MockMultipartFile("file", PNG));
+        Path path = service.resolve(name).path();
+
+        service.onImageUrlReleased(new GalleryImageUrlReleasedEvent("https://res.cloudinary.com/demo/image/upload/" + name));
+        assertTrue(Files.exists(path));
+
+        service.onImageUrlReleased(new GalleryImageUrlReleasedEvent(service.publicPath(name)));
+        assertFalse(Files.exists(path));
+    }
+
+    @Test
+    void store_rejectsContentThatIsNotAnImage() {
+        LocalGalleryStorageService service = new LocalGalleryStorageService(true, directory.toString());
+        MockMultipartFile html = new MockMultipartFile("file", "x.png", "image/png", "<html><script>".getBytes());
+
+        assertThrows(BusinessRuleException.class, () -> service.store(html));
+    }
+
+    @Test
+    void resolve_rejectsNamesOutsideTheStoredPattern() {
+        LocalGalleryStorageService service = new LocalGalleryStorageService(true, directory.toString());
+
+        assertThrows(NotFoundException.class, () -> service.resolve("../application.yml"));
+        assertThrows(NotFoundException.class, () -> service.resolve("00000000-0000-0000-0000-000000000000.png"));
+    }
+
+    @Test
+    void store_failsWhenLocalStorageIsDisabled() {
+        LocalGalleryStorageService service = new LocalGalleryStorageService(false, directory.toString());
+
+        assertThrows(BusinessRuleException.class, () -> service.store(new MockMultipartFile("file", PNG)));
+    }
+}
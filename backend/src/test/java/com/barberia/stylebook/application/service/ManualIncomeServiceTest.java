@@ -0,0 +1,100 @@
+package com.barberia.stylebook.application.service;
+
+import com.barberia.stylebook.application.exception.BusinessRuleException;
+import com.barberia.stylebook.domain.entity.ManualIncomeEntry;
+import com.barberia.stylebook.repository.ManualIncomeEntryRepository;
+import com.barberia.stylebook.web.dto.CreateManualIncomeRequest;
+import com.barberia.stylebook.web.dto.ManualIncomeLedgerPageResponse;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ManualIncomeServiceTest {
+
+    private final ManualIncomeEntryRepository repository = mock(ManualIncomeEntryRepository.class);
+    private final DailyIncomeRollupService dailyIncomeRollupService = mock(DailyIncomeRollupService.class);
+    private final ManualIncomeService service = new ManualIncomeService(
+            repository,
+            dailyIncomeRollupService,
+            mock(ApplicationEventPublisher.class)
+    );
+
+    @Test
+    void ledger_returnsCursorThatContinuesAfterLastEntry() {
+        ManualIncomeEntry newest = entry(LocalDate.of(2026, 3, 10));
+        ManualIncomeEntry older = entry(LocalDate.of(2026, 3, 2));
+        when(repository.findLedgerPage(any(), any(), any(), any()))
+                .thenReturn(List.of(newest, older))
+                .thenReturn(List.of(older));
+
+        ManualIncomeLedgerPageResponse firstPage = service.ledger(null, 1);
+        ManualIncomeLedgerPageResponse secondPage = service.ledger(firstPage.nextCursor(), 1);
+
+        assertEquals(List.of(newest.getId()), firstPage.items().stream().map(item -> item.id()).toList());
+        assertNull(secondPage.nextCursor());
+        ArgumentCaptor<LocalDate> occurredOn = ArgumentCaptor.forClass(LocalDate.class);
+        ArgumentCaptor<OffsetDateTime> createdAt = ArgumentCaptor.forClass(OffsetDateTime.class);
+        ArgumentCaptor<UUID> id = ArgumentCaptor.forClass(UUID.class);
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(repository, times(2)).findLedgerPage(occurredOn.capture(), createdAt.capture(), id.capture(), pageable.capture());
+        assertEquals(newest.getOccurredOn(), occurredOn.getAllValues().get(1));
+        assertEquals(newest.getCreatedAt(), createdAt.getAllValues().get(1));
+        assertEquals(newest.getId(), id.getAllValues().get(1));
+        assertEquals(2, pageable.getValue().getPageSize());
+    }
+
+    @Test
+    void ledger_rejectsMalformedCursor() {
+        assertThrows(BusinessRuleException.class, () -> service.ledger("not-a-cursor", 10));
+    }
+
+    @Test
+    void update_movesIncomeBetweenDailyRollups() {
+        ManualIncomeEntry existing = entry(LocalDate.of(2026, 3, 2));
+        when(repository.findById(existing.getId())).thenReturn(Optional.of(existing));
+        when(repository.save(existing)).thenReturn(existing);
+
+        service.update(existing.getId(), new CreateManualIncomeRequest(
+                new BigDecimal("9000.00"),
+                BigDecimal.ZERO,
+                LocalDate.of(2026, 3, 5),
+                null
+        ));
+
+        verify(dailyIncomeRollupService).subtractManualIncome(
+                LocalDate.of(2026, 3, 2),
+                new BigDecimal("5000.00"),
+                new BigDecimal("500.00")
+        );
+        verify(dailyIncomeRollupService).addManualIncome(LocalDate.of(2026, 3, 5), new BigDecimal("9000.00"), BigDecimal.ZERO);
+    }
+
+    private static ManualIncomeEntry entry(LocalDate occurredOn) {
+        ManualIncomeEntry entry = new ManualIncomeEntry();
+        entry.setAmount(new BigDecimal("5000.00"));
+        entry.setTipAmount(new BigDecimal("500.00"));
+        entry.setOccurredOn(occurredOn);
+        ReflectionTestUtils.setField(entry, "id", UUID.randomUUID());
+        ReflectionTestUtils.setField(entry, "createdAt", OffsetDateTime.of(2026, 3, 10, 12, 0, 0, 0, ZoneOffset.UTC));
+        return entry;
+    }
+}
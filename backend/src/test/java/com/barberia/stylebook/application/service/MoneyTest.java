@@ -0,0 +1,24 @@
+package com.barberia.stylebook.application.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MoneyTest {
+
+    @Test
+    void toCents_roundsToTwoDecimalsAndTreatsNullAsZero() {
+        assertEquals(800_000, Money.toCents(new BigDecimal("8000")));
+        assertEquals(1_235, Money.toCents(new BigDecimal("12.345")));
+        assertEquals(-150, Money.toCents(new BigDecimal("-1.50")));
+        assertEquals(0, Money.toCents(null));
+    }
+
+    @Test
+    void toBigDecimal_keepsTwoDecimals() {
+        assertEquals(new BigDecimal("0.30"), Money.toBigDecimal(Money.toCents(new BigDecimal("0.10")) + Money.toCents(new BigDecimal("0.2"))));
+        assertEquals(new BigDecimal("-1.50"), Money.toBigDecimal(-150));
+    }
+}
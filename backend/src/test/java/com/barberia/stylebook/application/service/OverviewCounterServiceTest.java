@@ -0,0 +1,102 @@
+package com.barberia.stylebook.application.service;
+
+import com.barberia.stylebook.application.event.AppointmentChangedEvent;
+import com.barberia.stylebook.application.event.AppointmentSnapshot;
+import com.barberia.stylebook.domain.enums.AppointmentStatus;
+import com.barberia.stylebook.repository.AppointmentRepository;
+import com.barberia.stylebook.repository.ClientRepository;
+import com.barberia.stylebook.repository.MetricCounterRepository;
+import com.barberia.stylebook.repository.ServiceUsageCounterRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class OverviewCounterServiceTest {
+
+    private static final OffsetDateTime APPOINTMENT_AT = OffsetDateTime.of(2026, 3, 10, 15, 0, 0, 0, ZoneOffset.UTC);
+
+    private final MetricCounterRepository metricCounterRepository = mock(MetricCounterRepository.class);
+    private final ServiceUsageCounterRepository serviceUsageCounterRepository = mock(ServiceUsageCounterRepository.class);
+    private final AppointmentRepository appointmentRepository = mock(AppointmentRepository.class);
+    private final ClientRepository clientRepository = mock(ClientRepository.class);
+    private final OverviewCounterService service = new OverviewCounterService(
+            metricCounterRepository,
+            serviceUsageCounterRepository,
+            appointmentRepository,
+            clientRepository
+    );
+
+    @Test
+    void onAppointmentChanged_countsFirstAppointmentOfClient() {
+        UUID clientId = UUID.randomUUID();
+        AppointmentSnapshot created = snapshot(UUID.randomUUID(), clientId, UUID.randomUUID(), AppointmentStatus.PENDING);
+        when(appointmentRepository.existsByClientIdAndIdNot(clientId, created.appointmentId())).thenReturn(false);
+
+        service.onAppointmentChanged(AppointmentChangedEvent.created(created));
+
+        InOrder order = inOrder(clientRepository, appointmentRepository);
+        order.verify(clientRepository).lockForAppointmentChange(Set.of(clientId));
+        order.verify(appointmentRepository).existsByClientIdAndIdNot(clientId, created.appointmentId());
+        verify(metricCounterRepository).increment(OverviewCounterService.TOTAL_APPOINTMENTS, 1);
+        verify(metricCounterRepository).increment(OverviewCounterService.statusCounter(AppointmentStatus.PENDING), 1);
+        verify(metricCounterRepository).increment(OverviewCounterService.CLIENTS_WITH_APPOINTMENTS, 1);
+        verify(serviceUsageCounterRepository).increment(created.serviceId(), 1);
+    }
+
+    @Test
+    void onAppointmentChanged_onlyMovesStatusCounterWhenStatusChanges() {
+        UUID appointmentId = UUID.randomUUID();
+        UUID clientId = UUID.randomUUID();
+        UUID serviceId = UUID.randomUUID();
+
+        service.onAppointmentChanged(AppointmentChangedEvent.updated(
+                snapshot(appointmentId, clientId, serviceId, AppointmentStatus.CONFIRMED),
+                snapshot(appointmentId, clientId, serviceId, AppointmentStatus.COMPLETED)
+        ));
+
+        verify(metricCounterRepository).increment(OverviewCounterService.statusCounter(AppointmentStatus.CONFIRMED), -1);
+        verify(metricCounterRepository).increment(OverviewCounterService.statusCounter(AppointmentStatus.COMPLETED), 1);
+        verify(metricCounterRepository, never()).increment(eq(OverviewCounterService.TOTAL_APPOINTMENTS), anyLong());
+        verify(metricCounterRepository, never()).increment(eq(OverviewCounterService.CLIENTS_WITH_APPOINTMENTS), anyLong());
+        verify(serviceUsageCounterRepository, never()).increment(any(), anyLong());
+        verifyNoInteractions(appointmentRepository, clientRepository);
+    }
+
+    @Test
+    void prepareMerge_collapsesSourceAndTargetWithAppointmentsIntoOneClient() {
+        UUID source = UUID.randomUUID();
+        UUID target = UUID.randomUUID();
+        UUID emptySource = UUID.randomUUID();
+        UUID emptyTarget = UUID.randomUUID();
+        when(appointmentRepository.findClientIdsWithAppointments(any())).thenReturn(List.of(source, target));
+
+        service.prepareMerge(Map.of(source, target, emptySource, emptyTarget));
+
+        verify(metricCounterRepository).increment(OverviewCounterService.CLIENTS_WITH_APPOINTMENTS, -1);
+        verify(serviceUsageCounterRepository, never()).increment(any(), anyLong());
+        verify(metricCounterRepository, never()).increment(eq(OverviewCounterService.TOTAL_APPOINTMENTS), anyLong());
+        verify(metricCounterRepository, never()).increment(anyString(), eq(0L));
+    }
+
+    private static AppointmentSnapshot snapshot(UUID appointmentId, UUID clientId, UUID serviceId, AppointmentStatus status) {
+        return new AppointmentSnapshot(appointmentId, clientId, serviceId, APPOINTMENT_AT, status, new BigDecimal("8000.00"));
+    }
+}
@@ -0,0 +1,31 @@
+package com.barberia.stylebook.application.service;
+
+import com.barberia.stylebook.application.exception.BusinessRuleException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PhoneNormalizerTest {
+
+    @Test
+    void normalize_keepsOnlyAsciiDigits() {
+        assertEquals("5491122334455", PhoneNormalizer.normalize(" +54 9 (11) 2233-4455 "));
+        assertEquals("", PhoneNormalizer.digitsOnly("sin numero"));
+        assertEquals("12345678", PhoneNormalizer.digitsOnly("1234٥۹5678"));
+    }
+
+    @Test
+    void digitsOnly_returnsSameInstanceWhenAlreadyNormalized() {
+        String digits = "1122334455";
+
+        assertSame(digits, PhoneNormalizer.digitsOnly(digits));
+    }
+
+    @Test
+    void normalize_rejectsTooShortOrTooLongNumbers() {
+        assertThrows(BusinessRuleException.class, () -> PhoneNormalizer.normalize("1234-567"));
+        assertThrows(BusinessRuleException.class, () -> PhoneNormalizer.normalize("1234567890123456"));
+    }
+}
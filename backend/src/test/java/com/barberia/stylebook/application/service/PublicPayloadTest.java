@@ -0,0 +1,41 @@
+package com.barberia.stylebook.application.service;
+
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PublicPayloadTest {
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    @Test
+    void of_derivesStableStrongEtagFromContent() {
+        PublicPayload first = PublicPayload.of(jsonMapper, List.of(Map.of("name", "Corte")));
+        PublicPayload same = PublicPayload.of(jsonMapper, List.of(Map.of("name", "Corte")));
+        PublicPayload changed = PublicPayload.of(jsonMapper, List.of(Map.of("name", "Barba")));
+
+        assertEquals(first.etag(), same.etag());
+        assertNotEquals(first.etag(), changed.etag());
+        assertNotEquals(first.etag(), first.gzipEtag());
+        assertTrue(first.etag().startsWith("\"") && first.etag().endsWith("\""));
+    }
+
+    @Test
+    void of_gzipVariantInflatesToJson() throws IOException {
+        PublicPayload payload = PublicPayload.of(jsonMapper, List.of(Map.of("name", "Corte y barba")));
+
+        try (GZIPInputStream inflated = new GZIPInputStream(new ByteArrayInputStream(payload.gzip()))) {
+            assertArrayEquals(payload.json(), inflated.readAllBytes());
+        }
+    }
+}
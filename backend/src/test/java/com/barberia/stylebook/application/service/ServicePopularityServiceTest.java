@@ -0,0 +1,83 @@
+package com.barberia.stylebook.application.service;
+
+import com.barberia.stylebook.application.event.AppointmentChangedEvent;
+import com.barberia.stylebook.application.event.AppointmentSnapshot;
+import com.barberia.stylebook.domain.enums.AppointmentStatus;
+import com.barberia.stylebook.repository.ServiceDailyBookingsRepository;
+import com.barberia.stylebook.web.dto.ServicePopularityWindowResponse;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class ServicePopularityServiceTest {
+
+    private final ServiceDailyBookingsRepository repository = mock(ServiceDailyBookingsRepository.class);
+    private final ServicePopularityService service = new ServicePopularityService(repository);
+
+    @Test
+    void onAppointmentChanged_movesBookingWhenServiceChanges() {
+        UUID appointmentId = UUID.randomUUID();
+        UUID previousService = UUID.randomUUID();
+        UUID currentService = UUID.randomUUID();
+        OffsetDateTime at = OffsetDateTime.of(2026, 3, 10, 23, 30, 0, 0, ZoneOffset.ofHours(-3));
+
+        service.onAppointmentChanged(AppointmentChangedEvent.updated(
+                snapshot(appointmentId, previousService, at, AppointmentStatus.PENDING),
+                snapshot(appointmentId, currentService, at, AppointmentStatus.CONFIRMED)
+        ));
+
+        verify(repository).increment(LocalDate.of(2026, 3, 11), previousService, -1);
+        verify(repository).increment(LocalDate.of(2026, 3, 11), currentService, 1);
+    }
+
+    @Test
+    void onAppointmentChanged_ignoresStatusChangesBetweenBookedStates() {
+        UUID appointmentId = UUID.randomUUID();
+        UUID serviceId = UUID.randomUUID();
+        OffsetDateTime at = OffsetDateTime.of(2026, 3, 10, 15, 0, 0, 0, ZoneOffset.UTC);
+
+        service.onAppointmentChanged(AppointmentChangedEvent.updated(
+                snapshot(appointmentId, serviceId, at, AppointmentStatus.CONFIRMED),
+                snapshot(appointmentId, serviceId, at, AppointmentStatus.COMPLETED)
+        ));
+        service.onAppointmentChanged(AppointmentChangedEvent.created(
+                snapshot(UUID.randomUUID(), serviceId, at, AppointmentStatus.CANCELLED)
+        ));
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void topServices_readsEachWindowEndingToday() {
+        LocalDate today = LocalDate.now(DailyIncomeRollupService.ROLLUP_ZONE);
+
+        List<ServicePopularityWindowResponse> windows = service.topServices(500);
+
+        assertEquals(List.of(7, 30, 90), windows.stream().map(ServicePopularityWindowResponse::days).toList());
+        verify(repository).findTopServices(today.minusDays(6), today, 50);
+        verify(repository).findTopServices(today.minusDays(29), today, 50);
+        verify(repository).findTopServices(eq(today.minusDays(89)), any(), anyInt());
+    }
+
+    private static AppointmentSnapshot snapshot(
+            UUID appointmentId,
+            UUID serviceId,
+            OffsetDateTime appointmentAt,
+            AppointmentStatus status
+    ) {
+        return new AppointmentSnapshot(appointmentId, UUID.randomUUID(), serviceId, appointmentAt, status, new BigDecimal("8000.00"));
+    }
+}
@@ -0,0 +1,93 @@
+package com.barberia.stylebook.benchmark;
+
+import com.barberia.stylebook.application.service.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares summing a large income breakdown with {@link BigDecimal} accumulators against {@code long} cents, the
+ * way {@code AdminMetricsService} aggregates rollup rows, including allocation rates. Run {@code main} from the
+ * IDE or with {@code mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test
+ * "-Dexec.args=-cp %classpath com.barberia.stylebook.benchmark.IncomeAggregationBenchmark"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IncomeAggregationBenchmark {
+    private static final int SERVICES = 64;
+
+    @Param({"1000", "100000"})
+    public int rows;
+
+    private BigDecimal[] amounts;
+    private int[] serviceIndexes;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        amounts = new BigDecimal[rows];
+        serviceIndexes = new int[rows];
+        for (int i = 0; i < rows; i++) {
+            amounts[i] = BigDecimal.valueOf(random.nextLong(50_000, 2_500_000), 2);
+            serviceIndexes[i] = random.nextInt(SERVICES);
+        }
+    }
+
+    @Benchmark
+    public void bigDecimalAccumulators(Blackhole blackhole) {
+        BigDecimal total = BigDecimal.ZERO;
+        BigDecimal[] byService = new BigDecimal[SERVICES];
+        Arrays.fill(byService, BigDecimal.ZERO);
+        for (int i = 0; i < rows; i++) {
+            total = total.add(amounts[i]);
+            byService[serviceIndexes[i]] = byService[serviceIndexes[i]].add(amounts[i]);
+        }
+        blackhole.consume(total);
+        blackhole.consume(byService);
+    }
+
+    @Benchmark
+    public void centsAccumulators(Blackhole blackhole) {
+        long total = 0;
+        long[] byService = new long[SERVICES];
+        for (int i = 0; i < rows; i++) {
+            long cents = Money.toCents(amounts[i]);
+            total = Math.addExact(total, cents);
+            byService[serviceIndexes[i]] = Math.addExact(byService[serviceIndexes[i]], cents);
+        }
+        BigDecimal[] result = new BigDecimal[SERVICES];
+        for (int i = 0; i < SERVICES; i++) {
+            result[i] = Money.toBigDecimal(byService[i]);
+        }
+        blackhole.consume(Money.toBigDecimal(total));
+        blackhole.consume(result);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(IncomeAggregationBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
@@ -0,0 +1,57 @@
+package com.barberia.stylebook.benchmark;
+
+import com.barberia.stylebook.application.service.PhoneNormalizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the char-scanning normalizer with the previous regex implementation, including allocation rates.
+ * Run {@code main} from the IDE or with {@code mvn test-compile exec:exec -Dexec.executable=java
+ * -Dexec.classpathScope=test "-Dexec.args=-cp %classpath com.barberia.stylebook.benchmark.PhoneNormalizerBenchmark"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PhoneNormalizerBenchmark {
+
+    @Param({"+54 9 11 2233-4455", "(011) 4555-1234", "5491122334455"})
+    public String phone;
+
+    @Benchmark
+    public String regexReplaceAll() {
+        String value = phone == null ? "" : phone.trim();
+        String digits = value.replaceAll("\\D", "");
+        if (digits.length() < 8 || digits.length() > 15) {
+            throw new IllegalArgumentException("invalid phone");
+        }
+        return digits;
+    }
+
+    @Benchmark
+    public String charScan() {
+        return PhoneNormalizer.normalize(phone);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PhoneNormalizerBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
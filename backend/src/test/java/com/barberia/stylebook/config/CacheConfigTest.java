@@ -0,0 +1,104 @@
+package com.barberia.stylebook.config;
+
+import com.barberia.stylebook.application.service.CacheInvalidationBus;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class CacheConfigTest {
+
+    private static final CacheSpecProperties.Spec PUBLIC = new CacheSpecProperties.Spec(
+            1L,
+            Duration.ofMinutes(10),
+            Duration.ofMinutes(5),
+            Duration.ofHours(1)
+    );
+
+    @Test
+    void caffeine_servesLastGoodValueWhileReloadsFailUntilMaxStale() {
+        AtomicLong nanos = new AtomicLong();
+        AtomicInteger loads = new AtomicInteger();
+        LoadingCache<Object, Object> cache = CacheConfig.caffeine("publicServices", PUBLIC)
+                .ticker(nanos::get)
+                .executor(Runnable::run)
+                .build(key -> {
+                    if (loads.incrementAndGet() > 1) {
+                        throw new IllegalStateException("db down");
+                    }
+                    return "v1";
+                });
+
+        assertEquals("v1", cache.get("k"));
+        nanos.addAndGet(Duration.ofMinutes(30).toNanos());
+        assertEquals("v1", cache.get("k"));
+        assertEquals(2, loads.get());
+
+        nanos.addAndGet(Duration.ofMinutes(41).toNanos());
+        assertThrows(IllegalStateException.class, () -> cache.get("k"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void cacheManager_registersOnlyConfiguredCachesAndRequiresLoaderForRefresh() {
+        CacheConfig config = new CacheConfig();
+
+        CacheManager cacheManager = config.cacheManager(
+                new CacheSpecProperties(Map.of(
+                        "publicGallery", PUBLIC,
+                        "adminOverview", new CacheSpecProperties.Spec(128L, Duration.ofMinutes(10), null, null)
+                )),
+                mock(ObjectProvider.class),
+                mock(ObjectProvider.class),
+                mock(CacheInvalidationBus.class)
+        );
+
+        assertInstanceOf(CaffeineCache.class, cacheManager.getCache("publicGallery"));
+        assertNotNull(cacheManager.getCache("adminOverview"));
+        assertNull(cacheManager.getCache("undeclared"));
+        assertThrows(IllegalStateException.class, () -> config.cacheManager(
+                new CacheSpecProperties(Map.of("adminOverview", PUBLIC)),
+                mock(ObjectProvider.class),
+                mock(ObjectProvider.class),
+                mock(CacheInvalidationBus.class)
+        ));
+    }
+
+    @Test
+    void cacheManager_broadcastsEvictionsAfterApplyingThemLocally() {
+        CacheInvalidationBus invalidationBus = mock(CacheInvalidationBus.class);
+        CacheManager cacheManager = new CacheConfig().cacheManager(
+                new CacheSpecProperties(Map.of(
+                        "adminMonthlyIncome", new CacheSpecProperties.Spec(128L, Duration.ofMinutes(10), null, null)
+                )),
+                null,
+                null,
+                invalidationBus
+        );
+        Cache cache = cacheManager.getCache("adminMonthlyIncome");
+        cache.put(YearMonth.of(2026, 3), "march");
+
+        cache.evict(YearMonth.of(2026, 3));
+        cache.clear();
+
+        assertNull(cache.get(YearMonth.of(2026, 3)));
+        verify(invalidationBus).publish("adminMonthlyIncome", YearMonth.of(2026, 3));
+        verify(invalidationBus).publish("adminMonthlyIncome", null);
+    }
+}
@@ -0,0 +1,106 @@
+package com.barberia.stylebook.config;
+
+import com.barberia.stylebook.application.service.CacheInvalidationBus;
+import com.barberia.stylebook.repository.AppointmentRepository;
+import com.barberia.stylebook.repository.ClientRfmStatsRepository;
+import com.barberia.stylebook.repository.DailyIncomeRollupRepository;
+import com.barberia.stylebook.repository.MetricCounterRepository;
+import com.barberia.stylebook.repository.ServiceDailyBookingsRepository;
+import com.barberia.stylebook.repository.ServiceUsageCounterRepository;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import jakarta.persistence.QueryHint;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.persister.entity.EntityPersister;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+class SecondLevelCacheConfigTest {
+
+    @Test
+    void regions_boundEntitiesButNeverExpireUpdateTimestamps() {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+
+        for (String region : new String[]{"serviceCatalog", "galleryImage", "adminUser", "adminUserNaturalId"}) {
+            CaffeineConfiguration<?, ?> configuration = configuration(cacheManager.getCache(region));
+            assertEquals(OptionalLong.of(1_000), configuration.getMaximumSize(), region);
+            assertEquals(OptionalLong.of(Duration.ofHours(1).toNanos()), configuration.getExpireAfterWrite(), region);
+        }
+        CaffeineConfiguration<?, ?> timestamps = configuration(cacheManager.getCache("default-update-timestamps-region"));
+        assertEquals(OptionalLong.empty(), timestamps.getMaximumSize());
+        assertEquals(OptionalLong.empty(), timestamps.getExpireAfterWrite());
+    }
+
+    @Test
+    void listener_broadcastsOnlyCachedEntities() {
+        CacheInvalidationBus invalidationBus = mock(CacheInvalidationBus.class);
+        SecondLevelCacheConfig.CachedEntityChangeListener listener =
+                new SecondLevelCacheConfig.CachedEntityChangeListener(invalidationBus);
+        EntityPersister cached = persister("com.barberia.stylebook.domain.entity.ServiceCatalog", true);
+        EntityPersister uncached = persister("com.barberia.stylebook.domain.entity.Appointment", false);
+        UUID id = UUID.randomUUID();
+
+        listener.onPostUpdate(new PostUpdateEvent(new Object(), id, null, null, null, cached, null));
+        listener.onPostUpdate(new PostUpdateEvent(new Object(), UUID.randomUUID(), null, null, null, uncached, null));
+
+        verify(invalidationBus).publishEntity("com.barberia.stylebook.domain.entity.ServiceCatalog", id);
+        verifyNoMoreInteractions(invalidationBus);
+    }
+
+    @Test
+    void nativeWrites_declareQuerySpacesSoTheyDoNotEvictEveryRegion() {
+        Class<?>[] repositories = {
+                AppointmentRepository.class,
+                ClientRfmStatsRepository.class,
+                DailyIncomeRollupRepository.class,
+                MetricCounterRepository.class,
+                ServiceDailyBookingsRepository.class,
+                ServiceUsageCounterRepository.class
+        };
+        for (Class<?> repository : repositories) {
+            for (Method method : repository.getDeclaredMethods()) {
+                Query query = method.getAnnotation(Query.class);
+                if (query == null || !query.nativeQuery() || !method.isAnnotationPresent(Modifying.class)) {
+                    continue;
+                }
+                QueryHints hints = method.getAnnotation(QueryHints.class);
+                boolean declaresSpaces = hints != null && Arrays.stream(hints.value())
+                        .map(QueryHint::name)
+                        .anyMatch(HibernateHints.HINT_NATIVE_SPACES::equals);
+                assertTrue(declaresSpaces, repository.getSimpleName() + "." + method.getName());
+            }
+        }
+    }
+
+    private static EntityPersister persister(String entityName, boolean cached) {
+        EntityPersister persister = mock(EntityPersister.class);
+        when(persister.getEntityName()).thenReturn(entityName);
+        when(persister.canWriteToCache()).thenReturn(cached);
+        return persister;
+    }
+
+    private static CaffeineConfiguration<?, ?> configuration(Cache<?, ?> cache) {
+        assertNotNull(cache);
+        return cache.getConfiguration(CaffeineConfiguration.class);
+    }
+}
@@ -0,0 +1,58 @@
+package com.barberia.stylebook.domain.entity;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AppointmentTest {
+
+    @Test
+    void setService_snapshotsNameAndPriceOfANewService() {
+        Appointment appointment = new Appointment();
+        appointment.setService(service(UUID.randomUUID(), "Corte", "5000.00"));
+
+        ServiceCatalog beard = service(UUID.randomUUID(), "Barba", "3000.00");
+        appointment.setService(beard);
+
+        assertSame(beard, appointment.getService());
+        assertEquals("Barba", appointment.getServiceName());
+        assertEquals(new BigDecimal("3000.00"), appointment.getPriceAtBooking());
+    }
+
+    @Test
+    void setService_keepsTheBookedPriceWhenTheSameServiceIsSetAgainAfterAPriceChange() {
+        UUID serviceId = UUID.randomUUID();
+        ServiceCatalog cut = service(serviceId, "Corte", "5000.00");
+        Appointment appointment = new Appointment();
+        appointment.setService(cut);
+
+        cut.setName("Corte clasico");
+        cut.setPrice(new BigDecimal("6500.00"));
+        appointment.setService(cut);
+        appointment.setService(service(serviceId, "Corte clasico", "6500.00"));
+
+        assertEquals("Corte", appointment.getServiceName());
+        assertEquals(new BigDecimal("5000.00"), appointment.getPriceAtBooking());
+    }
+
+    @Test
+    void setService_rejectsNull() {
+        Appointment appointment = new Appointment();
+
+        assertThrows(IllegalArgumentException.class, () -> appointment.setService(null));
+    }
+
+    private static ServiceCatalog service(UUID id, String name, String price) {
+        ServiceCatalog service = new ServiceCatalog();
+        ReflectionTestUtils.setField(service, "id", id);
+        service.setName(name);
+        service.setPrice(new BigDecimal(price));
+        return service;
+    }
+}
@@ -16,9 +16,12 @@ import {
 import {
   createAdminGalleryImage,
   deleteAdminGalleryImage,
+  GALLERY_STORAGE,
   getAdminGalleryUploadSignature,
   listAdminGalleryImages,
+  resolveApiUrl,
   updateAdminGalleryImage,
+  uploadAdminGalleryFile,
   type GalleryImageItem,
 } from "@/lib/api";
 import { emitContentRefresh } from "@/lib/content-refresh";
@@ -98,6 +101,14 @@ const uploadToCloudinary = async (file: File): Promise<string> => {
   return payload.secure_url as string;
 };
 
+const uploadGalleryFile = async (file: File): Promise<string> => {
+  if (GALLERY_STORAGE === "local") {
+    const { imageUrl } = await uploadAdminGalleryFile(file);
+    return imageUrl;
+  }
+  return uploadToCloudinary(file);
+};
+
 const GalleryTab = () => {
   const [images, setImages] = useState<GalleryImageItem[]>([]);
   const [loading, setLoading] = useState(true);
@@ -239,7 +250,7 @@ const GalleryTab = () => {
   });
 
   const applySingleEdit = async (id: string, payload: GalleryFormPayload, file: File | null, currentImage: GalleryImageItem) => {
-    const uploadedUrl = file ? await uploadToCloudinary(file) : currentImage.imageUrl;
+    const uploadedUrl = file ? await uploadGalleryFile(file) : currentImage.imageUrl;
     await updateAdminGalleryImage(id, {
       ...payload,
       imageUrl: uploadedUrl,
@@ -253,7 +264,7 @@ const GalleryTab = () => {
     file: File | null
   ) => {
     const temporarySortOrder = Math.max(...images.map((img) => img.sortOrder), 0) + 1;
-    const updatedUrl = file ? await uploadToCloudinary(file) : currentImage.imageUrl;
+    const updatedUrl = file ? await uploadGalleryFile(file) : currentImage.imageUrl;
 
     await updateAdminGalleryImage(targetImage.id, buildPayloadFromImage(targetImage, temporarySortOrder));
     await updateAdminGalleryImage(currentImage.id, {
@@ -334,7 +345,7 @@ const GalleryTab = () => {
         sortOrder: nextAvailableSortOrder(baseSortOrder + index, takenSortOrders),
       }));
       await runWithConcurrency(payloads, MAX_UPLOAD_CONCURRENCY, async (item) => {
-        const uploadedUrl = await uploadToCloudinary(item.file);
+        const uploadedUrl = await uploadGalleryFile(item.file);
         await createAdminGalleryImage({
           ...validation.payload,
           title: item.title,
@@ -761,7 +772,7 @@ const GalleryTab = () => {
                     Seleccionar
                   </label>
                 </div>
-                <img src={item.imageUrl} alt={item.title} className="w-full h-48 object-cover rounded-lg" />
+                <img src={resolveApiUrl(item.imageUrl)} alt={item.title} className="w-full h-48 object-cover rounded-lg" />
                 <div className="grid gap-2">
                   <label htmlFor={`gallery-item-title-${item.id}`} className="text-xs text-muted-foreground">Título</label>
                   <Input
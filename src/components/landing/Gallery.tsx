@@ -1,7 +1,7 @@
 import { useCallback, useEffect, useRef, useState } from "react";
 import { motion } from "framer-motion";
 import { ImageIcon } from "lucide-react";
-import { listPublicGalleryImages, type GalleryImageItem } from "@/lib/api";
+import { listPublicGalleryPage, resolveApiUrl, type GalleryImageItem, type GalleryImageVariants } from "@/lib/api";
 import { subscribeToContentRefresh } from "@/lib/content-refresh";
 
 type VisualGalleryItem = {
@@ -9,8 +9,14 @@ type VisualGalleryItem = {
   title: string;
   category: string;
   imageUrl?: string;
+  variants?: GalleryImageVariants | null;
 };
 
+// Matches the grid below: two columns on phones, three from md (max-w-5xl) up.
+const GALLERY_IMAGE_SIZES = "(min-width: 768px) 342px, 50vw";
+// Four full rows of the three-column grid.
+const GALLERY_PAGE_SIZE = 12;
+
 type GalleryCachePayload = {
   version: 1;
   savedAt: number;
@@ -72,22 +78,27 @@ const writeCachedGallery = (images: GalleryImageItem[]) => {
 
 const Gallery = () => {
   const [images, setImages] = useState<GalleryImageItem[]>([]);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
+  const [loadingMore, setLoadingMore] = useState(false);
   const requestRef = useRef<AbortController | null>(null);
   const requestSequenceRef = useRef(0);
+  const sentinelRef = useRef<HTMLDivElement | null>(null);
 
   const fetchGallery = useCallback(async (showFallbackOnError: boolean) => {
     requestRef.current?.abort();
     const requestController = new AbortController();
     requestRef.current = requestController;
     const requestSequence = ++requestSequenceRef.current;
+    setLoadingMore(false);
 
     try {
-      const data = await listPublicGalleryImages(requestController.signal);
+      const page = await listPublicGalleryPage({ limit: GALLERY_PAGE_SIZE }, requestController.signal);
       if (requestSequence !== requestSequenceRef.current) {
         return;
       }
-      setImages(data);
-      writeCachedGallery(data);
+      setImages(page.items);
+      setNextCursor(page.nextCursor);
+      writeCachedGallery(page.items);
     } catch (err) {
       if (err instanceof DOMException && err.name === "AbortError") {
         return;
@@ -97,6 +108,45 @@ const Gallery = () => {
     }
   }, []);
 
+  const fetchNextPage = useCallback(async (cursor: string) => {
+    requestRef.current?.abort();
+    const requestController = new AbortController();
+    requestRef.current = requestController;
+    const requestSequence = ++requestSequenceRef.current;
+    setLoadingMore(true);
+
+    try {
+      const page = await listPublicGalleryPage({ cursor, limit: GALLERY_PAGE_SIZE }, requestController.signal);
+      if (requestSequence !== requestSequenceRef.current) {
+        return;
+      }
+      setImages((current) => [...current, ...page.items]);
+      setNextCursor(page.nextCursor);
+    } catch {
+      // Leave the cursor in place so the next intersection retries.
+    } finally {
+      if (requestSequence === requestSequenceRef.current) {
+        setLoadingMore(false);
+      }
+    }
+  }, []);
+
+  useEffect(() => {
+    const sentinel = sentinelRef.current;
+    if (!sentinel || !nextCursor || loadingMore || typeof IntersectionObserver === "undefined") return;
+    const observer = new IntersectionObserver(
+      (entries) => {
+        if (entries.some((entry) => entry.isIntersecting)) {
+          observer.disconnect();
+          void fetchNextPage(nextCursor);
+        }
+      },
+      { rootMargin: "400px 0px" }
+    );
+    observer.observe(sentinel);
+    return () => observer.disconnect();
+  }, [nextCursor, loadingMore, fetchNextPage]);
+
   useEffect(() => {
     const cachedGallery = readCachedGallery();
     if (cachedGallery) {
@@ -123,7 +173,8 @@ const Gallery = () => {
           id: item.id,
           title: item.title,
           category: item.category?.trim() || "Corte",
-          imageUrl: item.imageUrl,
+          imageUrl: resolveApiUrl(item.imageUrl),
+          variants: item.variants,
         }))
       : fallbackGallery;
 
@@ -150,11 +201,20 @@ const Gallery = () => {
               initial={{ opacity: 0, scale: 0.95 }}
               whileInView={{ opacity: 1, scale: 1 }}
               viewport={{ once: true }}
-              transition={{ delay: i * 0.1 }}
+              transition={{ delay: (i % GALLERY_PAGE_SIZE) * 0.1 }}
               className="aspect-square glass-card rounded-xl overflow-hidden group cursor-pointer relative"
             >
               {item.imageUrl ? (
-                <img src={item.imageUrl} alt={item.title} className="w-full h-full object-cover" />
+                <img
+                  src={item.variants?.src ?? item.imageUrl}
+                  srcSet={item.variants?.srcset}
+                  sizes={item.variants ? GALLERY_IMAGE_SIZES : undefined}
+                  alt={item.title}
+                  loading="lazy"
+                  decoding="async"
+                  className="w-full h-full object-cover bg-cover bg-center"
+                  style={item.variants ? { backgroundImage: `url(${item.variants.placeholderUrl})` } : undefined}
+                />
               ) : (
                 <div className="absolute inset-0 flex flex-col items-center justify-center gap-3 bg-secondary/50">
                   <ImageIcon className="w-10 h-10 text-muted-foreground/50" />
@@ -170,6 +230,7 @@ const Gallery = () => {
             </motion.div>
           ))}
         </div>
+        {nextCursor && <div ref={sentinelRef} aria-hidden="true" className="h-px" />}
         {images.length === 0 && (
           <p className="text-center text-muted-foreground text-sm mt-8">
             Próximamente, fotos reales de nuestros trabajos
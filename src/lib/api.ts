@@ -8,9 +8,16 @@ const DEFAULT_API_BASE_URL =
 
 const API_BASE_URL = import.meta.env.VITE_API_BASE_URL || DEFAULT_API_BASE_URL;
 
+// Locally stored gallery images are saved as API-relative paths so rows do not depend on the backend host.
+export const resolveApiUrl = (url: string): string => (url.startsWith("/") ? `${API_BASE_URL}${url}` : url);
+
+export const GALLERY_STORAGE: "cloudinary" | "local" =
+  import.meta.env.VITE_GALLERY_STORAGE === "local" ? "local" : "cloudinary";
+
 type RequestOptions = {
   method?: string;
   body?: unknown;
+  formData?: FormData;
   auth?: boolean;
   signal?: AbortSignal;
 };
@@ -42,7 +49,7 @@ async function apiRequest<T>(path: string, options: RequestOptions = {}): Promis
   const response = await fetch(`${API_BASE_URL}${path}`, {
     method: options.method || "GET",
     headers,
-    body: hasJsonBody ? JSON.stringify(options.body) : undefined,
+    body: hasJsonBody ? JSON.stringify(options.body) : options.formData,
     signal: options.signal,
   });
 
@@ -72,6 +79,13 @@ export type ServiceItem = {
   active: boolean;
 };
 
+export type GalleryImageVariants = {
+  src: string;
+  srcset: string;
+  placeholderUrl: string;
+  widths: { width: number; url: string }[];
+};
+
 export type GalleryImageItem = {
   id: string;
   title: string;
@@ -79,6 +93,12 @@ export type GalleryImageItem = {
   imageUrl: string;
   sortOrder: number;
   active: boolean;
+  variants?: GalleryImageVariants | null;
+};
+
+export type GalleryImagePage = {
+  items: GalleryImageItem[];
+  nextCursor: string | null;
 };
 
 export type AdminGalleryUploadSignature = {
@@ -391,6 +411,18 @@ export async function listPublicGalleryImages(signal?: AbortSignal): Promise<Gal
   return apiRequest<GalleryImageItem[]>("/api/public/gallery", { signal });
 }
 
+export async function listPublicGalleryPage(
+  options: { category?: string; cursor?: string | null; limit?: number } = {},
+  signal?: AbortSignal
+): Promise<GalleryImagePage> {
+  const query = new URLSearchParams();
+  if (options.category) query.set("category", options.category);
+  if (options.cursor) query.set("cursor", options.cursor);
+  if (options.limit) query.set("limit", String(options.limit));
+  const suffix = query.toString();
+  return apiRequest<GalleryImagePage>(`/api/public/gallery/page${suffix ? `?${suffix}` : ""}`, { signal });
+}
+
 export async function listAdminGalleryImages(limit = 500, page = 0): Promise<GalleryImageItem[]> {
   const query = new URLSearchParams({ limit: String(limit), page: String(page) }).toString();
   return apiRequest<GalleryImageItem[]>(`/api/admin/gallery?${query}`, { auth: true });
@@ -400,6 +432,16 @@ export async function getAdminGalleryUploadSignature(): Promise<AdminGalleryUplo
   return apiRequest<AdminGalleryUploadSignature>("/api/admin/gallery/upload-signature", { auth: true });
 }
 
+export async function uploadAdminGalleryFile(file: File): Promise<{ imageUrl: string }> {
+  const formData = new FormData();
+  formData.append("file", file);
+  return apiRequest<{ imageUrl: string }>("/api/admin/gallery/files", {
+    method: "POST",
+    formData,
+    auth: true,
+  });
+}
+
 export async function createAdminGalleryImage(payload: {
   title: string;
   category?: string;